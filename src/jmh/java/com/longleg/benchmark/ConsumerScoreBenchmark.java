@@ -0,0 +1,92 @@
+package com.longleg.benchmark;
+
+import com.longleg.utils.ScoreAccumulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소비자 리워드 점수 집계 벤치마크: 사용자별 Map 항목 vs 오픈 어드레싱 long -> int 누적기
+ *
+ * 상위 작품 10개의 조건 충족 사용자 목록을 집계한 뒤 전체 (userId, score) 를 한 번 순회하는 비용을 잰다.
+ * 리스트 선형 탐색으로 누적하던 최초 방식은 O(n^2) 이라 100만 명 규모에서는 끝나지 않으므로 제외했다.
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러로 연산당 할당량 gc.alloc.rate.norm 도 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsumerScoreBenchmark {
+
+    private static final int TOP_WORKS = 10;
+
+    @Param({"1000", "100000", "1000000"})
+    private int users;
+
+    /** 작품별 조건 충족 사용자 ID (사용자 한 명이 여러 작품에 등장) */
+    private long[][] qualifiedByWork;
+    private int pairs;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        qualifiedByWork = new long[TOP_WORKS][];
+        pairs = 0;
+        for (int work = 0; work < TOP_WORKS; work++) {
+            // 작품마다 전체 사용자의 약 30%가 조건 충족
+            long[] userIds = new long[users];
+            int count = 0;
+            for (long userId = 1; userId <= users; userId++) {
+                if (random.nextInt(10) < 3) {
+                    userIds[count++] = userId;
+                }
+            }
+            qualifiedByWork[work] = Arrays.copyOf(userIds, count);
+            pairs += count;
+        }
+    }
+
+    /**
+     * 기존 방식: 사용자마다 Map 항목을 만들어 LinkedHashMap 에 누적
+     */
+    @Benchmark
+    public long boxedMapEntries() {
+        Map<Long, Map<String, Object>> userScoreMap = new LinkedHashMap<>();
+        for (long[] userIds : qualifiedByWork) {
+            for (long userId : userIds) {
+                userScoreMap.computeIfAbsent(userId, id -> {
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("userId", id);
+                    entry.put("currentScore", 0);
+                    return entry;
+                }).merge("currentScore", 1, (a, b) -> (int) a + (int) b);
+            }
+        }
+        long checksum = 0;
+        for (Map<String, Object> entry : userScoreMap.values()) {
+            checksum += (long) entry.get("userId") * (int) entry.get("currentScore");
+        }
+        return checksum;
+    }
+
+    /**
+     * 개선 방식: 항목 객체 없이 키 / 점수 배열에 직접 누적
+     */
+    @Benchmark
+    public long primitiveAccumulator() {
+        ScoreAccumulator userScores = new ScoreAccumulator(pairs);
+        for (long[] userIds : qualifiedByWork) {
+            for (long userId : userIds) {
+                userScores.increment(userId);
+            }
+        }
+        long[] checksum = {0};
+        userScores.forEach((userId, score) -> checksum[0] += userId * score);
+        return checksum[0];
+    }
+}
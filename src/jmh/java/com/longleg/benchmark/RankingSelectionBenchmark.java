@@ -0,0 +1,94 @@
+package com.longleg.benchmark;
+
+import com.longleg.dto.WorkActivityDTO;
+import com.longleg.entity.WorkActivityProjection;
+import com.longleg.utils.TopKSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일자별 랭킹 선택 벤치마크: 전체 정렬 후 limit vs 크기 K 힙
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러로 연산당 할당량 gc.alloc.rate.norm 도 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingSelectionBenchmark {
+
+    private static final Comparator<WorkActivityProjection> RANKING_ORDER =
+            Comparator.comparingInt((WorkActivityProjection row) -> row.getLikeCount() * 2 + row.getViewCount())
+                    .reversed()
+                    .thenComparing(WorkActivityProjection::getWorkId);
+
+    @Param({"1000", "100000", "500000"})
+    private int works;
+
+    @Param({"10"})
+    private int topK;
+
+    private List<WorkActivityProjection> rows;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        rows = new ArrayList<>(works);
+        for (long workId = 1; workId <= works; workId++) {
+            rows.add(new Row(workId, random.nextInt(50), random.nextInt(500)));
+        }
+    }
+
+    /**
+     * 기존 방식: 모든 행을 DTO 로 만든 뒤 전체 정렬하고 상위 K개 선택
+     */
+    @Benchmark
+    public List<WorkActivityDTO> sortThenLimit() {
+        return rows.stream()
+                .map(row -> new WorkActivityDTO(row.getWorkId(), row.getLikeCount(), row.getViewCount(), row.getUserId()))
+                .sorted(Comparator.comparingInt(WorkActivityDTO::getScore).reversed())
+                .limit(topK)
+                .toList();
+    }
+
+    /**
+     * 개선 방식: 크기 K 힙으로 상위만 고른 뒤 선택된 행만 DTO 로 변환
+     */
+    @Benchmark
+    public List<WorkActivityDTO> topKHeap() {
+        TopKSelector<WorkActivityProjection> selector = new TopKSelector<>(topK, RANKING_ORDER);
+        for (WorkActivityProjection row : rows) {
+            selector.offer(row);
+        }
+        return selector.toSortedList().stream()
+                .map(row -> new WorkActivityDTO(row.getWorkId(), row.getLikeCount(), row.getViewCount(), row.getUserId()))
+                .toList();
+    }
+
+    private record Row(Long workId, int likeCount, int viewCount) implements WorkActivityProjection {
+
+        @Override
+        public Long getWorkId() {
+            return workId;
+        }
+
+        @Override
+        public int getLikeCount() {
+            return likeCount;
+        }
+
+        @Override
+        public int getViewCount() {
+            return viewCount;
+        }
+
+        @Override
+        public Long getUserId() {
+            return null;
+        }
+    }
+}
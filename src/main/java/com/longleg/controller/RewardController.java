@@ -1,5 +1,6 @@
 package com.longleg.controller;
 
+import com.longleg.entity.RewardRequest;
 import com.longleg.service.RewardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +13,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
@@ -29,7 +32,7 @@ public class RewardController {
         특정 날짜 기준으로 상위 10개의 작품 랭킹을 반환합니다. 
         
         ### 🔹 추가 설명
-        - 현재는 비즈니스 로직으로 처리하며, 랭킹 계산의 성능 문제가 발생하면 `work_ranking` 테이블을 추가하는 방향으로 확장할 예정입니다.
+        - 랭킹은 활동이 기록될 때 증분 반영되는 일자별 작품 점수 테이블(`work_daily_score`)에서 점수 순으로 조회합니다.
         - 작가에게는 리워드가 **한 번만 지급**되어야 합니다.
         - A작가의 작품이 **1등(100점) / 10등(10점)** 이면, **총 110점의 리워드**를 지급합니다.
         """
@@ -43,7 +46,7 @@ public class RewardController {
     @GetMapping(value = "/sorted-works", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<String, Object>> getSortedWorks(@RequestParam("date") String date) {
         /*
-        * 현재는 비즈니스 로직으로 처리하면서, 랭킹 계산에 대한 성능 문제가 발생하면 work_ranking 테이블을 추가하는 방향으로 확장
+        * 랭킹은 work_daily_score 테이블(일자별 작품 점수)에서 읽고, 점수가 없는 날짜만 원본 활동 기록을 집계
         * 작가에게는 리워드가 한번만 지급되어야 한다
         * A작가 작품이 1등 / 10등 이면 1등의 리워드 100, 10등의 리워드 10  이렇게 해서 합하여 110을 지급하기로함.
         * */
@@ -58,21 +61,86 @@ public class RewardController {
     }
 
 
-    @Operation(summary = "리워드 지급 요청", description = "특정 날짜의 리워드 지급을 요청합니다. (하루 한 번 가능)")
+    @Operation(summary = "리워드 지급 요청", description = "특정 날짜의 리워드 지급을 접수합니다. (하루 한 번 가능) 지급은 별도 작업으로 진행되며 진행 상황은 /rewards/requests/{id} 로 조회합니다. 실패한 날짜를 다시 요청하면 마지막 체크포인트부터 재개합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "리워드 지급 요청 성공",
+            @ApiResponse(responseCode = "202", description = "리워드 지급 요청 접수",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 (날짜 형식 오류 등)"),
-            @ApiResponse(responseCode = "409", description = "해당 날짜에 이미 요청된 리워드 존재"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (날짜 형식 오류, 이미 요청된 날짜, 지급 작업 대기열 초과 등)"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @PostMapping(value = "/execute", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<String, Object>> getRewardExecute(@RequestParam("date") String date) {
 
         LocalDate rewardDate = LocalDate.parse(date);
-        Map<String, Object> response = rewardService.rewardExecute(rewardDate);
+        RewardRequest request = rewardService.submitRewardExecute(rewardDate);
 
-        // ✅ JSON 응답 강제 설정
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("message", "Reward request accepted.");
+        response.put("requestId", request.getId());
+        response.put("requestDate", rewardDate.toString());
+        response.put("status", request.getStatus());
+
+        // ✅ 진행 상황 조회 경로를 Location 헤더로 안내
+        return ResponseEntity.accepted()
+                .location(URI.create("/rewards/requests/" + request.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    @Operation(summary = "리워드 일괄 지급 (backfill)", description = """
+        기간(시작일 ~ 종료일, 기본 최대 31일) 중 지급이 끝나지 않은 날짜를 오래된 날짜부터 접수하고 날짜별 요청 ID와 상태를 반환합니다.
+
+        ### 🔹 추가 설명
+        - 지급은 별도 작업으로 진행되며, 날짜별 진행 상황은 `/rewards/requests/{id}` 로 조회합니다.
+        - 날짜마다 `/rewards/execute` 와 같은 규칙으로 지급하며, 동시에 지급하는 날짜 수는 설정(`longleg.reward.backfill.parallelism`)으로 제한합니다.
+        - 이미 지급이 끝난 날짜(`ALREADY_COMPLETED`)와 진행 중인 날짜(`IN_PROGRESS`)는 건너뜁니다.
+        - 실패했던 날짜는 마지막 체크포인트부터 재개합니다.
+        """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "일괄 지급 접수 (날짜별 요청 ID / 상태 포함)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (날짜 형식 오류, 시작일 > 종료일, 당일 / 미래 날짜, 최대 일수 초과)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping(value = "/backfill", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> backfillRewards(@RequestParam("start") String start,
+                                                               @RequestParam("end") String end) {
+        Map<String, Object> response = rewardService.backfillRewards(LocalDate.parse(start), LocalDate.parse(end));
+        return ResponseEntity.accepted()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    @Operation(summary = "리워드 지급 진행 상황 조회", description = "리워드 지급 요청의 상태, 진행 단계, 처리 건수, 초당 처리 건수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 리워드 지급 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping(value = "/requests/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getRewardRequestProgress(@PathVariable("id") Long id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rewardService.getRewardRequestProgress(id));
+    }
+
+    @Operation(summary = "일자별 작품 점수 재생성", description = "특정 날짜의 일자별 작품 점수(work_daily_score)를 원본 활동 기록으로 다시 계산합니다. (당일 / 미래 날짜 불가)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재생성 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (날짜 형식 오류, 당일 / 미래 날짜)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping(value = "/scores/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> rebuildDailyScores(@RequestParam("date") String date) {
+
+        LocalDate scoreDate = LocalDate.parse(date);
+        int rebuiltWorks = rewardService.rebuildDailyScores(scoreDate);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("scoreDate", scoreDate.toString());
+        response.put("rebuiltWorks", rebuiltWorks);
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(response);
@@ -1,6 +1,7 @@
 package com.longleg.controller;
 
 import com.longleg.entity.RewardHistory;
+import com.longleg.service.UserRewardCache;
 import com.longleg.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -39,6 +41,7 @@ public class UserController {
             - 총 지급 내역 개수
 
             이 API는 사용자 ID를 입력받아 해당 사용자의 리워드 정보를 반환합니다.
+            응답에는 ETag 가 포함되며, `If-None-Match` 로 보낸 ETag 가 같으면(지급으로 내역이 바뀌지 않았으면) 304 를 반환합니다.
         """
     )
     @ApiResponses(value = {
@@ -48,6 +51,10 @@ public class UserController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = RewardHistory.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "리워드 내역이 바뀌지 않음 (If-None-Match 와 ETag 일치)"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "잘못된 요청 (예: ID 값이 유효하지 않음)"
@@ -58,8 +65,49 @@ public class UserController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getUser(@PathVariable Long id) {
-        Map<String, Object> stats = userService.getUserReward(id);
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<Map<String, Object>> getUser(@PathVariable Long id, WebRequest webRequest) {
+        UserRewardCache.Summary summary = userService.getUserRewardSummary(id);
+
+        // ✅ If-None-Match 가 현재 ETag 와 같으면 본문 없이 304
+        if (webRequest.checkNotModified(summary.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(summary.etag())
+                .body(summary.body());
+    }
+
+    /**
+     * 특정 사용자의 리워드 내역을 커서 기반으로 나눠 조회하는 API
+     *
+     * @param id    조회할 사용자 ID
+     * @param after 이전 응답의 nextCursor ("지급날짜,내역ID")
+     * @param limit 페이지 크기
+     * @return 한 페이지의 리워드 내역, 총 개수, 다음 페이지 커서
+     */
+    @Operation(
+            summary = "사용자 리워드 내역 페이지 조회",
+            description = """
+            특정 사용자의 리워드 내역을 지급 날짜 최신순으로 limit 건씩 조회하는 API입니다.
+            - 다음 페이지가 있으면 응답의 `nextCursor` 를 `after` 로 넘겨 이어서 조회합니다.
+            - `totalCount` 는 지급 완료된 내역 수입니다.
+        """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "성공적으로 리워드 내역 페이지를 반환",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (예: 존재하지 않는 사용자, 커서 형식 오류, limit 범위 초과)"
+            )
+    })
+    @GetMapping("/{id}/rewards")
+    public ResponseEntity<Map<String, Object>> getUserRewards(@PathVariable Long id,
+                                                              @RequestParam(value = "after", required = false) String after,
+                                                              @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(userService.getUserRewardPage(id, after, limit));
     }
 }
@@ -1,5 +1,7 @@
 package com.longleg.controller;
 
+import com.longleg.dto.ActivityEventRequest;
+import com.longleg.dto.ActivityEventResult;
 import com.longleg.service.WorkService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/works")
@@ -88,4 +92,25 @@ public class WorkController {
     public void unlikeWork(@PathVariable Long id, @RequestParam Long userId) {
         workService.recordUnlike(id, userId);
     }
+
+    @Operation(
+            summary = "활동 이벤트 일괄 기록",
+            description = """
+        클라이언트에서 모아둔 조회 / 좋아요 / 좋아요 취소 이벤트를 한 번에 기록하는 API입니다.  
+        - 단건 API와 같은 규칙(1시간 중복 조회, 중복 좋아요 방지)이 적용됩니다.  
+        - 이벤트는 `clientTimestamp` 순서로 적용되며, 기록 시각은 서버 시각입니다.  
+        - 결과는 요청 순서대로 이벤트별 상태(`RECORDED`, `DUPLICATE`, `IGNORED`, `REJECTED`)를 반환합니다.  
+        - 한 번에 최대 1000건까지 전송할 수 있습니다.  
+        """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 기록 완료 (이벤트별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "이벤트 목록이 비었거나 최대 건수 초과",
+                    content = @Content(schema = @Schema(implementation = String.class),
+                            examples = @ExampleObject(value = "{\"errorCode\": \"Invalid request\", \"errorMessage\": \"이벤트 목록이 비어 있습니다.\"}")))
+    })
+    @PostMapping("/activities:batch")
+    public ResponseEntity<List<ActivityEventResult>> recordActivities(@RequestBody List<ActivityEventRequest> events) {
+        return ResponseEntity.ok(workService.recordActivities(events));
+    }
 }
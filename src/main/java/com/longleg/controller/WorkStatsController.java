@@ -1,18 +1,30 @@
 package com.longleg.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.longleg.dto.WorkStatsBatchItem;
+import com.longleg.dto.WorkStatsBatchRequest;
+import com.longleg.dto.WorkStatsSeriesDTO;
 import com.longleg.service.WorkStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/works")
 @RequiredArgsConstructor
@@ -20,6 +32,7 @@ import java.util.Map;
 public class WorkStatsController {
 
     private final WorkStatsService workStatsService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{id}/stats")
     @Operation(
@@ -56,5 +69,79 @@ public class WorkStatsController {
         Map<String, Integer> stats = workStatsService.getWorkStats(id, period, startDate, endDate);
         return ResponseEntity.ok(stats);
     }
+
+    @GetMapping("/{id}/stats/series")
+    @Operation(
+            summary = "작품 통계 시계열 조회",
+            description = """
+        지정한 기간의 조회수, 좋아요, 좋아요 취소 수를 구간(버킷)별로 한 번에 조회합니다.
+        
+        ### 🔹 응답 형식
+        - `views`, `likes`, `unlikes` 는 같은 길이의 배열이며, i 번째 값은 `start` + i 구간의 합계입니다.
+        - 활동이 없는 구간도 0 으로 채워집니다.
+        
+        ### 🔹 지원하는 `granularity` 값
+        - `hour` → 시간별
+        - `day` → 일별
+        - `week` → 주별 (월요일 시작)
+        """
+    )
+    @ApiResponse(responseCode = "200", description = "성공적으로 작품 통계 시계열을 반환합니다.")
+    @ApiResponse(responseCode = "400", description = "잘못된 입력 (시작일이 종료일보다 클 경우, 지원하지 않는 granularity, 구간 수 초과)")
+    @ApiResponse(responseCode = "404", description = "작품을 찾을 수 없음")
+    public ResponseEntity<WorkStatsSeriesDTO> getWorkStatsSeries(
+            @PathVariable @Parameter(description = "조회할 작품 ID", example = "1") Long id,
+            @RequestParam(required = false, defaultValue = "day")
+            @Parameter(description = "구간 단위 (hour, day, week 중 선택)", example = "day") String granularity,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "조회 시작 날짜 (yyyy-MM-dd 형식, 기본값: 종료일 6일 전)", example = "2025-01-01") LocalDate start,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "조회 종료 날짜 (yyyy-MM-dd 형식, 종료일 포함, 기본값: 오늘)", example = "2025-01-07") LocalDate end) {
+
+        return ResponseEntity.ok(workStatsService.getWorkStatsSeries(id, granularity, start, end));
+    }
+
+    @PostMapping("/stats:batch")
+    @Operation(
+            summary = "여러 작품 통계 일괄 조회",
+            description = """
+        여러 작품의 조회수, 좋아요 수를 한 번에 조회합니다.
+        
+        - `startDate`와 `endDate`를 모두 지정하면 해당 기간(종료일 포함), 아니면 `period` 기준으로 조회합니다.
+        - 결과는 요청한 작품 순서대로 배열로 스트리밍되며, 없는 작품은 `error` 로 표시됩니다.
+        - 조회 도중 실패하면 `workId` 없이 `error` 만 있는 항목이 배열의 마지막에 추가됩니다.
+        - 한 번에 최대 10000개 작품까지 조회할 수 있습니다.
+        """
+    )
+    @ApiResponse(responseCode = "200", description = "작품별 통계 배열을 반환합니다.")
+    @ApiResponse(responseCode = "400", description = "작품 ID 목록이 비었거나 최대 개수 초과, 시작일이 종료일보다 클 경우")
+    public ResponseEntity<StreamingResponseBody> getWorkStatsBatch(@RequestBody WorkStatsBatchRequest request) {
+        LocalDateTime[] range = workStatsService.resolveBatchRange(request);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.writeStartArray();
+                try {
+                    workStatsService.streamWorkStats(request.getWorkIds(), range, item -> {
+                        try {
+                            generator.writeObject(item);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause(); // 응답을 더 쓸 수 없음 (클라이언트 연결 종료 등)
+                } catch (RuntimeException e) {
+                    // 200 응답이 이미 시작되었으므로 잘린 배열 대신 마지막 항목으로 실패를 알림
+                    log.error("작품 통계 일괄 조회 실패", e);
+                    generator.writeObject(WorkStatsBatchItem.failed("Stats query failed"));
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
 
@@ -0,0 +1,14 @@
+package com.longleg.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 / 일 단위 버킷 하나의 작품 활동 합계
+ *
+ * @param bucketStart 버킷 시작 시각
+ * @param likes       좋아요 수
+ * @param unlikes     좋아요 취소 수
+ * @param views       조회수
+ */
+public record ActivityBucket(LocalDateTime bucketStart, long likes, long unlikes, long views) {
+}
@@ -0,0 +1,17 @@
+package com.longleg.dto;
+
+/**
+ * 기간별 작품 활동 합계
+ *
+ * @param likes   좋아요 수
+ * @param unlikes 좋아요 취소 수
+ * @param views   조회수
+ */
+public record ActivityCounts(long likes, long unlikes, long views) {
+
+    public static final ActivityCounts ZERO = new ActivityCounts(0, 0, 0);
+
+    public ActivityCounts plus(ActivityCounts other) {
+        return new ActivityCounts(likes + other.likes, unlikes + other.unlikes, views + other.views);
+    }
+}
@@ -0,0 +1,16 @@
+package com.longleg.dto;
+
+import com.longleg.entity.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * user_activity 테이블에 JDBC로 직접 기록할 활동 이벤트
+ *
+ * @param userId       활동한 사용자 ID
+ * @param workId       대상 작품 ID
+ * @param activityType 활동 유형 (VIEW, LIKE, UNLIKE)
+ * @param createdAt    이벤트가 접수된 시각
+ */
+public record ActivityEvent(long userId, long workId, ActivityType activityType, LocalDateTime createdAt) {
+}
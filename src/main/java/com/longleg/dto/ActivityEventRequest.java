@@ -0,0 +1,24 @@
+package com.longleg.dto;
+
+import com.longleg.entity.ActivityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "클라이언트에서 모아서 전송하는 활동 이벤트")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEventRequest {
+    private Long workId;
+    private Long userId;
+    private ActivityType type;
+
+    @Schema(description = "클라이언트에서 이벤트가 발생한 시각 (같은 배치 안의 적용 순서에만 사용)")
+    private LocalDateTime clientTimestamp;
+}
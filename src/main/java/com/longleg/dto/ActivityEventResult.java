@@ -0,0 +1,42 @@
+package com.longleg.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배치로 전송된 활동 이벤트 한 건의 처리 결과
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActivityEventResult {
+
+    public static final String RECORDED = "RECORDED";   // 기록됨
+    public static final String DUPLICATE = "DUPLICATE"; // 1시간 이내 중복 조회로 기록하지 않음
+    public static final String IGNORED = "IGNORED";     // 일반 사용자가 아니어서 기록하지 않음
+    public static final String REJECTED = "REJECTED";   // 규칙 위반 또는 대상 없음
+
+    private final int index;
+    private final String status;
+    private final Integer count;   // 처리 후 조회수 또는 좋아요 수
+    private final String error;
+    private final String details;
+
+    public static ActivityEventResult recorded(int index, int count) {
+        return new ActivityEventResult(index, RECORDED, count, null, null);
+    }
+
+    public static ActivityEventResult duplicate(int index, int count) {
+        return new ActivityEventResult(index, DUPLICATE, count, null, null);
+    }
+
+    public static ActivityEventResult ignored(int index) {
+        return new ActivityEventResult(index, IGNORED, null, null, null);
+    }
+
+    public static ActivityEventResult rejected(int index, String error, String details) {
+        return new ActivityEventResult(index, REJECTED, null, error, details);
+    }
+}
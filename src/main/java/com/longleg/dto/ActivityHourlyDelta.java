@@ -0,0 +1,15 @@
+package com.longleg.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 작품 활동 집계 테이블에 반영할 증가분
+ *
+ * @param bucketHour 활동 시각 (정시 단위로 절사)
+ * @param workId     작품 ID
+ * @param likes      좋아요 증가분
+ * @param unlikes    좋아요 취소 증가분
+ * @param views      조회수 증가분
+ */
+public record ActivityHourlyDelta(LocalDateTime bucketHour, long workId, long likes, long unlikes, long views) {
+}
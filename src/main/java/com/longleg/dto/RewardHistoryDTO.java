@@ -2,6 +2,7 @@ package com.longleg.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.longleg.entity.RewardHistory;
+import com.longleg.utils.RewardReasonCodec;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -29,7 +30,18 @@ public class RewardHistoryDTO {
         this.id = rewardHistory.getId();
         this.points = rewardHistory.getPoints();
         this.totalPaid = rewardHistory.isTotalPaid();
-//        this.rewardReason = rewardHistory.getRewardReason();
+        this.rewardReason = RewardReasonCodec.decode(rewardHistory.getRewardReason()); // ✅ 지급 시점에 저장된 사유
         this.requestDate = requestDate; // ✅ 지급 요청 날짜 추가
     }
+
+    /**
+     * JPQL 생성자 표현식용 (엔티티를 읽지 않고 필요한 컬럼만 조회)
+     */
+    public RewardHistoryDTO(Long id, int points, LocalDate requestDate, boolean totalPaid, String rewardReason) {
+        this.id = id;
+        this.points = points;
+        this.requestDate = requestDate;
+        this.totalPaid = totalPaid;
+        this.rewardReason = RewardReasonCodec.decode(rewardReason);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.longleg.dto;
+
+/**
+ * 소비자 리워드 내역 생성 파티션 (사용자 ID 구간 (lowerBound, upperBound])
+ *
+ * @param partitionNo      파티션 번호
+ * @param lowerBound       구간 시작 사용자 ID (미포함)
+ * @param upperBound       구간 끝 사용자 ID (포함)
+ * @param checkpointCursor 마지막으로 커밋된 사용자 ID
+ * @param rowsProcessed    커밋된 내역 건수
+ * @param completed        파티션 완료 여부
+ */
+public record RewardPartition(int partitionNo, long lowerBound, long upperBound,
+                              long checkpointCursor, long rowsProcessed, boolean completed) {
+
+    public static RewardPartition of(int partitionNo, long lowerBound, long upperBound) {
+        return new RewardPartition(partitionNo, lowerBound, upperBound, lowerBound, 0, false);
+    }
+}
@@ -0,0 +1,13 @@
+package com.longleg.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 작품 활동 집계 단계별 유효 구간
+ *
+ * @param hourlyFrom   이 시각 이후의 시간 버킷이 모두 존재
+ * @param monthlyUntil 이 날짜(월 초) 이전의 월 버킷이 모두 존재
+ */
+public record RollupWatermarks(LocalDateTime hourlyFrom, LocalDate monthlyUntil) {
+}
@@ -0,0 +1,11 @@
+package com.longleg.dto;
+
+/**
+ * 작품 집계 컬럼에 반영할 증가분
+ *
+ * @param workId 작품 ID
+ * @param views  조회수 증가분
+ * @param likes  좋아요 수 증가분 (좋아요 취소는 음수)
+ */
+public record WorkCountDelta(long workId, long views, long likes) {
+}
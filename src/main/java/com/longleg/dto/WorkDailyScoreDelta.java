@@ -0,0 +1,15 @@
+package com.longleg.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 작품 점수 테이블에 반영할 증가분
+ *
+ * @param scoreDate 활동 일자
+ * @param workId    작품 ID
+ * @param likes     좋아요 증가분
+ * @param unlikes   좋아요 취소 증가분
+ * @param views     조회수 증가분
+ */
+public record WorkDailyScoreDelta(LocalDate scoreDate, long workId, long likes, long unlikes, long views) {
+}
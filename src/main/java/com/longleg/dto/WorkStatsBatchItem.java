@@ -0,0 +1,42 @@
+package com.longleg.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 통계 조회 결과 한 건 (단건 통계 API와 같은 "좋아요" / "조회수" 키 사용)
+ * 조회 도중 실패하면 workId 없이 error 만 있는 항목이 배열의 마지막 항목이 된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkStatsBatchItem {
+
+    private final Long workId;
+
+    @JsonProperty("좋아요")
+    private final Integer likes;     // 좋아요 - 좋아요 취소
+
+    @JsonProperty("조회수")
+    private final Integer views;
+
+    private final String error;
+
+    public static WorkStatsBatchItem found(long workId, ActivityCounts counts) {
+        return new WorkStatsBatchItem(workId, (int) (counts.likes() - counts.unlikes()), (int) counts.views(), null);
+    }
+
+    public static WorkStatsBatchItem notFound(long workId) {
+        return new WorkStatsBatchItem(workId, null, null, "Resource not found");
+    }
+
+    /**
+     * 이후 결과를 더 보낼 수 없을 때 배열 끝에 쓰는 종료 항목
+     */
+    public static WorkStatsBatchItem failed(String error) {
+        return new WorkStatsBatchItem(null, null, null, error);
+    }
+}
@@ -0,0 +1,30 @@
+package com.longleg.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "여러 작품 통계 일괄 조회 요청")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkStatsBatchRequest {
+
+    @Schema(description = "조회할 작품 ID 목록", example = "[1, 2, 3]")
+    private List<Long> workIds;
+
+    @Schema(description = "조회 기간 (daily, weekly, monthly, yearly), startDate / endDate 를 모두 지정하면 무시", example = "weekly")
+    private String period;
+
+    @Schema(description = "조회 시작 날짜", example = "2025-01-01")
+    private LocalDate startDate;
+
+    @Schema(description = "조회 종료 날짜 (포함)", example = "2025-01-30")
+    private LocalDate endDate;
+}
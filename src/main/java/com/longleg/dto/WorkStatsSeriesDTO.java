@@ -0,0 +1,23 @@
+package com.longleg.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작품 통계 시계열 (열 단위 배열)
+ *
+ * i 번째 값은 start + i * granularity 에서 시작하는 버킷의 합계이며, 활동이 없는 버킷도 0 으로 채운다.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkStatsSeriesDTO {
+
+    private final String granularity;   // hour, day, week
+    private final LocalDateTime start;  // 첫 버킷 시작 시각
+    private final LocalDateTime end;    // 마지막 버킷 종료 시각 (미포함)
+    private final long[] views;
+    private final long[] likes;
+    private final long[] unlikes;
+}
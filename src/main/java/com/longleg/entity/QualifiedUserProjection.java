@@ -0,0 +1,6 @@
+package com.longleg.entity;
+
+public interface QualifiedUserProjection {
+    Long getWorkId();
+    Long getUserId();
+}
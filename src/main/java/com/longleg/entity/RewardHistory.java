@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class RewardHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reward_history_seq")
+    @SequenceGenerator(name = "reward_history_seq", sequenceName = "reward_history_seq", allocationSize = SequenceAllocation.SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,6 +47,14 @@ public class RewardHistory {
         this.points = points;
     }
 
+    /**
+     * 지급 사유(RewardReasonCodec 형식)와 함께 저장하는 생성자
+     */
+    public RewardHistory(RewardRequest rewardRequest, User receiver, Work work, int points, String rewardReason) {
+        this(rewardRequest, receiver, work, points);
+        this.rewardReason = rewardReason;
+    }
+
     // ✅ work 없이 저장할 수 있는 생성자 추가
     public RewardHistory(RewardRequest rewardRequest, User receiver, int points) {
         this.rewardRequest = rewardRequest;
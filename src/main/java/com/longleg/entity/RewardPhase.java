@@ -0,0 +1,11 @@
+package com.longleg.entity;
+
+/**
+ * 리워드 지급 단계 (정의 순서대로 진행)
+ */
+public enum RewardPhase {
+    RANKING,              // 지급 기준 랭킹 저장
+    AUTHOR_ALLOCATION,    // 작가 리워드 내역 생성
+    CONSUMER_ALLOCATION,  // 소비자 리워드 내역 생성 (사용자 ID 구간 단위)
+    BALANCE_APPLICATION   // 사용자 잔액 반영 및 지급 완료 처리 (수령자 ID 구간 단위)
+}
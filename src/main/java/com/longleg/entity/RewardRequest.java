@@ -10,7 +10,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reward_requests")
+@Table(name = "reward_requests",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_requests_request_date", columnNames = "request_date"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,9 +29,26 @@ public class RewardRequest {
 
     private LocalDateTime createdAt;
 
+    /** 진행 중인 지급 단계 */
+    @Enumerated(EnumType.STRING)
+    private RewardPhase phase;
+
+    /** 진행 중인 단계에서 마지막으로 커밋된 구간의 끝 (사용자 / 수령자 ID) */
+    private Long checkpointCursor;
+
+    private LocalDateTime checkpointAt;
+
+    /** 커밋된 처리 건수 (랭킹, 리워드 내역 생성, 지급 완료 처리 행 수 합계) */
+    private long rowsProcessed;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
     public RewardRequest(LocalDate requestDate) {
         this.requestDate = requestDate;
         this.status = RewardStatus.REQUESTED;
+        this.phase = RewardPhase.RANKING;
         this.createdAt = LocalDateTime.now();
     }
 
@@ -40,16 +58,45 @@ public class RewardRequest {
     /** ✅ 리워드 지급을 시작할 때 호출 */
     public void startProcessing() {
         this.status = RewardStatus.PROGRESS;
+        if (this.startedAt == null) {
+            this.startedAt = LocalDateTime.now();
+        }
+        this.finishedAt = null;
     }
 
     /** ✅ 리워드 지급이 성공적으로 완료되었을 때 호출 */
     public void complete() {
         this.status = RewardStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** ✅ 단계 안의 한 구간이 커밋될 때 호출 */
+    public void checkpoint(long cursor) {
+        this.checkpointCursor = cursor;
+        this.checkpointAt = LocalDateTime.now();
+    }
+
+    /** ✅ 커밋되는 작업의 처리 건수를 누적 */
+    public void addProcessedRows(long rows) {
+        this.rowsProcessed += rows;
+    }
+
+    /** ✅ 단계를 마치고 다음 단계로 넘어갈 때 호출 */
+    public void advanceTo(RewardPhase nextPhase) {
+        this.phase = nextPhase;
+        this.checkpointCursor = null;
+        this.checkpointAt = LocalDateTime.now();
+    }
+
+    /** ✅ 지정한 단계가 이미 끝났는지 확인 */
+    public boolean hasCompleted(RewardPhase target) {
+        return status == RewardStatus.COMPLETED || (phase != null && phase.compareTo(target) > 0);
     }
 
     /** ✅ 리워드 지급이 실패했을 때 호출 */
     public void fail() {
         this.status = RewardStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
     }
 }
 
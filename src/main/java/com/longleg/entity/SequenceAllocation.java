@@ -0,0 +1,15 @@
+package com.longleg.entity;
+
+/**
+ * 시퀀스 기반 ID 할당 단위
+ *
+ * Hibernate pooled 옵티마이저는 시퀀스 값 v 를 받으면 (v - SIZE, v] 구간을 메모리에서 나눠 쓴다.
+ * 시퀀스의 INCREMENT BY 와 반드시 같아야 하므로 값을 바꿀 때는 시퀀스도 함께 변경하는 마이그레이션을 추가한다.
+ */
+public final class SequenceAllocation {
+
+    public static final int SIZE = 50;
+
+    private SequenceAllocation() {
+    }
+}
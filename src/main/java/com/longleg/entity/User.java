@@ -27,6 +27,10 @@ public class User {
 
     private long reward = 0L;
 
+    /** 지급 완료된 리워드 내역 수 (잔액 반영 SQL 에서만 증가하므로 JPA 로는 쓰지 않음) */
+    @Column(name = "reward_count", insertable = false, updatable = false)
+    private long rewardCount = 0L;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -4,10 +4,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Schema(description = "조회 정보를 나타내는 엔티티")
 @Entity
+@Table(name = "user_activity", indexes = {
+        @Index(name = "idx_user_activity_date_work_type", columnList = "activity_date, work_id, activity_type"),
+        @Index(name = "idx_user_activity_user_work_created", columnList = "user_id, work_id, created_at")
+})
 @Getter
 //@Setter
 //@ToString
@@ -16,7 +21,8 @@ import java.time.LocalDateTime;
 public class UserActivity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_activity_seq")
+    @SequenceGenerator(name = "user_activity_seq", sequenceName = "user_activity_seq", allocationSize = SequenceAllocation.SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,9 +42,13 @@ public class UserActivity {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate; // ✅ 일자별 집계용 (created_at 의 날짜, 인덱스 사용)
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.activityDate = this.createdAt.toLocalDate();
         if (this.activityType == null) {
             this.activityType = ActivityType.VIEW;  // ✅ 기본값 설정
         }
@@ -50,6 +60,7 @@ public class UserActivity {
         this.work = work;
         this.activityType = (activityType != null) ? activityType : ActivityType.VIEW;  // ✅ ENUM 값으로 설정
         this.createdAt = LocalDateTime.now();
+        this.activityDate = this.createdAt.toLocalDate();
     }
 }
 
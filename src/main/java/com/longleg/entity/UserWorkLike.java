@@ -0,0 +1,45 @@
+package com.longleg.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 작품 좋아요 현재 상태
+ * user_activity 의 LIKE / UNLIKE 이력을 매번 집계하지 않도록 (user_id, work_id) 당 한 행으로 유지한다.
+ * 복합 PK가 유니크 키 역할을 하므로 동시에 들어온 좋아요가 모두 통과하는 경합을 막는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(UserWorkLike.Key.class)
+@Table(name = "user_work_like")
+public class UserWorkLike {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "work_id", nullable = false)
+    private Long workId;
+
+    @Column(nullable = false)
+    private boolean liked;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long workId;
+    }
+}
@@ -0,0 +1,374 @@
+package com.longleg.repository;
+
+import com.longleg.dto.ActivityBucket;
+import com.longleg.dto.ActivityCounts;
+import com.longleg.dto.ActivityHourlyDelta;
+import com.longleg.dto.RollupWatermarks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작품 활동 단계별 집계(activity_hourly / work_daily_score / activity_monthly) JDBC 리포지토리
+ *
+ * 기간 통계는 범위에 완전히 포함되는 가장 큰 버킷부터 합산하고, 버킷에 맞지 않는 경계 구간만 user_activity 원본에서 센다.
+ * 모든 구간은 [from, to) 반개구간이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityRollupJdbcRepository {
+
+    public static final String TIER_HOURLY = "HOURLY";
+    public static final String TIER_MONTHLY = "MONTHLY";
+
+    private static final String ADD_HOURLY_COUNTS_SQL = """
+            MERGE INTO activity_hourly t
+            USING (SELECT CAST(? AS BIGINT) AS work_id, CAST(? AS TIMESTAMP) AS bucket_hour,
+                          CAST(? AS BIGINT) AS likes, CAST(? AS BIGINT) AS unlikes, CAST(? AS BIGINT) AS views) s
+            ON t.work_id = s.work_id AND t.bucket_hour = s.bucket_hour
+            WHEN MATCHED THEN
+                UPDATE SET like_count = t.like_count + s.likes,
+                           unlike_count = t.unlike_count + s.unlikes,
+                           view_count = t.view_count + s.views
+            WHEN NOT MATCHED THEN
+                INSERT (work_id, bucket_hour, like_count, unlike_count, view_count)
+                VALUES (s.work_id, s.bucket_hour, s.likes, s.unlikes, s.views)
+            """;
+
+    private static final String SUM_MONTHLY_SQL = """
+            SELECT COALESCE(SUM(like_count), 0) AS likes,
+                   COALESCE(SUM(unlike_count), 0) AS unlikes,
+                   COALESCE(SUM(view_count), 0) AS views
+            FROM activity_monthly
+            WHERE work_id = ? AND bucket_month >= ? AND bucket_month < ?
+            """;
+
+    private static final String SUM_DAILY_SQL = """
+            SELECT COALESCE(SUM(like_count), 0) AS likes,
+                   COALESCE(SUM(unlike_count), 0) AS unlikes,
+                   COALESCE(SUM(view_count), 0) AS views
+            FROM work_daily_score
+            WHERE work_id = ? AND score_date >= ? AND score_date < ?
+            """;
+
+    private static final String SUM_HOURLY_SQL = """
+            SELECT COALESCE(SUM(like_count), 0) AS likes,
+                   COALESCE(SUM(unlike_count), 0) AS unlikes,
+                   COALESCE(SUM(view_count), 0) AS views
+            FROM activity_hourly
+            WHERE work_id = ? AND bucket_hour >= ? AND bucket_hour < ?
+            """;
+
+    private static final String SUM_RAW_SQL = """
+            SELECT COALESCE(SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END), 0) AS likes,
+                   COALESCE(SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END), 0) AS unlikes,
+                   COALESCE(SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END), 0) AS views
+            FROM user_activity
+            WHERE work_id = ? AND created_at >= ? AND created_at < ?
+            AND is_active = TRUE
+            """;
+
+    /** 여러 작품 합계 (%s 에 작품 ID 자리표시자 목록) */
+    private static final String SUM_MONTHLY_BY_WORK_SQL = """
+            SELECT work_id, SUM(like_count) AS likes, SUM(unlike_count) AS unlikes, SUM(view_count) AS views
+            FROM activity_monthly
+            WHERE work_id IN (%s) AND bucket_month >= ? AND bucket_month < ?
+            GROUP BY work_id
+            """;
+
+    private static final String SUM_DAILY_BY_WORK_SQL = """
+            SELECT work_id, SUM(like_count) AS likes, SUM(unlike_count) AS unlikes, SUM(view_count) AS views
+            FROM work_daily_score
+            WHERE work_id IN (%s) AND score_date >= ? AND score_date < ?
+            GROUP BY work_id
+            """;
+
+    private static final String SUM_HOURLY_BY_WORK_SQL = """
+            SELECT work_id, SUM(like_count) AS likes, SUM(unlike_count) AS unlikes, SUM(view_count) AS views
+            FROM activity_hourly
+            WHERE work_id IN (%s) AND bucket_hour >= ? AND bucket_hour < ?
+            GROUP BY work_id
+            """;
+
+    private static final String SUM_RAW_BY_WORK_SQL = """
+            SELECT work_id, activity_type, COUNT(*) AS cnt
+            FROM user_activity
+            WHERE work_id IN (%s) AND created_at >= ? AND created_at < ?
+            AND is_active = TRUE
+            GROUP BY work_id, activity_type
+            """;
+
+    private static final String FIND_HOURLY_SERIES_SQL = """
+            SELECT bucket_hour AS bucket_start, like_count AS likes, unlike_count AS unlikes, view_count AS views
+            FROM activity_hourly
+            WHERE work_id = ? AND bucket_hour >= ? AND bucket_hour < ?
+            """;
+
+    private static final String FIND_RAW_HOURLY_SERIES_SQL = """
+            SELECT DATE_TRUNC('HOUR', created_at) AS bucket_start,
+                   SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END) AS likes,
+                   SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END) AS unlikes,
+                   SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END) AS views
+            FROM user_activity
+            WHERE work_id = ? AND created_at >= ? AND created_at < ?
+            AND is_active = TRUE
+            GROUP BY DATE_TRUNC('HOUR', created_at)
+            """;
+
+    private static final String FIND_DAILY_SERIES_SQL = """
+            SELECT score_date, like_count AS likes, unlike_count AS unlikes, view_count AS views
+            FROM work_daily_score
+            WHERE work_id = ? AND score_date >= ? AND score_date < ?
+            """;
+
+    private static final String FIND_WATERMARKS_SQL = "SELECT tier, watermark FROM activity_rollup_watermark";
+
+    private static final String ADVANCE_WATERMARK_SQL = """
+            UPDATE activity_rollup_watermark
+            SET watermark = ?
+            WHERE tier = ? AND watermark < ?
+            """;
+
+    /** 월 워터마크가 합산할 달이면 다음 달로 올림 (행 잠금으로 같은 달은 한 트랜잭션만 합산) */
+    private static final String CLAIM_MONTH_SQL = """
+            UPDATE activity_rollup_watermark
+            SET watermark = ?
+            WHERE tier = ? AND watermark = ?
+            """;
+
+    /** 이미 합산된 달이면 월 워터마크 행을 잠금 (합산과 재합산이 서로 기다리도록) */
+    private static final String LOCK_COMPACTED_MONTH_SQL = """
+            UPDATE activity_rollup_watermark
+            SET watermark = watermark
+            WHERE tier = ? AND watermark > ?
+            """;
+
+    private static final String DELETE_HOURLY_BEFORE_SQL = "DELETE FROM activity_hourly WHERE bucket_hour < ?";
+
+    private static final String DELETE_MONTH_SQL = "DELETE FROM activity_monthly WHERE bucket_month = ?";
+
+    private static final String COMPACT_MONTH_SQL = """
+            INSERT INTO activity_monthly (work_id, bucket_month, like_count, unlike_count, view_count)
+            SELECT work_id, CAST(? AS DATE), SUM(like_count), SUM(unlike_count), SUM(view_count)
+            FROM work_daily_score
+            WHERE score_date >= ? AND score_date < ?
+            GROUP BY work_id
+            """;
+
+    private static final RowMapper<ActivityCounts> COUNTS_MAPPER = (rs, rowNum) ->
+            new ActivityCounts(rs.getLong("likes"), rs.getLong("unlikes"), rs.getLong("views"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시간별 증가분을 MERGE 배치로 반영
+     */
+    public void addHourlyCounts(List<ActivityHourlyDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_HOURLY_COUNTS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.workId());
+            ps.setTimestamp(2, Timestamp.valueOf(delta.bucketHour()));
+            ps.setLong(3, delta.likes());
+            ps.setLong(4, delta.unlikes());
+            ps.setLong(5, delta.views());
+        });
+    }
+
+    /**
+     * 월 버킷 합계 (fromMonth, toMonth 는 월 초)
+     */
+    public ActivityCounts sumMonthly(long workId, LocalDate fromMonth, LocalDate toMonth) {
+        return jdbcTemplate.queryForObject(SUM_MONTHLY_SQL, COUNTS_MAPPER,
+                workId, Date.valueOf(fromMonth), Date.valueOf(toMonth));
+    }
+
+    /**
+     * 일자별 점수 합계
+     */
+    public ActivityCounts sumDaily(long workId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(SUM_DAILY_SQL, COUNTS_MAPPER,
+                workId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 시간 버킷 합계 (from, to 는 정시)
+     */
+    public ActivityCounts sumHourly(long workId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(SUM_HOURLY_SQL, COUNTS_MAPPER,
+                workId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 버킷에 맞지 않는 경계 구간의 user_activity 원본 합계
+     */
+    public ActivityCounts sumRaw(long workId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(SUM_RAW_SQL, COUNTS_MAPPER,
+                workId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 여러 작품의 월 버킷 합계 (활동이 있는 작품만)
+     */
+    public Map<Long, ActivityCounts> sumMonthlyByWork(Collection<Long> workIds, LocalDate fromMonth, LocalDate toMonth) {
+        return sumByWork(SUM_MONTHLY_BY_WORK_SQL, workIds, Date.valueOf(fromMonth), Date.valueOf(toMonth));
+    }
+
+    /**
+     * 여러 작품의 일자별 점수 합계 (활동이 있는 작품만)
+     */
+    public Map<Long, ActivityCounts> sumDailyByWork(Collection<Long> workIds, LocalDate from, LocalDate to) {
+        return sumByWork(SUM_DAILY_BY_WORK_SQL, workIds, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 여러 작품의 시간 버킷 합계 (활동이 있는 작품만)
+     */
+    public Map<Long, ActivityCounts> sumHourlyByWork(Collection<Long> workIds, LocalDateTime from, LocalDateTime to) {
+        return sumByWork(SUM_HOURLY_BY_WORK_SQL, workIds, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 여러 작품의 경계 구간 원본 합계 (work_id, activity_type 별 한 번의 GROUP BY)
+     */
+    public Map<Long, ActivityCounts> sumRawByWork(Collection<Long> workIds, LocalDateTime from, LocalDateTime to) {
+        if (workIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, ActivityCounts> counts = new HashMap<>();
+        jdbcTemplate.query(SUM_RAW_BY_WORK_SQL.formatted(placeholders(workIds.size())), rs -> {
+            long count = rs.getLong("cnt");
+            ActivityCounts delta = switch (rs.getString("activity_type")) {
+                case "LIKE" -> new ActivityCounts(count, 0, 0);
+                case "UNLIKE" -> new ActivityCounts(0, count, 0);
+                case "VIEW" -> new ActivityCounts(0, 0, count);
+                default -> ActivityCounts.ZERO;
+            };
+            counts.merge(rs.getLong("work_id"), delta, ActivityCounts::plus);
+        }, withRange(workIds, Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        return counts;
+    }
+
+    private Map<Long, ActivityCounts> sumByWork(String sql, Collection<Long> workIds, Object from, Object to) {
+        if (workIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, ActivityCounts> counts = new HashMap<>();
+        jdbcTemplate.query(sql.formatted(placeholders(workIds.size())), rs -> {
+            counts.put(rs.getLong("work_id"), COUNTS_MAPPER.mapRow(rs, 0));
+        }, withRange(workIds, from, to));
+        return counts;
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private static Object[] withRange(Collection<Long> workIds, Object from, Object to) {
+        List<Object> args = new ArrayList<>(workIds);
+        args.add(from);
+        args.add(to);
+        return args.toArray();
+    }
+
+    /**
+     * 시간 버킷 목록 (활동이 있는 버킷만)
+     */
+    public List<ActivityBucket> findHourlySeries(long workId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_HOURLY_SERIES_SQL, (rs, rowNum) -> new ActivityBucket(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getLong("likes"), rs.getLong("unlikes"), rs.getLong("views")),
+                workId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 시간 버킷 보관 기간 이전 구간을 user_activity 원본에서 시간 단위로 집계
+     */
+    public List<ActivityBucket> findRawHourlySeries(long workId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_RAW_HOURLY_SERIES_SQL, (rs, rowNum) -> new ActivityBucket(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getLong("likes"), rs.getLong("unlikes"), rs.getLong("views")),
+                workId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 일자별 점수 목록 (활동이 있는 날짜만)
+     */
+    public List<ActivityBucket> findDailySeries(long workId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_DAILY_SERIES_SQL, (rs, rowNum) -> new ActivityBucket(
+                        rs.getDate("score_date").toLocalDate().atStartOfDay(),
+                        rs.getLong("likes"), rs.getLong("unlikes"), rs.getLong("views")),
+                workId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public RollupWatermarks findWatermarks() {
+        Map<String, LocalDateTime> watermarks = new HashMap<>();
+        jdbcTemplate.query(FIND_WATERMARKS_SQL, rs -> {
+            watermarks.put(rs.getString("tier"), rs.getTimestamp("watermark").toLocalDateTime());
+        });
+        // 워터마크가 없으면 해당 단계를 쓰지 않음 (시간 버킷 없음, 월 버킷 없음)
+        LocalDateTime hourlyFrom = watermarks.getOrDefault(TIER_HOURLY, LocalDateTime.of(9999, 12, 31, 0, 0));
+        LocalDateTime monthlyUntil = watermarks.getOrDefault(TIER_MONTHLY, LocalDateTime.of(1970, 1, 1, 0, 0));
+        return new RollupWatermarks(hourlyFrom, monthlyUntil.toLocalDate());
+    }
+
+    /**
+     * 보관 기간이 지난 시간 버킷 정리, 삭제된 행 수 반환
+     * 워터마크를 먼저 올려 조회 측이 삭제 중인 구간을 시간 버킷으로 읽지 않게 한다.
+     */
+    public int pruneHourlyBefore(LocalDateTime before) {
+        Timestamp watermark = Timestamp.valueOf(before);
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, watermark, TIER_HOURLY, watermark);
+        return jdbcTemplate.update(DELETE_HOURLY_BEFORE_SQL, watermark);
+    }
+
+    /**
+     * 마감된 한 달의 일자별 점수를 월 버킷으로 합산하고 월 워터마크를 다음 달로 올림, 생성된 작품 수 반환
+     *
+     * 워터마크 조건부 갱신과 월 버킷 교체를 한 트랜잭션으로 커밋하므로, 조회 측은 커밋 전까지 일자별 점수를 읽는다.
+     * 다른 인스턴스가 같은 달을 먼저 합산했으면 아무것도 하지 않고 -1을 반환한다.
+     */
+    @Transactional
+    public int compactMonth(LocalDate month) {
+        LocalDate nextMonth = month.plusMonths(1);
+        int claimed = jdbcTemplate.update(CLAIM_MONTH_SQL,
+                Timestamp.valueOf(nextMonth.atStartOfDay()), TIER_MONTHLY, Timestamp.valueOf(month.atStartOfDay()));
+        if (claimed == 0) {
+            return -1;
+        }
+        return replaceMonth(month);
+    }
+
+    /**
+     * 이미 월 버킷으로 합산된 달이면 일자별 점수로 다시 합산, 생성된 작품 수 반환 (합산 전인 달이면 -1)
+     * 일자별 점수를 다시 생성한 트랜잭션 안에서 호출해 월 버킷이 바뀐 일자별 점수와 함께 커밋되게 한다.
+     */
+    @Transactional
+    public int recompactMonth(LocalDate month) {
+        int compacted = jdbcTemplate.update(LOCK_COMPACTED_MONTH_SQL, TIER_MONTHLY, Timestamp.valueOf(month.atStartOfDay()));
+        if (compacted == 0) {
+            return -1;
+        }
+        return replaceMonth(month);
+    }
+
+    private int replaceMonth(LocalDate month) {
+        Date monthDate = Date.valueOf(month);
+        jdbcTemplate.update(DELETE_MONTH_SQL, monthDate);
+        return jdbcTemplate.update(COMPACT_MONTH_SQL, monthDate, monthDate, Date.valueOf(month.plusMonths(1)));
+    }
+}
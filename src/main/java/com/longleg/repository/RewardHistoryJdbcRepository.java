@@ -0,0 +1,245 @@
+package com.longleg.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 리워드 내역을 집합 단위 INSERT ... SELECT 로 생성하는 JDBC 리포지토리
+ *
+ * 지급 요청의 랭킹(reward_ranking)과 해당 날짜의 활동 기록을 조인해 한 문장으로 작가 / 소비자 내역을 만든다.
+ * 행마다 NEXT VALUE FOR 로 받은 시퀀스 값을 그대로 ID로 쓰므로 Hibernate pooled 구간과 겹치지 않는다.
+ * 지급 단계도 사용자 잔액 반영(MERGE)과 지급 완료 처리를 각각 한 문장으로 수행한다.
+ * 긴 트랜잭션을 피하도록 소비자 내역 생성과 잔액 반영은 ID 구간 단위로 나눠 커밋할 수 있다.
+ * 지급 사유(reward_reason)는 내역 생성 시 {@link com.longleg.utils.RewardReasonCodec} 형식으로 함께 저장한다.
+ * SQL은 H2 문법(NEXT VALUE FOR, MERGE ... USING, LISTAGG 등)으로 작성되어 H2 에서만 실행된다. (MySQL / PostgreSQL 은 지원 범위 밖)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardHistoryJdbcRepository {
+
+    /** 작가: 순위별 100, 90, ... 점 (작품당 1건, 사유는 해당 작품) */
+    private static final String INSERT_AUTHOR_REWARDS_SQL = """
+            INSERT INTO reward_history (id, reward_request_id, receiver_id, work_id, points, created_at, total_paid, reward_reason)
+            SELECT NEXT VALUE FOR reward_history_seq, rr.reward_request_id, w.author_id, rr.work_id,
+                   100 - 10 * (rr.ranking - 1), CURRENT_TIMESTAMP, FALSE,
+                   CONCAT(rr.ranking, ':', rr.work_id, ':', rr.like_count, ':', rr.view_count)
+            FROM reward_ranking rr
+            JOIN works w ON w.id = rr.work_id
+            WHERE rr.reward_request_id = ?
+            """;
+
+    /**
+     * 소비자별 점수(조건을 충족한 상위 작품 수)와 지급 사유(충족한 작품, 순위순)
+     * 조건: 해당 날짜에 조회했거나, 좋아요 수가 좋아요 취소 수보다 많음 (활성 활동만)
+     * 사용자 ID 구간 (after, upTo] 단위로 나눠 실행할 수 있다.
+     */
+    private static final String SCORED_CONSUMERS_SQL = """
+            SELECT qualified.user_id, COUNT(*) AS points,
+                   LISTAGG(CONCAT(qualified.ranking, ':', qualified.work_id, ':', qualified.like_count, ':', qualified.view_count), ',')
+                       WITHIN GROUP (ORDER BY qualified.ranking) AS reason
+            FROM (
+                SELECT ua.user_id, ua.work_id, rr.ranking, rr.like_count, rr.view_count
+                FROM user_activity ua
+                JOIN reward_ranking rr ON rr.work_id = ua.work_id AND rr.reward_request_id = ?
+                WHERE ua.activity_date = ?
+                AND ua.is_active = TRUE
+                AND ua.user_id > ? AND ua.user_id <= ?
+                GROUP BY ua.user_id, ua.work_id, rr.ranking, rr.like_count, rr.view_count
+                HAVING SUM(CASE WHEN ua.activity_type = 'VIEW' THEN 1 ELSE 0 END) > 0
+                    OR SUM(CASE WHEN ua.activity_type = 'LIKE' THEN 1 ELSE 0 END)
+                       > SUM(CASE WHEN ua.activity_type = 'UNLIKE' THEN 1 ELSE 0 END)
+            ) qualified
+            GROUP BY qualified.user_id
+            """;
+
+    /** 소비자: 상위 작품 중 조건을 충족한 작품 수만큼 점수 (사용자당 1건) */
+    private static final String INSERT_CONSUMER_REWARDS_SQL = """
+            INSERT INTO reward_history (id, reward_request_id, receiver_id, work_id, points, created_at, total_paid, reward_reason)
+            SELECT NEXT VALUE FOR reward_history_seq, CAST(? AS BIGINT), scored.user_id, NULL, scored.points, CURRENT_TIMESTAMP, FALSE,
+                   scored.reason
+            FROM (
+            %s) scored
+            """.formatted(SCORED_CONSUMERS_SQL);
+
+    /** 건별 저장(set-based=false)으로 생성한 소비자 내역에 지급 사유 기록 */
+    private static final String UPDATE_CONSUMER_REASONS_SQL = """
+            MERGE INTO reward_history rh
+            USING (
+            %s) scored
+            ON (rh.reward_request_id = ? AND rh.receiver_id = scored.user_id AND rh.work_id IS NULL)
+            WHEN MATCHED THEN UPDATE SET reward_reason = scored.reason
+            """.formatted(SCORED_CONSUMERS_SQL);
+
+    /** 지급 대상 작품에 활동한 사용자 ID 범위 (파티션 분할용, 없으면 NULL) */
+    private static final String CONSUMER_ID_RANGE_SQL = """
+            SELECT MIN(ua.user_id) AS min_user_id, MAX(ua.user_id) AS max_user_id
+            FROM user_activity ua
+            JOIN reward_ranking rr ON rr.work_id = ua.work_id AND rr.reward_request_id = ?
+            WHERE ua.activity_date = ?
+            AND ua.is_active = TRUE
+            """;
+
+    /** 지급 대상 작품에 활동한 사용자 중 (after, upTo] 구간의 앞에서부터 chunkSize 명의 마지막 사용자 ID (없으면 NULL) */
+    private static final String NEXT_CONSUMER_BOUND_SQL = """
+            SELECT MAX(chunk.user_id)
+            FROM (
+                SELECT DISTINCT ua.user_id
+                FROM user_activity ua
+                JOIN reward_ranking rr ON rr.work_id = ua.work_id AND rr.reward_request_id = ?
+                WHERE ua.activity_date = ?
+                AND ua.is_active = TRUE
+                AND ua.user_id > ? AND ua.user_id <= ?
+                ORDER BY ua.user_id
+                LIMIT ?
+            ) chunk
+            """;
+
+    /** 미지급 수령자 중 앞에서부터 chunkSize 명의 마지막 수령자 ID (없으면 NULL) */
+    private static final String NEXT_UNPAID_RECEIVER_BOUND_SQL = """
+            SELECT MAX(chunk.receiver_id)
+            FROM (
+                SELECT DISTINCT rh.receiver_id
+                FROM reward_history rh
+                WHERE rh.reward_request_id = ?
+                AND rh.total_paid = FALSE
+                ORDER BY rh.receiver_id
+                LIMIT ?
+            ) chunk
+            """;
+
+    /**
+     * 미지급 내역을 수령자별로 합산해 잔액과 지급 내역 수에 한 번에 반영 (H2 의 MERGE ... USING)
+     */
+    private static final String CREDIT_UNPAID_REWARDS_SQL = """
+            MERGE INTO users u
+            USING (
+                SELECT rh.receiver_id, SUM(rh.points) AS points, COUNT(*) AS reward_rows
+                FROM reward_history rh
+                WHERE rh.reward_request_id = ?
+                AND rh.total_paid = FALSE
+                AND rh.receiver_id <= ?
+                GROUP BY rh.receiver_id
+            ) unpaid
+            ON (u.id = unpaid.receiver_id)
+            WHEN MATCHED THEN UPDATE SET reward = u.reward + unpaid.points, reward_count = u.reward_count + unpaid.reward_rows
+            """;
+
+    /** MERGE 대신 수령자별로 잔액을 반영하는 방식 (JDBC 배치로 묶어 실행, 다른 DB 지원용이 아님) */
+    private static final String CREDIT_USER_REWARD_SQL =
+            "UPDATE users SET reward = reward + ?, reward_count = reward_count + ? WHERE id = ?";
+
+    /** 잔액 반영 구간의 미지급 수령자 (응답 캐시 제거 대상) */
+    private static final String UNPAID_RECEIVERS_SQL = """
+            SELECT DISTINCT receiver_id
+            FROM reward_history
+            WHERE reward_request_id = ?
+            AND total_paid = FALSE
+            AND receiver_id <= ?
+            """;
+
+    private static final String MARK_PAID_SQL = """
+            UPDATE reward_history
+            SET total_paid = TRUE
+            WHERE reward_request_id = ?
+            AND total_paid = FALSE
+            AND receiver_id <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지급 요청 랭킹의 작가 리워드 내역 생성, 생성된 건수 반환
+     */
+    public int insertAuthorRewards(Long rewardRequestId) {
+        return jdbcTemplate.update(INSERT_AUTHOR_REWARDS_SQL, rewardRequestId);
+    }
+
+    /**
+     * 지급 요청 랭킹의 소비자 리워드 내역 생성, 생성된 건수 반환
+     */
+    public int insertConsumerRewards(Long rewardRequestId, LocalDate rewardDate) {
+        return insertConsumerRewards(rewardRequestId, rewardDate, 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * 사용자 ID 구간 (afterUserId, upToUserId] 의 소비자 리워드 내역 생성, 생성된 건수 반환
+     */
+    public int insertConsumerRewards(Long rewardRequestId, LocalDate rewardDate, long afterUserId, long upToUserId) {
+        return jdbcTemplate.update(INSERT_CONSUMER_REWARDS_SQL, rewardRequestId, rewardRequestId, Date.valueOf(rewardDate),
+                afterUserId, upToUserId);
+    }
+
+    /**
+     * 건별 저장으로 생성된 소비자 리워드 내역에 지급 사유를 한 문장으로 기록, 갱신된 건수 반환
+     */
+    public int updateConsumerRewardReasons(Long rewardRequestId, LocalDate rewardDate) {
+        return jdbcTemplate.update(UPDATE_CONSUMER_REASONS_SQL, rewardRequestId, Date.valueOf(rewardDate),
+                0L, Long.MAX_VALUE, rewardRequestId);
+    }
+
+    /**
+     * 소비자 내역 생성 대상 사용자 ID 범위 {최소, 최대}, 대상이 없으면 null
+     */
+    public long[] findConsumerIdRange(Long rewardRequestId, LocalDate rewardDate) {
+        return jdbcTemplate.queryForObject(CONSUMER_ID_RANGE_SQL, (rs, rowNum) -> {
+            long min = rs.getLong("min_user_id");
+            return rs.wasNull() ? null : new long[]{min, rs.getLong("max_user_id")};
+        }, rewardRequestId, Date.valueOf(rewardDate));
+    }
+
+    /**
+     * 구간 (afterUserId, maxUserId] 안에서 소비자 내역 생성의 다음 구간 끝 사용자 ID, 남은 사용자가 없으면 null
+     */
+    public Long findNextConsumerBound(Long rewardRequestId, LocalDate rewardDate, long afterUserId, long maxUserId,
+                                      int chunkSize) {
+        return jdbcTemplate.queryForObject(NEXT_CONSUMER_BOUND_SQL, Long.class,
+                rewardRequestId, Date.valueOf(rewardDate), afterUserId, maxUserId, chunkSize);
+    }
+
+    /**
+     * 잔액 반영의 다음 구간 끝 수령자 ID, 미지급 내역이 없으면 null
+     */
+    public Long findNextUnpaidReceiverBound(Long rewardRequestId, int chunkSize) {
+        return jdbcTemplate.queryForObject(NEXT_UNPAID_RECEIVER_BOUND_SQL, Long.class, rewardRequestId, chunkSize);
+    }
+
+    /**
+     * 수령자 ID가 maxReceiverId 이하인 미지급 내역을 잔액에 한 문장으로 반영, 갱신된 사용자 수 반환
+     */
+    public int creditUnpaidRewards(Long rewardRequestId, long maxReceiverId) {
+        return jdbcTemplate.update(CREDIT_UNPAID_REWARDS_SQL, rewardRequestId, maxReceiverId);
+    }
+
+    /**
+     * 수령자별 합산 점수와 내역 수(receiver_id, points, rows)를 chunkSize 건씩 JDBC 배치로 잔액에 반영
+     */
+    public void creditRewardsInChunks(List<Object[]> unpaidRewards, int chunkSize) {
+        if (unpaidRewards.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(CREDIT_USER_REWARD_SQL, unpaidRewards, chunkSize, (ps, record) -> {
+            ps.setInt(1, ((Number) record[1]).intValue());
+            ps.setLong(2, ((Number) record[2]).longValue());
+            ps.setLong(3, ((Number) record[0]).longValue());
+        });
+    }
+
+    /**
+     * 수령자 ID가 maxReceiverId 이하인 미지급 내역의 수령자 ID 목록
+     */
+    public List<Long> findUnpaidReceivers(Long rewardRequestId, long maxReceiverId) {
+        return jdbcTemplate.queryForList(UNPAID_RECEIVERS_SQL, Long.class, rewardRequestId, maxReceiverId);
+    }
+
+    /**
+     * 수령자 ID가 maxReceiverId 이하인 미지급 내역을 한 문장으로 지급 완료 처리, 갱신된 건수 반환
+     */
+    public int markPaid(Long rewardRequestId, long maxReceiverId) {
+        return jdbcTemplate.update(MARK_PAID_SQL, rewardRequestId, maxReceiverId);
+    }
+}
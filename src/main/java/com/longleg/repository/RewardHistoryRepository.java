@@ -1,35 +1,29 @@
 package com.longleg.repository;
 
+import com.longleg.dto.RewardHistoryDTO;
 import com.longleg.entity.RewardHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface RewardHistoryRepository extends JpaRepository<RewardHistory, Long> {
 
-    @Modifying
     @Query(value = """
-        UPDATE reward_history 
-        SET total_paid = true
-        WHERE receiver_id = :userId
-        AND reward_request_id = :rewardRequestId
-        AND total_paid = false
-        """, nativeQuery = true)
-    void markAsPaid(@Param("userId") Long userId, @Param("rewardRequestId") Long rewardRequestId);
-
-    @Query(value = """
-        SELECT rh.receiver_id, SUM(rh.points)
+        SELECT rh.receiver_id, SUM(rh.points), COUNT(*)
         FROM reward_history rh
         WHERE rh.total_paid = false
         AND rh.reward_request_id = :rewardRequestId
+        AND rh.receiver_id <= :maxReceiverId
         GROUP BY rh.receiver_id
         """, nativeQuery = true)
-    List<Object[]> findUnpaidRewardsByRequest(@Param("rewardRequestId") Long rewardRequestId);
+    List<Object[]> findUnpaidRewardsByRequest(@Param("rewardRequestId") Long rewardRequestId,
+                                              @Param("maxReceiverId") long maxReceiverId);
 
     @Query(value = "SELECT * FROM reward_history WHERE receiver_id = :userId"
             , nativeQuery = true)
@@ -40,5 +34,21 @@ public interface RewardHistoryRepository extends JpaRepository<RewardHistory, Lo
             "WHERE rh.receiver.id = :userId")
     List<Object[]> findByReceiverIdWithRequestDate(@Param("userId") Long userId);
 
+    /**
+     * 사용자의 지급 완료된 리워드 내역을 지급 날짜 → ID 역순으로 커서 (afterDate, afterId) 다음부터 조회 (엔티티 대신 DTO 로 바로 조회)
+     * 지급 완료 내역만 조회하므로 사용자별 지급 완료 내역 수(reward_count)와 건수가 일치한다.
+     */
+    @Query("SELECT new com.longleg.dto.RewardHistoryDTO(rh.id, rh.points, rr.requestDate, rh.totalPaid, rh.rewardReason) " +
+            "FROM RewardHistory rh " +
+            "JOIN rh.rewardRequest rr " +
+            "WHERE rh.receiver.id = :userId " +
+            "AND rh.totalPaid = TRUE " +
+            "AND (rr.requestDate < :afterDate OR (rr.requestDate = :afterDate AND rh.id < :afterId)) " +
+            "ORDER BY rr.requestDate DESC, rh.id DESC")
+    List<RewardHistoryDTO> findPageByReceiverId(@Param("userId") Long userId,
+                                                @Param("afterDate") LocalDate afterDate,
+                                                @Param("afterId") Long afterId,
+                                                Limit limit);
+
 }
 
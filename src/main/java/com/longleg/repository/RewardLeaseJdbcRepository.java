@@ -0,0 +1,82 @@
+package com.longleg.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 날짜별 리워드 지급 lease(reward_lease) JDBC 리포지토리
+ *
+ * 만료 시각은 인스턴스 간 시계 차이의 영향을 받지 않도록 DB 시각(CURRENT_TIMESTAMP) 기준으로 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardLeaseJdbcRepository {
+
+    /** 자신이 가진 lease 이거나 만료된 lease 를 가져옴 */
+    private static final String TAKE_OVER_SQL = """
+            UPDATE reward_lease
+            SET holder_id = ?, acquired_at = CURRENT_TIMESTAMP, heartbeat_at = CURRENT_TIMESTAMP,
+                expires_at = DATEADD(MILLISECOND, CAST(? AS BIGINT), CURRENT_TIMESTAMP)
+            WHERE request_date = ?
+            AND (holder_id = ? OR expires_at < CURRENT_TIMESTAMP)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reward_lease (request_date, holder_id, acquired_at, heartbeat_at, expires_at)
+            VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, DATEADD(MILLISECOND, CAST(? AS BIGINT), CURRENT_TIMESTAMP))
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE reward_lease
+            SET heartbeat_at = CURRENT_TIMESTAMP, expires_at = DATEADD(MILLISECOND, CAST(? AS BIGINT), CURRENT_TIMESTAMP)
+            WHERE request_date = ?
+            AND holder_id = ?
+            """;
+
+    private static final String RELEASE_SQL = "DELETE FROM reward_lease WHERE request_date = ? AND holder_id = ?";
+
+    private static final String ACTIVE_SQL =
+            "SELECT COUNT(*) FROM reward_lease WHERE request_date = ? AND expires_at >= CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * lease 획득 시도 (없으면 생성, 만료되었으면 인계), 획득 여부 반환
+     */
+    public boolean tryAcquire(LocalDate requestDate, String holderId, long ttlMillis) {
+        Date date = Date.valueOf(requestDate);
+        if (jdbcTemplate.update(TAKE_OVER_SQL, holderId, ttlMillis, date, holderId) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, date, holderId, ttlMillis) == 1;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 생성
+            return false;
+        }
+    }
+
+    /**
+     * 보유 중인 lease 의 만료 시각 연장, 다른 인스턴스에 넘어갔으면 false
+     */
+    public boolean renew(LocalDate requestDate, String holderId, long ttlMillis) {
+        return jdbcTemplate.update(RENEW_SQL, ttlMillis, Date.valueOf(requestDate), holderId) == 1;
+    }
+
+    public void release(LocalDate requestDate, String holderId) {
+        jdbcTemplate.update(RELEASE_SQL, Date.valueOf(requestDate), holderId);
+    }
+
+    /**
+     * 만료되지 않은 lease 가 있는지 확인
+     */
+    public boolean isActive(LocalDate requestDate) {
+        Integer count = jdbcTemplate.queryForObject(ACTIVE_SQL, Integer.class, Date.valueOf(requestDate));
+        return count != null && count > 0;
+    }
+}
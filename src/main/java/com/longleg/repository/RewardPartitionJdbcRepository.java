@@ -0,0 +1,96 @@
+package com.longleg.repository;
+
+import com.longleg.dto.RewardPartition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 소비자 리워드 내역 생성 파티션(reward_partition) JDBC 리포지토리
+ *
+ * 파티션 작업자가 각자의 트랜잭션에서 내역 생성과 함께 체크포인트를 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardPartitionJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reward_partition (reward_request_id, partition_no, lower_bound, upper_bound, checkpoint_cursor,
+                                          rows_processed, completed, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, FALSE, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String FIND_BY_REQUEST_SQL = """
+            SELECT partition_no, lower_bound, upper_bound, checkpoint_cursor, rows_processed, completed
+            FROM reward_partition
+            WHERE reward_request_id = ?
+            ORDER BY partition_no
+            """;
+
+    private static final String CHECKPOINT_SQL = """
+            UPDATE reward_partition
+            SET checkpoint_cursor = ?, rows_processed = rows_processed + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE reward_request_id = ? AND partition_no = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE reward_partition
+            SET completed = TRUE, updated_at = CURRENT_TIMESTAMP
+            WHERE reward_request_id = ? AND partition_no = ?
+            """;
+
+    private static final String SUM_ROWS_SQL =
+            "SELECT COALESCE(SUM(rows_processed), 0) FROM reward_partition WHERE reward_request_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지급 요청의 파티션 목록 저장
+     */
+    public void createAll(Long rewardRequestId, List<RewardPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, partitions, partitions.size(), (ps, partition) -> {
+            ps.setLong(1, rewardRequestId);
+            ps.setInt(2, partition.partitionNo());
+            ps.setLong(3, partition.lowerBound());
+            ps.setLong(4, partition.upperBound());
+            ps.setLong(5, partition.checkpointCursor());
+        });
+    }
+
+    /**
+     * 지급 요청의 파티션 목록 조회 (없으면 빈 목록)
+     */
+    public List<RewardPartition> findByRequest(Long rewardRequestId) {
+        return jdbcTemplate.query(FIND_BY_REQUEST_SQL, (rs, rowNum) -> new RewardPartition(
+                rs.getInt("partition_no"), rs.getLong("lower_bound"), rs.getLong("upper_bound"),
+                rs.getLong("checkpoint_cursor"), rs.getLong("rows_processed"), rs.getBoolean("completed")),
+                rewardRequestId);
+    }
+
+    /**
+     * 파티션의 커밋 지점과 처리 건수 갱신 (내역 생성과 같은 트랜잭션에서 호출)
+     */
+    public void checkpoint(Long rewardRequestId, int partitionNo, long cursor, long rows) {
+        jdbcTemplate.update(CHECKPOINT_SQL, cursor, rows, rewardRequestId, partitionNo);
+    }
+
+    /**
+     * 파티션 완료 처리
+     */
+    public void complete(Long rewardRequestId, int partitionNo) {
+        jdbcTemplate.update(COMPLETE_SQL, rewardRequestId, partitionNo);
+    }
+
+    /**
+     * 지급 요청의 모든 파티션 처리 건수 합계
+     */
+    public long sumRowsProcessed(Long rewardRequestId) {
+        Long rows = jdbcTemplate.queryForObject(SUM_ROWS_SQL, Long.class, rewardRequestId);
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,60 @@
+package com.longleg.repository;
+
+import com.longleg.dto.WorkActivityDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 리워드 지급 시점의 랭킹(reward_ranking) JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardRankingJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reward_ranking (reward_request_id, ranking, ranking_date, work_id, like_count, view_count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_BY_DATE_SQL = """
+            SELECT work_id, like_count, view_count
+            FROM reward_ranking
+            WHERE ranking_date = ?
+            ORDER BY ranking
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지급 요청의 랭킹을 순위 순서대로 저장
+     */
+    public void saveAll(Long rewardRequestId, LocalDate rankingDate, List<WorkActivityDTO> ranking) {
+        if (ranking.isEmpty()) {
+            return;
+        }
+        Date date = Date.valueOf(rankingDate);
+        int[] rank = {0};
+        jdbcTemplate.batchUpdate(INSERT_SQL, ranking, ranking.size(), (ps, work) -> {
+            ps.setLong(1, rewardRequestId);
+            ps.setInt(2, ++rank[0]);
+            ps.setDate(3, date);
+            ps.setLong(4, work.getWorkId());
+            ps.setInt(5, work.getLikeCount());
+            ps.setInt(6, work.getViewCount());
+        });
+    }
+
+    /**
+     * 특정 날짜에 저장된 랭킹 조회 (없으면 빈 목록)
+     */
+    public List<WorkActivityDTO> findByDate(LocalDate rankingDate) {
+        return jdbcTemplate.query(FIND_BY_DATE_SQL, (rs, rowNum) -> new WorkActivityDTO(
+                rs.getLong("work_id"), rs.getInt("like_count"), rs.getInt("view_count"), null),
+                Date.valueOf(rankingDate));
+    }
+}
@@ -1,13 +1,20 @@
 package com.longleg.repository;
 
 import com.longleg.entity.RewardRequest;
+import com.longleg.entity.RewardStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RewardRequestRepository extends JpaRepository<RewardRequest, Long> {
     Optional<RewardRequest> findByRequestDate(LocalDate createdAt);
 
+    List<RewardRequest> findByStatusInOrderByRequestDate(Collection<RewardStatus> statuses);
+
+    List<RewardRequest> findByRequestDateBetweenOrderByRequestDate(LocalDate startDate, LocalDate endDate);
+
 }
 
@@ -0,0 +1,65 @@
+package com.longleg.repository;
+
+import com.longleg.dto.ActivityEvent;
+import com.longleg.entity.SequenceAllocation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 대량 활동 기록을 위한 JDBC 리포지토리
+ *
+ * JPA의 건별 save 대신 JDBC 배치로 user_activity 를 INSERT 한다.
+ * ID는 JPA와 같은 user_activity_seq 에서 할당 단위만큼 구간으로 받아 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityJdbcRepository {
+
+    private static final String INSERT_ACTIVITY_SQL = """
+            INSERT INTO user_activity (id, user_id, work_id, activity_type, is_active, created_at, activity_date)
+            VALUES (?, ?, ?, ?, TRUE, ?, ?)
+            """;
+
+    private static final String NEXT_ID_BLOCKS_SQL =
+            "SELECT NEXT VALUE FOR user_activity_seq FROM SYSTEM_RANGE(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 활동 이벤트를 JDBC 배치로 저장
+     */
+    public void batchInsert(List<ActivityEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long[] ids = allocateIds(events.size());
+        int[] row = {0};
+        jdbcTemplate.batchUpdate(INSERT_ACTIVITY_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, ids[row[0]++]);
+            ps.setLong(2, event.userId());
+            ps.setLong(3, event.workId());
+            ps.setString(4, event.activityType().name());
+            ps.setTimestamp(5, Timestamp.valueOf(event.createdAt()));
+            ps.setDate(6, Date.valueOf(event.createdAt().toLocalDate()));
+        });
+    }
+
+    /**
+     * 시퀀스 값 v 하나당 (v - 할당 단위, v] 구간을 사용 (Hibernate pooled 옵티마이저와 같은 규칙)
+     */
+    private long[] allocateIds(int count) {
+        int blocks = (count + SequenceAllocation.SIZE - 1) / SequenceAllocation.SIZE;
+        List<Long> highs = jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            long high = highs.get(i / SequenceAllocation.SIZE);
+            ids[i] = high - SequenceAllocation.SIZE + 1 + (i % SequenceAllocation.SIZE);
+        }
+        return ids;
+    }
+}
@@ -1,30 +1,28 @@
 package com.longleg.repository;
 
+import com.longleg.entity.QualifiedUserProjection;
 import com.longleg.entity.User;
 import com.longleg.entity.UserActivity;
 import com.longleg.entity.Work;
 import com.longleg.entity.WorkActivityProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
     boolean existsByUserAndWorkAndCreatedAtAfter(User user, Work work, LocalDateTime oneHourAgo);
 
-    // ✅ 현재 유저가 "좋아요"를 유지하고 있는지 확인 (취소된 'UNLIKE'가 없고, 최신 'LIKE'가 있는 경우)
-    @Query("SELECT COUNT(ua) > 0 FROM UserActivity ua " +
-            "WHERE ua.user = :user AND ua.work = :work " +
-            "AND ua.activityType = 'LIKE' " +
-            "AND NOT EXISTS (SELECT 1 FROM UserActivity u2 " +
-            "WHERE u2.user = ua.user AND u2.work = ua.work AND u2.activityType = 'UNLIKE' AND u2.createdAt > ua.createdAt)")
-    boolean isCurrentlyLiked(User user, Work work);
-
 
     @Query("SELECT CAST(ua.activityType AS string), COUNT(ua) " +
             "FROM UserActivity ua " +
@@ -43,17 +41,20 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
                   - COALESCE(SUM(CASE WHEN ua.activity_type = 'UNLIKE' THEN 1 ELSE 0 END), 0) AS likeCount,
                   COALESCE(SUM(CASE WHEN ua.activity_type = 'VIEW' THEN 1 ELSE 0 END), 0) AS viewCount
                FROM user_activity ua 
-               WHERE CAST(ua.created_at AS DATE) = :rewardDate
+               WHERE ua.activity_date = :rewardDate
+                 AND ua.is_active = TRUE
                GROUP BY ua.work_id
                """, nativeQuery = true)
-    List<WorkActivityProjection> getWorkActivityCounts(LocalDate rewardDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<WorkActivityProjection> getWorkActivityCounts(LocalDate rewardDate);
 
 
     @Query(value = """
         SELECT DISTINCT user_id
         FROM user_activity
         WHERE work_id = :workId
-          AND CAST(created_at AS DATE) = :rewardDate
+          AND activity_date = :rewardDate
+          AND is_active = TRUE
         AND (
             activity_type = 'VIEW'
             OR (
@@ -62,14 +63,16 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
                     SELECT user_id
                     FROM user_activity
                     WHERE work_id = :workId
-                      AND CAST(created_at AS DATE) = :rewardDate
+                      AND activity_date = :rewardDate
+                      AND is_active = TRUE
                     AND activity_type = 'UNLIKE'
                     GROUP BY user_id
                     HAVING COUNT(*) >= (
                         SELECT COUNT(*)\s
                         FROM user_activity ua2
                         WHERE ua2.work_id = :workId
-                          AND CAST(ua2.created_at AS DATE) = :rewardDate
+                          AND ua2.activity_date = :rewardDate
+                          AND ua2.is_active = TRUE
                         AND ua2.activity_type = 'LIKE'
                         AND ua2.user_id = user_activity.user_id
                     )
@@ -79,4 +82,23 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
         """, nativeQuery = true)
     List<Long> findQualifiedUserIds(@Param("workId") Long workId, @Param("rewardDate") LocalDate rewardDate);
 
+    /**
+     * 여러 작품에 대해 리워드 조건을 충족한 (작품, 사용자) 쌍을 한 번에 조회
+     * 조건: 해당 날짜에 조회했거나, 좋아요 수가 좋아요 취소 수보다 많음 (findQualifiedUserIds 와 같은 기준, 활성 활동만)
+     */
+    @Query(value = """
+        SELECT ua.work_id AS workId, ua.user_id AS userId
+        FROM user_activity ua
+        WHERE ua.activity_date = :rewardDate
+          AND ua.work_id IN (:workIds)
+          AND ua.is_active = TRUE
+        GROUP BY ua.work_id, ua.user_id
+        HAVING SUM(CASE WHEN ua.activity_type = 'VIEW' THEN 1 ELSE 0 END) > 0
+            OR SUM(CASE WHEN ua.activity_type = 'LIKE' THEN 1 ELSE 0 END)
+               > SUM(CASE WHEN ua.activity_type = 'UNLIKE' THEN 1 ELSE 0 END)
+        ORDER BY ua.work_id, ua.user_id
+        """, nativeQuery = true)
+    List<QualifiedUserProjection> findQualifiedUserPairs(@Param("workIds") Collection<Long> workIds,
+                                                         @Param("rewardDate") LocalDate rewardDate);
+
 }
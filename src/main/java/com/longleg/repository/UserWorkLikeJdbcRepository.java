@@ -0,0 +1,54 @@
+package com.longleg.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요 상태(user_work_like) 전환을 위한 JDBC 리포지토리
+ *
+ * JPA 네이티브 쿼리에서 제약 위반이 나면 Hibernate 가 트랜잭션 전체를 rollback-only 로 표시하므로,
+ * 배치 처리 중 한 건의 충돌이 나머지 이벤트까지 롤백시키지 않도록 JDBC로 직접 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserWorkLikeJdbcRepository {
+
+    private static final String RELIKE_SQL = """
+            UPDATE user_work_like
+            SET liked = TRUE, updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = ?
+            AND work_id = ?
+            AND liked = FALSE
+            """;
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO user_work_like (user_id, work_id, liked, updated_at)
+            SELECT ?, ?, TRUE, CURRENT_TIMESTAMP
+            WHERE NOT EXISTS (
+                SELECT 1 FROM user_work_like
+                WHERE user_id = ?
+                AND work_id = ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 상태로 전환 (좋아요 취소 상태이면 UPDATE, 행이 없으면 INSERT)
+     * 이미 좋아요 상태이거나 같은 쌍의 동시 INSERT 가 먼저 반영되었으면 0을 반환한다.
+     */
+    public int like(long userId, long workId) {
+        int relike = jdbcTemplate.update(RELIKE_SQL, userId, workId);
+        if (relike > 0) {
+            return relike;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, userId, workId, userId, workId);
+        } catch (DuplicateKeyException e) {
+            // 존재 확인 이후 다른 트랜잭션이 먼저 INSERT 한 경우 (실패한 문장만 취소되고 트랜잭션은 계속 사용 가능)
+            return 0;
+        }
+    }
+}
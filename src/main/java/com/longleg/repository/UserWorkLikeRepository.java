@@ -0,0 +1,50 @@
+package com.longleg.repository;
+
+import com.longleg.entity.UserWorkLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserWorkLikeRepository extends JpaRepository<UserWorkLike, UserWorkLike.Key> {
+
+    /**
+     * 좋아요 취소 상태로 전환, 좋아요 상태가 아니면 0을 반환
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_work_like
+        SET liked = FALSE, updated_at = CURRENT_TIMESTAMP
+        WHERE user_id = :userId
+        AND work_id = :workId
+        AND liked = TRUE
+        """, nativeQuery = true)
+    int unlike(@Param("userId") Long userId, @Param("workId") Long workId);
+
+    /**
+     * user_activity 의 LIKE / UNLIKE 이력으로 좋아요 상태를 채움 (기존 행은 덮어씀)
+     * 마지막 LIKE / UNLIKE 가 LIKE 이면 좋아요 상태로 본다.
+     * 일괄 기록은 한 배치를 같은 시각으로 저장하므로, 시각이 같으면 적용 순서대로 할당된 ID 가 큰 쪽을 마지막으로 본다.
+     */
+    @Modifying
+    @Query(value = """
+        MERGE INTO user_work_like (user_id, work_id, liked, updated_at) KEY (user_id, work_id)
+        SELECT h.user_id,
+               h.work_id,
+               h.activity_type = 'LIKE',
+               h.created_at
+        FROM (
+            SELECT ua.user_id,
+                   ua.work_id,
+                   ua.activity_type,
+                   ua.created_at,
+                   ROW_NUMBER() OVER (PARTITION BY ua.user_id, ua.work_id ORDER BY ua.created_at DESC, ua.id DESC) AS rn
+            FROM user_activity ua
+            WHERE ua.activity_type IN ('LIKE', 'UNLIKE')
+        ) h
+        WHERE h.rn = 1
+        """, nativeQuery = true)
+    int backfillFromActivity();
+}
@@ -0,0 +1,123 @@
+package com.longleg.repository;
+
+import com.longleg.dto.WorkActivityDTO;
+import com.longleg.dto.WorkDailyScoreDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일자별 작품 점수(work_daily_score) JDBC 리포지토리
+ *
+ * 점수 컬럼은 (좋아요 - 좋아요 취소) * 2 + 조회수 로 DB에서 계산되며
+ * (score_date, score DESC) 인덱스로 일자별 상위 N개를 정렬 없이 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkDailyScoreJdbcRepository {
+
+    private static final String ADD_COUNTS_SQL = """
+            MERGE INTO work_daily_score t
+            USING (SELECT CAST(? AS DATE) AS score_date, CAST(? AS BIGINT) AS work_id,
+                          CAST(? AS BIGINT) AS likes, CAST(? AS BIGINT) AS unlikes, CAST(? AS BIGINT) AS views) s
+            ON t.score_date = s.score_date AND t.work_id = s.work_id
+            WHEN MATCHED THEN
+                UPDATE SET like_count = t.like_count + s.likes,
+                           unlike_count = t.unlike_count + s.unlikes,
+                           view_count = t.view_count + s.views
+            WHEN NOT MATCHED THEN
+                INSERT (score_date, work_id, like_count, unlike_count, view_count)
+                VALUES (s.score_date, s.work_id, s.likes, s.unlikes, s.views)
+            """;
+
+    private static final String FIND_TOP_SQL = """
+            SELECT work_id, like_count - unlike_count AS like_count, view_count
+            FROM work_daily_score
+            WHERE score_date = ?
+            ORDER BY score DESC, work_id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_DATE_SQL = "DELETE FROM work_daily_score WHERE score_date = ?";
+
+    private static final String REBUILD_DATE_SQL = """
+            INSERT INTO work_daily_score (score_date, work_id, like_count, unlike_count, view_count)
+            SELECT activity_date,
+                   work_id,
+                   SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END)
+            FROM user_activity
+            WHERE activity_date = ?
+            AND is_active = TRUE
+            GROUP BY activity_date, work_id
+            """;
+
+    private static final String MARK_REBUILT_SQL = """
+            MERGE INTO work_daily_score_rebuild t
+            USING (SELECT CAST(? AS DATE) AS score_date, CAST(? AS TIMESTAMP) AS rebuilt_at) s
+            ON t.score_date = s.score_date
+            WHEN MATCHED THEN
+                UPDATE SET rebuilt_at = s.rebuilt_at
+            WHEN NOT MATCHED THEN
+                INSERT (score_date, rebuilt_at) VALUES (s.score_date, s.rebuilt_at)
+            """;
+
+    private static final String FIND_REBUILT_AT_SQL =
+            "SELECT rebuilt_at FROM work_daily_score_rebuild WHERE score_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일자별 증가분을 MERGE 배치로 반영
+     */
+    public void addCounts(List<WorkDailyScoreDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.scoreDate()));
+            ps.setLong(2, delta.workId());
+            ps.setLong(3, delta.likes());
+            ps.setLong(4, delta.unlikes());
+            ps.setLong(5, delta.views());
+        });
+    }
+
+    /**
+     * 특정 날짜의 점수 상위 작품 조회 (동점이면 작품 ID 순)
+     */
+    public List<WorkActivityDTO> findTop(LocalDate scoreDate, int limit) {
+        return jdbcTemplate.query(FIND_TOP_SQL, (rs, rowNum) -> new WorkActivityDTO(
+                rs.getLong("work_id"), rs.getInt("like_count"), rs.getInt("view_count"), null),
+                Date.valueOf(scoreDate), limit);
+    }
+
+    /**
+     * 특정 날짜의 점수를 user_activity 원본(활성 활동)으로 다시 계산, 생성된 작품 수 반환
+     * 원본을 읽기 전 시각을 재생성 시각으로 기록하므로, 그 이전에 버퍼에 쌓인 같은 날짜의 증가분은 반영하지 않는다.
+     */
+    public int rebuild(LocalDate scoreDate) {
+        Date date = Date.valueOf(scoreDate);
+        jdbcTemplate.update(MARK_REBUILT_SQL, date, Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(DELETE_DATE_SQL, date);
+        return jdbcTemplate.update(REBUILD_DATE_SQL, date);
+    }
+
+    /**
+     * 특정 날짜의 마지막 재생성 시각 (재생성한 적 없으면 empty)
+     */
+    public Optional<LocalDateTime> findRebuiltAt(LocalDate scoreDate) {
+        return jdbcTemplate.query(FIND_REBUILT_AT_SQL,
+                        (rs, rowNum) -> rs.getTimestamp("rebuilt_at").toLocalDateTime(), Date.valueOf(scoreDate))
+                .stream()
+                .findFirst();
+    }
+}
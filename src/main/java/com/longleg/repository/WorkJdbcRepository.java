@@ -0,0 +1,39 @@
+package com.longleg.repository;
+
+import com.longleg.dto.WorkCountDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * works 집계 컬럼을 엔티티 로딩 없이 증분 반영하는 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkJdbcRepository {
+
+    private static final String ADD_COUNTS_SQL = """
+            UPDATE works
+            SET view_count = view_count + ?,
+                like_count = GREATEST(like_count + ?, 0)
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작품별 조회수 / 좋아요 수 증가분을 배치 UPDATE 로 반영
+     */
+    public void addCounts(List<WorkCountDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.views());
+            ps.setLong(2, delta.likes());
+            ps.setLong(3, delta.workId());
+        });
+    }
+}
@@ -2,9 +2,19 @@ package com.longleg.repository;
 
 import com.longleg.entity.Work;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface WorkRepository extends JpaRepository<Work, Long> {
-}
 
+    /**
+     * 주어진 ID 중 존재하는 작품 ID 목록 (일괄 통계 조회의 존재 확인용)
+     */
+    @Query("SELECT w.id FROM Work w WHERE w.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,66 @@
+package com.longleg.service;
+
+import com.longleg.dto.RollupWatermarks;
+import com.longleg.repository.ActivityRollupJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 작품 활동 집계 정리 작업
+ *
+ * 보관 기간이 지난 시간 버킷은 일자별 점수(work_daily_score)에 이미 합산되어 있으므로 삭제하고,
+ * 마감된 달의 일자별 점수는 월 버킷(activity_monthly)으로 합산한다.
+ * 전날 증가분이 자정 직후까지 반영될 수 있으므로 달이 바뀌고 하루가 지난 뒤에 월 버킷을 만든다.
+ * 한 달의 합산은 월 워터마크를 조건부로 올리는 것과 같은 트랜잭션에서 커밋되므로,
+ * 여러 인스턴스가 동시에 실행해도 같은 달은 먼저 워터마크를 올린 한 곳만 합산하고 나머지는 건너뛴다.
+ * 시간 버킷 정리는 워터마크를 먼저 올린 뒤 삭제하므로 중복 실행되어도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class ActivityRollupCompactor {
+
+    private final ActivityRollupJdbcRepository activityRollupJdbcRepository;
+    private final Clock clock;
+    private final int hourlyRetentionDays;
+
+    @Autowired
+    public ActivityRollupCompactor(ActivityRollupJdbcRepository activityRollupJdbcRepository,
+                                   @Value("${longleg.activity-rollup.hourly-retention-days:7}") int hourlyRetentionDays) {
+        this(activityRollupJdbcRepository, Clock.systemDefaultZone(), hourlyRetentionDays);
+    }
+
+    ActivityRollupCompactor(ActivityRollupJdbcRepository activityRollupJdbcRepository, Clock clock, int hourlyRetentionDays) {
+        this.activityRollupJdbcRepository = activityRollupJdbcRepository;
+        this.clock = clock;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    @Scheduled(cron = "${longleg.activity-rollup.compaction-cron:0 5 * * * *}")
+    public void compact() {
+        LocalDate today = LocalDate.now(clock);
+        RollupWatermarks watermarks = activityRollupJdbcRepository.findWatermarks();
+
+        LocalDateTime hourlyFrom = today.minusDays(hourlyRetentionDays).atStartOfDay();
+        if (watermarks.hourlyFrom().isBefore(hourlyFrom)) {
+            int pruned = activityRollupJdbcRepository.pruneHourlyBefore(hourlyFrom);
+            log.info("시간별 작품 활동 {}건 정리 ({} 이전)", pruned, hourlyFrom);
+        }
+
+        LocalDate closedUntil = today.minusDays(1).withDayOfMonth(1);
+        for (LocalDate month = watermarks.monthlyUntil(); month.isBefore(closedUntil); month = month.plusMonths(1)) {
+            int works = activityRollupJdbcRepository.compactMonth(month);
+            if (works < 0) {
+                log.info("{} 월별 작품 활동은 다른 인스턴스에서 집계되어 건너뜀", month);
+                continue;
+            }
+            log.info("{} 월별 작품 활동 집계 완료 ({}개 작품)", month, works);
+        }
+    }
+}
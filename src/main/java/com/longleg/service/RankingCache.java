@@ -0,0 +1,95 @@
+package com.longleg.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.longleg.dto.WorkActivityDTO;
+import com.longleg.entity.RewardRequest;
+import com.longleg.repository.RewardRankingJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 마감된 날짜(오늘 이전)의 상위 작품 랭킹 캐시
+ *
+ * 지급이 끝나 reward_ranking 에 저장된 랭킹만 날짜별로 계속 보관한다. (최대 보관 일수 초과 시 오래 안 쓴 날짜부터 제거)
+ * 아직 지급되지 않은 날짜의 계산 결과는 늦게 반영되는 카운터나 점수 재생성으로 바뀔 수 있으므로 짧은 시간만 보관한다.
+ * 호출 측이 순위 등을 설정하므로 항상 복사본을 반환한다.
+ * 적중률과 로딩 시간은 cache.gets / cache.load.duration {cache=ranking | ranking.computed} 지표로 노출된다.
+ */
+@Component
+public class RankingCache {
+
+    private final RewardRankingJdbcRepository rewardRankingJdbcRepository;
+    private final Cache<LocalDate, List<WorkActivityDTO>> cache;
+    private final Cache<LocalDate, List<WorkActivityDTO>> computed;
+
+    public RankingCache(RewardRankingJdbcRepository rewardRankingJdbcRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${longleg.ranking.cache.max-days:400}") long maxDays,
+                        @Value("${longleg.ranking.cache.computed-ttl-seconds:60}") long computedTtlSeconds) {
+        this.rewardRankingJdbcRepository = rewardRankingJdbcRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxDays)
+                .recordStats()
+                .build();
+        this.computed = Caffeine.newBuilder()
+                .maximumSize(maxDays)
+                .expireAfterWrite(Duration.ofSeconds(computedTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ranking");
+        CaffeineCacheMetrics.monitor(meterRegistry, computed, "ranking.computed");
+    }
+
+    /**
+     * 캐시된 랭킹 반환, 없으면 저장된 지급 랭킹 → 계산 순으로 채움
+     * 저장된 지급 랭킹만 계속 보관하고, 계산한 랭킹은 computed-ttl 동안만 보관한다.
+     */
+    public List<WorkActivityDTO> get(LocalDate rankingDate, Function<LocalDate, List<WorkActivityDTO>> compute) {
+        List<WorkActivityDTO> settled = cache.getIfPresent(rankingDate);
+        if (settled != null) {
+            return copyOf(settled);
+        }
+        List<WorkActivityDTO> recent = computed.getIfPresent(rankingDate);
+        if (recent != null) {
+            return copyOf(recent);
+        }
+        List<WorkActivityDTO> stored = rewardRankingJdbcRepository.findByDate(rankingDate);
+        if (!stored.isEmpty()) {
+            cache.put(rankingDate, copyOf(stored));
+            return copyOf(stored);
+        }
+        return copyOf(computed.get(rankingDate, date -> copyOf(compute.apply(date))));
+    }
+
+    /**
+     * 리워드 지급에 사용한 랭킹을 지급 요청과 함께 저장하고 캐시에 반영
+     */
+    public void persist(RewardRequest request, List<WorkActivityDTO> ranking) {
+        rewardRankingJdbcRepository.saveAll(request.getId(), request.getRequestDate(), ranking);
+        cache.put(request.getRequestDate(), copyOf(ranking));
+        computed.invalidate(request.getRequestDate());
+    }
+
+    /**
+     * 점수 재생성 등으로 랭킹이 바뀔 수 있을 때 캐시에서 제거 (저장된 지급 랭킹은 유지)
+     */
+    public void evict(LocalDate rankingDate) {
+        cache.invalidate(rankingDate);
+        computed.invalidate(rankingDate);
+    }
+
+    private static List<WorkActivityDTO> copyOf(List<WorkActivityDTO> ranking) {
+        return ranking.stream()
+                .map(work -> new WorkActivityDTO(work.getWorkId(), work.getLikeCount(), work.getViewCount(),
+                        work.getRank(), work.getUserId()))
+                .toList();
+    }
+}
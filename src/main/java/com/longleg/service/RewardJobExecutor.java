@@ -0,0 +1,138 @@
+package com.longleg.service;
+
+import com.longleg.exception.CustomException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리워드 지급 작업 전용 실행기
+ *
+ * HTTP 요청 스레드 대신 크기가 고정된 스레드 풀에서 지급 작업을 실행한다.
+ * 동시에 실행할 작업 수(concurrency)와 대기열 크기(queue-capacity)는 설정으로 조정하며,
+ * 대기열이 가득 차면 작업을 받지 않고 예외를 던진다.
+ * 지급 작업 안에서 나눠 실행하는 파티션 작업은 별도 풀에서 실행해, 지급 작업이 파티션을 기다리다 풀을 모두 점유하지 않도록 한다.
+ * 파티션 수는 설정하지 않으면 CPU 코어 수와 커넥션 풀 크기 중 작은 값이다.
+ * 여러 날짜를 한 번에 지급하는 backfill 은 날짜별 지급을 동시 실행 수(backfill.parallelism)만큼만 병렬로 실행한다.
+ * 종료 시 실행 중인 작업은 기다리지 않는다. (커밋된 체크포인트부터 다음 기동 시 재개)
+ */
+@Slf4j
+@Component
+public class RewardJobExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor partitionExecutor;
+    private final int partitionCount;
+    private final ThreadPoolExecutor backfillExecutor;
+
+    public RewardJobExecutor(MeterRegistry meterRegistry,
+                             @Value("${longleg.reward.job.concurrency:1}") int concurrency,
+                             @Value("${longleg.reward.job.queue-capacity:16}") int queueCapacity,
+                             @Value("${longleg.reward.payout.partitions:0}") int partitions,
+                             @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                             @Value("${longleg.reward.backfill.parallelism:2}") int backfillParallelism) {
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("reward-job-"));
+        this.partitionCount = partitions > 0
+                ? partitions
+                : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), connectionPoolSize));
+        // 파티션 작업 수는 실행 중인 지급 작업 수 × 파티션 수로 제한되므로 대기열 크기는 제한하지 않음
+        this.partitionExecutor = new ThreadPoolExecutor(partitionCount, partitionCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("reward-partition-"));
+        // 날짜 수는 backfill 최대 일수로 제한되므로 대기열 크기는 제한하지 않음 (먼저 넣은 날짜부터 실행)
+        this.backfillExecutor = new ThreadPoolExecutor(backfillParallelism, backfillParallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("reward-backfill-"));
+        Gauge.builder("reward.job.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 리워드 지급 작업 수").register(meterRegistry);
+        Gauge.builder("reward.job.queued", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 리워드 지급 작업 수").register(meterRegistry);
+    }
+
+    /**
+     * 지급 작업을 대기열에 추가
+     *
+     * @throws CustomException 대기열이 가득 찬 경우
+     */
+    public void submit(Runnable job) {
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException("Reward can't be requested", "대기 중인 리워드 지급 작업이 많습니다. 잠시 후 다시 요청해 주세요.");
+        }
+    }
+
+    /**
+     * 한 지급 작업을 나눌 파티션 수
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * 파티션 작업을 모두 병렬로 실행하고 끝날 때까지 대기
+     * 일부가 실패해도 나머지는 끝까지 실행한 뒤 첫 번째 실패를 던진다.
+     */
+    public void runAll(List<Runnable> partitionJobs) {
+        List<CompletableFuture<Void>> futures = partitionJobs.stream()
+                .map(job -> CompletableFuture.runAsync(job, partitionExecutor))
+                .toList();
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * backfill 날짜별 지급 작업을 대기열에 추가 (넣은 순서대로 backfill.parallelism 개씩 실행)
+     *
+     * @throws CustomException 실행기가 종료된 경우
+     */
+    public void submitBackfill(Runnable dayJob) {
+        try {
+            backfillExecutor.execute(dayJob);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException("Reward can't be requested", "리워드 지급 작업을 받을 수 없습니다. 잠시 후 다시 요청해 주세요.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        partitionExecutor.shutdownNow();
+        backfillExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.longleg.service;
+
+import com.longleg.exception.CustomException;
+import com.longleg.repository.RewardLeaseJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날짜별 리워드 지급 실행 lease
+ *
+ * 여러 인스턴스 중 lease 를 가진 인스턴스만 해당 날짜의 지급을 실행한다.
+ * 보유 중인 lease 는 주기적으로 갱신(heartbeat)하며, 인스턴스가 죽어 갱신이 끊기면 만료 후 다른 인스턴스가 가져가 재개한다.
+ * 지급 작업은 커밋할 때마다 같은 트랜잭션에서 {@link #fence(LocalDate)}로 lease 를 갱신하므로,
+ * lease 를 잃은 뒤에는 어떤 구간도 커밋되지 않는다.
+ */
+@Slf4j
+@Component
+public class RewardLease {
+
+    private final RewardLeaseJdbcRepository rewardLeaseJdbcRepository;
+    private final String holderId;
+    private final long ttlMillis;
+    private final Set<LocalDate> held = ConcurrentHashMap.newKeySet();
+
+    public RewardLease(RewardLeaseJdbcRepository rewardLeaseJdbcRepository,
+                       @Value("${longleg.reward.lease.holder-id:}") String holderId,
+                       @Value("${longleg.reward.lease.ttl-ms:60000}") long ttlMillis) {
+        this.rewardLeaseJdbcRepository = rewardLeaseJdbcRepository;
+        this.holderId = holderId.isBlank() ? defaultHolderId() : holderId;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * lease 획득 시도 (같은 인스턴스에서 이미 실행 중이면 false)
+     */
+    public boolean tryAcquire(LocalDate requestDate) {
+        if (!held.add(requestDate)) {
+            return false;
+        }
+        boolean acquired = rewardLeaseJdbcRepository.tryAcquire(requestDate, holderId, ttlMillis);
+        if (!acquired) {
+            held.remove(requestDate);
+        }
+        return acquired;
+    }
+
+    /**
+     * 지급 트랜잭션 안에서 lease 를 갱신, 다른 인스턴스에 넘어갔으면 예외로 트랜잭션을 롤백
+     */
+    public void fence(LocalDate requestDate) {
+        if (!rewardLeaseJdbcRepository.renew(requestDate, holderId, ttlMillis)) {
+            throw new CustomException("Reward can't be requested", requestDate + " 일 리워드 지급 lease 를 잃어 지급을 중단합니다.");
+        }
+    }
+
+    public void release(LocalDate requestDate) {
+        held.remove(requestDate);
+        rewardLeaseJdbcRepository.release(requestDate, holderId);
+    }
+
+    /**
+     * 다른 인스턴스를 포함해 만료되지 않은 lease 가 있는지 확인
+     */
+    public boolean isActive(LocalDate requestDate) {
+        return rewardLeaseJdbcRepository.isActive(requestDate);
+    }
+
+    /**
+     * 보유 중인 lease 갱신 (한 구간이 오래 걸려도 만료되지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${longleg.reward.lease.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        for (LocalDate requestDate : held) {
+            if (!rewardLeaseJdbcRepository.renew(requestDate, holderId, ttlMillis)) {
+                log.warn("{} 리워드 지급 lease 를 다른 인스턴스에 빼앗겼습니다.", requestDate);
+            }
+        }
+    }
+
+    public String getHolderId() {
+        return holderId;
+    }
+
+    private static String defaultHolderId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
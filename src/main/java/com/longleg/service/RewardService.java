@@ -1,29 +1,105 @@
 package com.longleg.service;
 
 import com.longleg.entity.RewardHistory;
+import com.longleg.entity.RewardPhase;
 import com.longleg.entity.RewardRequest;
+import com.longleg.entity.RewardStatus;
 import com.longleg.entity.User;
 import com.longleg.entity.Work;
+import com.longleg.entity.WorkActivityProjection;
 import com.longleg.repository.*;
+import com.longleg.dto.RewardPartition;
 import com.longleg.dto.WorkActivityDTO;
 import com.longleg.exception.CustomException;
+import com.longleg.utils.RewardReasonCodec;
+import com.longleg.utils.ScoreAccumulator;
+import com.longleg.utils.TopKSelector;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RewardService {
 
+    /** 작가 지급 점수는 순위별 100, 90, ... 10점이므로 랭킹에 포함할 수 있는 최대 작품 수 */
+    static final int MAX_TOP_K = 10;
+
+    /** 점수(좋아요 * 2 + 조회수) 내림차순, 동점이면 작품 ID 오름차순 */
+    private static final Comparator<WorkActivityProjection> RANKING_ORDER =
+            Comparator.comparingInt((WorkActivityProjection row) -> row.getLikeCount() * 2 + row.getViewCount())
+                    .reversed()
+                    .thenComparing(WorkActivityProjection::getWorkId);
+
     private final RewardRequestRepository rewardRequestRepository;
     private final UserActivityRepository userActivityRepository;
     private final WorkRepository workRepository;
     private final RewardHistoryRepository rewardHistoryRepository;
     private final UserActivityService userActivityService;;
     private final UserRepository userRepository;
+    private final WorkDailyScoreJdbcRepository workDailyScoreJdbcRepository;
+    private final WorkCounterBuffer workCounterBuffer;
+    private final RankingCache rankingCache;
+    private final RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RewardJobExecutor rewardJobExecutor;
+    private final RewardPartitionJdbcRepository rewardPartitionJdbcRepository;
+    private final RewardLease rewardLease;
+    private final UserRewardCache userRewardCache;
+    private final ActivityRollupJdbcRepository activityRollupJdbcRepository;
+
+    /** 이 인스턴스의 실행기에 제출되어 아직 끝나지 않은 지급 요청 ID */
+    private final Set<Long> submittedRequests = ConcurrentHashMap.newKeySet();
+
+    @Value("${longleg.ranking.top-k:10}")
+    private int topK = 10;
+
+    @Value("${longleg.reward.payout.set-based:false}")
+    private boolean setBasedPayout = false;
+
+    @Value("${longleg.reward.distribute.set-based:true}")
+    private boolean setBasedDistribute = true;
+
+    @Value("${longleg.reward.distribute.chunk-size:500}")
+    private int distributeChunkSize = 500;
+
+    @Value("${longleg.reward.payout.chunk-size:1000}")
+    private int payoutChunkSize = 1000;
+
+    @Value("${longleg.reward.payout.resume-on-startup:true}")
+    private boolean resumeOnStartup = true;
+
+    @Value("${longleg.reward.backfill.max-days:31}")
+    private int backfillMaxDays = 31;
+
+    /**
+     * 상위 작품 수 설정 검증 (11위부터는 작가 지급 점수가 0 이하가 되므로 기동을 막음)
+     */
+    @PostConstruct
+    void validateTopK() {
+        if (topK < 1 || topK > MAX_TOP_K) {
+            throw new IllegalStateException("longleg.ranking.top-k 는 1 이상 " + MAX_TOP_K + " 이하여야 합니다. (현재: " + topK + ")");
+        }
+    }
 
     /**
      * 특정 날짜의 상위 10개 작품을 기반으로 리워드를 계산하는 메서드
@@ -43,36 +119,453 @@ public class RewardService {
 
     /**
      * 리워드 지급 요청을 처리하는 메서드
+     *
+     * 지급은 랭킹 저장 → 작가 내역 생성 → 소비자 내역 생성 → 잔액 반영 단계로 나눠 진행하며,
+     * 단계(소비자 내역 / 잔액 반영은 ID 구간)마다 작업과 체크포인트를 한 트랜잭션으로 커밋한다.
+     * 실패한(FAILED) 날짜를 다시 요청하면 새로 시작하지 않고 마지막 체크포인트부터 재개한다.
+     * 날짜별 lease 를 가진 인스턴스만 지급을 실행하므로 여러 인스턴스에서 같은 날짜를 동시에 지급하지 않는다.
      */
-    @Transactional
     public Map<String, Object> rewardExecute(LocalDate rewardDate) {
 
+        RewardRequest request = prepareRewardRequest(rewardDate);
+
+        List<WorkActivityDTO> topWorks = runPayout(request);
+
+        return createResponse("Reward request completed.", rewardDate, "COMPLETE" ,topWorks);
+    }
+
+    /**
+     * 기간 내 지급이 끝나지 않은 날짜를 오래된 날짜부터 일괄 접수하는 메서드
+     *
+     * 날짜마다 지급 요청을 만들거나(실패한 요청은 재사용) backfill 실행기에 넣고 바로 반환하며,
+     * 지급은 {@link #submitRewardExecute(LocalDate)}와 같은 규칙(lease, 체크포인트 재개)으로 진행된다.
+     * 동시에 지급하는 날짜 수는 backfill.parallelism 으로 제한하며, 날짜별 진행 상황은 요청 ID로 조회한다.
+     * 이미 지급이 끝났거나 진행 중인 날짜는 건너뛴다. (실패한 날짜는 마지막 체크포인트부터 재개)
+     *
+     * @return 날짜별 접수 결과(요청 ID, 상태)와 결과별 날짜 수
+     */
+    public Map<String, Object> backfillRewards(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new CustomException("Invalid request", "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (!endDate.isBefore(LocalDate.now())) {
+            throw new CustomException("Reward can't be requested", "요청 당일과 미래 날짜는 선택할 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > backfillMaxDays) {
+            throw new CustomException("Invalid request", "한 번에 최대 " + backfillMaxDays + "일까지 요청할 수 있습니다.");
+        }
+
+        Map<LocalDate, RewardRequest> existing = new HashMap<>();
+        for (RewardRequest request : rewardRequestRepository.findByRequestDateBetweenOrderByRequestDate(startDate, endDate)) {
+            existing.put(request.getRequestDate(), request);
+        }
+
+        // 오래된 날짜부터 실행기에 넣음 (실행기는 넣은 순서대로 실행)
+        List<Map<String, Object>> days = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            RewardRequest request = existing.get(date);
+            if (request == null || request.getStatus() == RewardStatus.FAILED) {
+                days.add(submitBackfillDay(date, request));
+            } else {
+                days.add(skippedDay(request));
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("message", "Reward backfill accepted.");
+        response.put("startDate", startDate.toString());
+        response.put("endDate", endDate.toString());
+        response.put("outcomes", days.stream().collect(Collectors.groupingBy(
+                day -> (String) day.get("outcome"), LinkedHashMap::new, Collectors.counting())));
+        response.put("days", days);
+        return response;
+    }
+
+    /**
+     * backfill 대상 날짜 하나의 지급 요청을 만들고 backfill 실행기에 넣은 뒤 접수 결과를 반환 (접수 실패도 결과로 기록)
+     */
+    private Map<String, Object> submitBackfillDay(LocalDate rewardDate, RewardRequest failed) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("date", rewardDate.toString());
+        try {
+            RewardRequest request = failed != null ? failed : createRewardRequest(rewardDate);
+            submitPayout(request, rewardJobExecutor::submitBackfill);
+            result.put("outcome", "ACCEPTED");
+            result.put("requestId", request.getId());
+            result.put("status", request.getStatus());
+        } catch (CustomException e) {
+            result.put("outcome", "REJECTED");
+            result.put("error", e.getError());
+            result.put("reason", e.getMessage());
+        }
+        return result;
+    }
+
+    private Map<String, Object> skippedDay(RewardRequest request) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("date", request.getRequestDate().toString());
+        result.put("outcome", request.getStatus() == RewardStatus.COMPLETED ? "ALREADY_COMPLETED" : "IN_PROGRESS");
+        result.put("requestId", request.getId());
+        result.put("status", request.getStatus());
+        return result;
+    }
+
+    /**
+     * 리워드 지급 요청을 접수하고 지급 작업 실행기에서 비동기로 처리하는 메서드
+     * 진행 상황은 {@link #getRewardRequestProgress(Long)}로 조회한다.
+     *
+     * @return 접수된 리워드 지급 요청
+     */
+    public RewardRequest submitRewardExecute(LocalDate rewardDate) {
+        RewardRequest request = prepareRewardRequest(rewardDate);
+        try {
+            submitPayout(request);
+        } catch (CustomException e) {
+            // 실행되지 못한 요청은 다시 요청할 수 있도록 실패로 기록
+            request.fail();
+            rewardRequestRepository.save(request);
+            throw e;
+        }
+        return request;
+    }
+
+    /**
+     * 리워드 지급 요청의 진행 상황 (상태, 단계, 처리 건수, 초당 처리 건수) 조회
+     */
+    public Map<String, Object> getRewardRequestProgress(Long rewardRequestId) {
+        RewardRequest request = rewardRequestRepository.findById(rewardRequestId)
+                .orElseThrow(() -> new CustomException("Resource not found", "해당 리워드 지급 요청이 존재하지 않습니다."));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("requestId", request.getId());
+        response.put("requestDate", request.getRequestDate().toString());
+        response.put("status", request.getStatus());
+        response.put("phase", request.getPhase());
+        response.put("checkpoint", request.getCheckpointCursor());
+        long rowsProcessed = request.getRowsProcessed();
+        if (request.getPhase() == RewardPhase.CONSUMER_ALLOCATION && request.getStatus() != RewardStatus.COMPLETED) {
+            // 소비자 단계 처리 건수는 단계가 끝날 때 합산되므로 진행 중에는 파티션별 건수를 더함
+            List<RewardPartition> partitions = rewardPartitionJdbcRepository.findByRequest(request.getId());
+            rowsProcessed += partitions.stream().mapToLong(RewardPartition::rowsProcessed).sum();
+            response.put("partitions", partitions.size());
+            response.put("completedPartitions", partitions.stream().filter(RewardPartition::completed).count());
+        }
+        response.put("rowsProcessed", rowsProcessed);
+        if (request.getStartedAt() != null) {
+            LocalDateTime end = request.getFinishedAt() != null ? request.getFinishedAt() : LocalDateTime.now();
+            long elapsedMillis = Math.max(1, Duration.between(request.getStartedAt(), end).toMillis());
+            response.put("startedAt", request.getStartedAt());
+            response.put("finishedAt", request.getFinishedAt());
+            response.put("elapsedMillis", elapsedMillis);
+            response.put("rowsPerSecond", Math.round(rowsProcessed * 10_000.0 / elapsedMillis) / 10.0);
+        }
+        return response;
+    }
+
+    /**
+     * 지급할 리워드 요청 조회 또는 생성 (실패했던 요청이 있으면 이어서 진행)
+     */
+    private RewardRequest prepareRewardRequest(LocalDate rewardDate) {
         validateRewardRequest(rewardDate);
 
-        List<WorkActivityDTO> topWorks = reasonReward(rewardDate);
+        return rewardRequestRepository.findByRequestDate(rewardDate)
+                .orElseGet(() -> createRewardRequest(rewardDate));
+    }
 
-        // 리워드 지급 요청 저장
-        RewardRequest request = new RewardRequest(rewardDate);
-        rewardRequestRepository.save(request);
-        
+    /**
+     * 리워드 지급 요청 생성
+     * 다른 인스턴스가 같은 날짜를 먼저 생성했으면 request_date 유니크 제약 위반을 중복 요청으로 처리한다.
+     */
+    private RewardRequest createRewardRequest(LocalDate rewardDate) {
+        try {
+            return rewardRequestRepository.save(new RewardRequest(rewardDate));
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException("Reward already requested", rewardDate + " 일은 이미 리워드 지급 요청이 있습니다.");
+        }
+    }
+
+    /**
+     * 기동 시 끝나지 않은(REQUESTED / PROGRESS / FAILED) 지급 요청을 마지막 체크포인트부터 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedPayouts() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        List<RewardRequest> unfinished = rewardRequestRepository.findByStatusInOrderByRequestDate(
+                List.of(RewardStatus.REQUESTED, RewardStatus.PROGRESS, RewardStatus.FAILED));
+        for (RewardRequest request : unfinished) {
+            log.info("{} 리워드 지급 재개 (단계: {}, 체크포인트: {})",
+                    request.getRequestDate(), request.getPhase(), request.getCheckpointCursor());
+            try {
+                submitPayout(request);
+            } catch (CustomException e) {
+                log.warn("{} 리워드 지급 재개 대기열 초과 - 다음 기동 시 재개합니다.", request.getRequestDate());
+            }
+        }
+    }
+
+    /**
+     * 진행 중(REQUESTED / PROGRESS)이지만 lease 가 만료된 지급 요청을 주기적으로 이어받음
+     * 지급하던 인스턴스가 죽으면 heartbeat 가 끊겨 lease 가 만료되고, 살아 있는 인스턴스 중 하나가 재개한다.
+     */
+    @Scheduled(initialDelayString = "${longleg.reward.lease.recovery-interval-ms:60000}",
+            fixedDelayString = "${longleg.reward.lease.recovery-interval-ms:60000}")
+    public void recoverOrphanedPayouts() {
+        List<RewardRequest> inProgress = rewardRequestRepository.findByStatusInOrderByRequestDate(
+                List.of(RewardStatus.REQUESTED, RewardStatus.PROGRESS));
+        for (RewardRequest request : inProgress) {
+            if (submittedRequests.contains(request.getId()) || rewardLease.isActive(request.getRequestDate())) {
+                continue;
+            }
+            log.info("{} 리워드 지급 lease 만료 - 이어서 진행합니다. (단계: {}, 체크포인트: {})",
+                    request.getRequestDate(), request.getPhase(), request.getCheckpointCursor());
+            try {
+                submitPayout(request);
+            } catch (CustomException e) {
+                log.warn("{} 리워드 지급 재개 대기열 초과 - 다음 주기에 재시도합니다.", request.getRequestDate());
+            }
+        }
+    }
+
+    /**
+     * 지급 작업을 실행기에 제출 (이 인스턴스에 이미 제출된 요청은 다시 제출하지 않음)
+     */
+    private void submitPayout(RewardRequest request) {
+        submitPayout(request, rewardJobExecutor::submit);
+    }
+
+    private void submitPayout(RewardRequest request, Consumer<Runnable> executor) {
+        Long requestId = request.getId();
+        if (!submittedRequests.add(requestId)) {
+            return;
+        }
+        try {
+            executor.accept(() -> {
+                try {
+                    runPayoutAndLog(request);
+                } finally {
+                    submittedRequests.remove(requestId);
+                }
+            });
+        } catch (CustomException e) {
+            submittedRequests.remove(requestId);
+            throw e;
+        }
+    }
+
+    /**
+     * 실행기에서 실행할 지급 작업 (실패는 요청에 FAILED 로 기록되므로 로그만 남김)
+     */
+    void runPayoutAndLog(RewardRequest request) {
+        try {
+            runPayout(request);
+        } catch (RuntimeException e) {
+            log.error("{} 리워드 지급 실패 (단계: {})", request.getRequestDate(), request.getPhase(), e);
+        }
+    }
+
+    /**
+     * 지급 요청을 끝난 단계는 건너뛰고 마지막 체크포인트부터 끝까지 진행
+     * 실패하면 마지막으로 커밋된 체크포인트를 유지한 채 FAILED 로 기록한다.
+     *
+     * 날짜별 lease 를 얻은 뒤 다른 인스턴스가 진행했을 수 있는 체크포인트를 DB에서 다시 읽어 이어서 진행하고,
+     * 끝나면(실패 포함) lease 를 반납한다.
+     *
+     * @return 지급 기준 랭킹
+     */
+    List<WorkActivityDTO> runPayout(RewardRequest submitted) {
+        LocalDate rewardDate = submitted.getRequestDate();
+        if (!rewardLease.tryAcquire(rewardDate)) {
+            throw new CustomException("Reward already requested", "다른 곳에서 리워드 지급이 진행 중인 날짜입니다.");
+        }
+        try {
+            RewardRequest request = rewardRequestRepository.findById(submitted.getId()).orElse(submitted);
+            if (request.getStatus() == RewardStatus.COMPLETED) {
+                // lease 를 기다리는 사이 다른 인스턴스가 지급을 마침
+                return reasonReward(rewardDate);
+            }
+            return runPayoutUnderLease(request);
+        } finally {
+            rewardLease.release(rewardDate);
+        }
+    }
+
+    private List<WorkActivityDTO> runPayoutUnderLease(RewardRequest request) {
         //리워드 지급 진행중
         request.startProcessing();
         rewardRequestRepository.save(request);
 
-        allocateAuthorRewards(request, topWorks);
+        try {
+            List<WorkActivityDTO> topWorks = runRankingPhase(request);
+            runAuthorAllocationPhase(request, topWorks);
+            runConsumerAllocationPhase(request, topWorks);
+            runBalanceApplicationPhase(request);
+
+            //랭킹 지급 계산 후 지급 요청건에 대한 상태값 변경
+            request.complete();
+            rewardRequestRepository.save(request);
+            return topWorks;
+        } catch (RuntimeException e) {
+            markFailedUnderLease(request);
+            throw e;
+        }
+    }
 
-        // 유저 ID별 점수를 저장할 Map (userId -> score)
-        List<Map<String, Object>> userScoreList = distributeAuthorRankingRewards(topWorks, rewardDate);
+    /**
+     * 실패 처리도 lease 를 확인한 트랜잭션에서 기록
+     * lease 를 잃었으면 이어서 진행 중인 다른 인스턴스의 상태를 FAILED 로 덮어쓰지 않도록 기록하지 않는다.
+     */
+    private void markFailedUnderLease(RewardRequest request) {
+        try {
+            transactionTemplate.execute(status -> {
+                rewardLease.fence(request.getRequestDate());
+                // 롤백된 구간의 체크포인트가 남지 않도록 DB에 커밋된 상태를 기준으로 실패 처리
+                RewardRequest committed = rewardRequestRepository.findById(request.getId()).orElse(request);
+                committed.fail();
+                return rewardRequestRepository.save(committed);
+            });
+        } catch (CustomException leaseLost) {
+            log.warn("{} 리워드 지급 lease 를 잃어 실패 상태를 기록하지 않습니다.", request.getRequestDate());
+        }
+    }
 
-        distributeConsumerRankingRewards(request, userScoreList);
+    private List<WorkActivityDTO> runRankingPhase(RewardRequest request) {
+        if (request.hasCompleted(RewardPhase.RANKING)) {
+            // 요청과 함께 저장된 지급 랭킹을 랭킹 캐시로 다시 읽음
+            return reasonReward(request.getRequestDate());
+        }
+        // 일자별 점수(work_daily_score)는 버퍼 반영 시점에 따라 원본 활동과 어긋날 수 있으므로,
+        // 랭킹을 저장하기 전에 지급 날짜의 점수를 user_activity 원본으로 다시 생성 (어느 경로로 실행되든 lease 를 가진 채 한 번)
+        int rebuiltWorks = rebuildDailyScores(request.getRequestDate());
+        log.info("{} 리워드 지급 전 일자별 점수 재생성 ({}개 작품)", request.getRequestDate(), rebuiltWorks);
+        List<WorkActivityDTO> topWorks = reasonReward(request.getRequestDate());
+        commitWithCheckpoint(request, () -> {
+            // 지급 기준 랭킹을 요청과 함께 저장 (재기동 후에도 랭킹 캐시로 사용)
+            rankingCache.persist(request, topWorks);
+            request.addProcessedRows(topWorks.size());
+            request.advanceTo(RewardPhase.AUTHOR_ALLOCATION);
+        });
+        return topWorks;
+    }
 
-        distributeRewards(request.getId());
+    private void runAuthorAllocationPhase(RewardRequest request, List<WorkActivityDTO> topWorks) {
+        if (request.hasCompleted(RewardPhase.AUTHOR_ALLOCATION)) {
+            return;
+        }
+        commitWithCheckpoint(request, () -> {
+            if (setBasedPayout) {
+                request.addProcessedRows(rewardHistoryJdbcRepository.insertAuthorRewards(request.getId()));
+            } else {
+                allocateAuthorRewards(request, topWorks);
+                request.addProcessedRows(topWorks.size());
+            }
+            request.advanceTo(RewardPhase.CONSUMER_ALLOCATION);
+        });
+    }
 
-        //랭킹 지급 계산 후 지급 요청건에 대한 상태값 변경
-        request.complete();
-        rewardRequestRepository.save(request);
+    private void runConsumerAllocationPhase(RewardRequest request, List<WorkActivityDTO> topWorks) {
+        if (request.hasCompleted(RewardPhase.CONSUMER_ALLOCATION)) {
+            return;
+        }
+        if (!setBasedPayout) {
+            // 건별 저장은 사용자별 점수를 모두 모은 뒤 저장하므로 한 트랜잭션으로 처리
+            commitWithCheckpoint(request, () -> {
+                // 유저 ID별 점수 (userId -> score)
+                ScoreAccumulator userScores = distributeAuthorRankingRewards(topWorks, request.getRequestDate());
+
+                distributeConsumerRankingRewards(request, userScores);
+                // 지급 사유는 저장된 내역에 조건 충족 작품을 한 문장으로 기록
+                rewardHistoryRepository.flush();
+                rewardHistoryJdbcRepository.updateConsumerRewardReasons(request.getId(), request.getRequestDate());
+                request.addProcessedRows(userScores.size());
+                request.advanceTo(RewardPhase.BALANCE_APPLICATION);
+            });
+            return;
+        }
 
-        return createResponse("Reward request completed.", rewardDate, "COMPLETE" ,topWorks);
+        // 사용자 ID 범위를 파티션으로 나눠 작업자마다 자신의 트랜잭션으로 처리 (완료된 파티션은 건너뜀)
+        List<RewardPartition> partitions = rewardPartitionJdbcRepository.findByRequest(request.getId());
+        if (partitions.isEmpty()) {
+            partitions = createConsumerPartitions(request);
+        }
+        List<Runnable> pendingPartitions = partitions.stream()
+                .filter(partition -> !partition.completed())
+                .map(partition -> (Runnable) () -> runConsumerPartition(request, partition))
+                .toList();
+        rewardJobExecutor.runAll(pendingPartitions);
+
+        // 모든 파티션이 끝나면 처리 건수를 요청에 합산하고 다음 단계로
+        commitWithCheckpoint(request, () -> {
+            request.addProcessedRows(rewardPartitionJdbcRepository.sumRowsProcessed(request.getId()));
+            request.advanceTo(RewardPhase.BALANCE_APPLICATION);
+        });
+    }
+
+    /**
+     * 소비자 내역 생성 대상 사용자 ID 범위를 같은 폭의 구간으로 나눠 저장
+     */
+    private List<RewardPartition> createConsumerPartitions(RewardRequest request) {
+        long[] range = rewardHistoryJdbcRepository.findConsumerIdRange(request.getId(), request.getRequestDate());
+        if (range == null) {
+            return List.of();
+        }
+        long lower = range[0] - 1;
+        long upper = range[1];
+        long width = Math.max(1, (upper - lower + rewardJobExecutor.getPartitionCount() - 1) / rewardJobExecutor.getPartitionCount());
+
+        List<RewardPartition> partitions = new ArrayList<>();
+        for (long from = lower; from < upper; from += width) {
+            partitions.add(RewardPartition.of(partitions.size(), from, Math.min(upper, from + width)));
+        }
+        transactionTemplate.executeWithoutResult(status -> rewardPartitionJdbcRepository.createAll(request.getId(), partitions));
+        return partitions;
+    }
+
+    /**
+     * 파티션 구간을 chunk 단위로 처리 (내역 생성과 파티션 체크포인트를 한 트랜잭션으로 커밋)
+     * 체크포인트 다음부터 이어서 처리하므로 실패한 파티션만 다시 실행해도 중복 지급되지 않는다.
+     */
+    private void runConsumerPartition(RewardRequest request, RewardPartition partition) {
+        long cursor = partition.checkpointCursor();
+        Long upTo;
+        while ((upTo = rewardHistoryJdbcRepository.findNextConsumerBound(request.getId(), request.getRequestDate(),
+                cursor, partition.upperBound(), payoutChunkSize)) != null) {
+            long afterUserId = cursor;
+            long upToUserId = upTo;
+            transactionTemplate.executeWithoutResult(status -> {
+                int rows = rewardHistoryJdbcRepository.insertConsumerRewards(
+                        request.getId(), request.getRequestDate(), afterUserId, upToUserId);
+                rewardPartitionJdbcRepository.checkpoint(request.getId(), partition.partitionNo(), upToUserId, rows);
+                rewardLease.fence(request.getRequestDate());
+            });
+            cursor = upToUserId;
+        }
+        rewardPartitionJdbcRepository.complete(request.getId(), partition.partitionNo());
+    }
+
+    private void runBalanceApplicationPhase(RewardRequest request) {
+        // 구간마다 지급 완료 처리까지 함께 커밋하므로 남은 미지급 내역이 곧 재개 지점
+        Long upTo;
+        while ((upTo = rewardHistoryJdbcRepository.findNextUnpaidReceiverBound(request.getId(), payoutChunkSize)) != null) {
+            long maxReceiverId = upTo;
+            commitWithCheckpoint(request, () -> {
+                request.addProcessedRows(distributeRewards(request.getId(), maxReceiverId));
+                request.checkpoint(maxReceiverId);
+            });
+        }
+    }
+
+    /**
+     * 작업과 요청의 체크포인트 갱신을 한 트랜잭션으로 커밋
+     * 같은 트랜잭션에서 lease 를 갱신하므로 lease 를 잃었으면 작업 전체가 롤백된다.
+     */
+    private void commitWithCheckpoint(RewardRequest request, Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> {
+            work.run();
+            rewardRequestRepository.save(request);
+            rewardLease.fence(request.getRequestDate());
+        });
     }
 
     /**
@@ -89,6 +582,7 @@ public class RewardService {
     @Transactional
     public void allocateAuthorRewards(RewardRequest request, List<WorkActivityDTO> topWorks){
         int score = 100;
+        int rank = 1;
         for (WorkActivityDTO workActivityDTO : topWorks) {
 
             // 1. 작품 정보 조회 (workId가 유효한지 확인)
@@ -102,8 +596,10 @@ public class RewardService {
             RewardRequest rewardRequest = rewardRequestRepository.findById(request.getId())
                     .orElseThrow(() -> new CustomException("Resource not found","리워드 지급 요청을 찾을 수 없습니다."));
 
-            // 4. `RewardHistory` 객체 생성 및 저장
-            RewardHistory history = new RewardHistory(rewardRequest, author, work, score);
+            // 4. `RewardHistory` 객체 생성 및 저장 (지급 사유: 해당 작품의 순위)
+            String reason = RewardReasonCodec.encode(List.of(new WorkActivityDTO(workActivityDTO.getWorkId(),
+                    workActivityDTO.getLikeCount(), workActivityDTO.getViewCount(), rank++, null)));
+            RewardHistory history = new RewardHistory(rewardRequest, author, work, score, reason);
             score = score-10;
             rewardHistoryRepository.save(history);
 
@@ -115,115 +611,162 @@ public class RewardService {
      * 사용자 랭킹 리워드를 계산하는 메소드
      *
      * 상위 작품 리스트(topWorks) 각 작품의 정보를 조회
-     * 해당 작품(workId)과 연관된 사용자(기여자) 목록을 조회
-     * 조회된 사용자(userId)에 대해 보상 점수를 계산하여 userScoreList에 저장
-     * 동일 사용자(userId)가 이미 존재하는 경우, 점수를 누적하여 업데이트
-     * 최종적으로 각 사용자(userId)별 보상 점수를 포함한 리스트(userScoreList)를 반환
+     * 상위 작품 전체의 조건 충족 사용자(기여자)를 한 번의 쿼리로 조회
+     * 조회된 사용자(userId)마다 조건을 충족한 작품 수만큼 점수를 누적
+     * 최종적으로 각 사용자(userId)별 보상 점수를 담은 누적기를 반환
      *
      * @param topWorks 상위 랭킹에 포함된 작품 리스트 (WorkActivityDTO)
-     * @return 각 사용자(userId)별 보상 점수를 포함한 리스트
+     * @return 각 사용자(userId)별 보상 점수 (userId -> score)
      */
     @Transactional
-    public  List<Map<String, Object>> distributeAuthorRankingRewards(List<WorkActivityDTO> topWorks,LocalDate rewardDate ) {
-        List<Map<String, Object>> userScoreList = new ArrayList<>();
+    public ScoreAccumulator distributeAuthorRankingRewards(List<WorkActivityDTO> topWorks, LocalDate rewardDate) {
+        List<Long> workIds = topWorks.stream().map(WorkActivityDTO::getWorkId).toList();
+        Map<Long, Set<Long>> qualifiedByWork = userActivityService.getQualifiedUsersByWork(workIds, rewardDate);
+
+        int pairs = qualifiedByWork.values().stream().mapToInt(Set::size).sum();
+        ScoreAccumulator userScores = new ScoreAccumulator(pairs);
         for (WorkActivityDTO workActivityDTO : topWorks) {
             // 1. 작품 정보 조회 (workId가 유효한지 확인)
-            Work work = workRepository.findById(workActivityDTO.getWorkId())
+            workRepository.findById(workActivityDTO.getWorkId())
                     .orElseThrow(() -> new CustomException("Resource not found","해당 작품이 존재하지 않습니다."));
 
-            List<Long> userIds = userActivityService.getQualifiedUsers(work.getId(), rewardDate);
-
-            for (Long userId : userIds) {
-                boolean found = false;
-
-                // 기존에 존재하는 값이 있는지 확인
-                for (Map<String, Object> entry : userScoreList) {
-                    if (entry.get("userId").equals(userId)) {
-                        entry.put("currentScore", (Integer) entry.get("currentScore") + 1);
-                        found = true;
-                        break;
-                    }
-                }
-
-                // 없으면 새로 추가
-                if (!found) {
-                    Map<String, Object> entry = new HashMap<>();
-                    entry.put("workId", work.getId());
-                    entry.put("userId", userId);
-                    entry.put("currentScore", 1);
-                    userScoreList.add(entry);
-                }
+            // 2. 조건을 충족한 작품마다 1점씩 누적
+            for (Long userId : qualifiedByWork.getOrDefault(workActivityDTO.getWorkId(), Set.of())) {
+                userScores.increment(userId);
             }
         }
-        return userScoreList;
+        return userScores;
     }
 
     /**
      * 소비자 랭킹 리워드를 지급하는 메소드
      *
-     * userScoreList를 순회하며 각 소비자(userId)의 점수를 확인
+     * userScores를 순회하며 각 소비자(userId)의 점수를 확인
      * userId에 해당하는 소비자 정보를 조회
      * reward_history 테이블에 보상 내역을 저장
      *
-     * @param request       현재 지급할 리워드 요청 정보 (RewardRequest)
-     * @param userScoreList 소비자 ID(userId)와 해당 사용자의 점수(currentScore)가 포함된 리스트
+     * @param request    현재 지급할 리워드 요청 정보 (RewardRequest)
+     * @param userScores 소비자 ID(userId)별 점수
      */
     @Transactional
-    public void distributeConsumerRankingRewards(RewardRequest request, List<Map<String, Object>> userScoreList) {
-        for (Map<String, Object> entry : userScoreList) {
-            Long userId = ((Number) entry.get("userId")).longValue();
-            int userScore = ((Number) entry.get("currentScore")).intValue();
-
+    public void distributeConsumerRankingRewards(RewardRequest request, ScoreAccumulator userScores) {
+        userScores.forEach((userId, userScore) -> {
             User consumer = userRepository.findById(userId)
                     .orElseThrow(() -> new CustomException("Resource not found", "해당 소비자가 존재하지 않습니다."));
 
             RewardHistory history = new RewardHistory(request, consumer, null, userScore);
             rewardHistoryRepository.save(history);
-        }
+        });
     }
 
     /**
      * 특정 rewardRequestId에 해당하는 사용자들에게 리워드를 지급하는 메소드
+     */
+    @Transactional
+    public int distributeRewards(Long rewardRequestId) {
+        return distributeRewards(rewardRequestId, Long.MAX_VALUE);
+    }
+
+    /**
+     * 특정 rewardRequestId에 해당하는 수령자 ID maxReceiverId 이하 사용자들에게 리워드를 지급하는 메소드
      *
-     * 특정 rewardRequestId에 해당하는 미지급 보상을 조회
-     * 조회된 사용자(userId)의 reward 값을 업데이트
-     * 해당 보상이 지급되었음을 기록하기 위해 reward_history의 total_paid 값을 true로 변경
+     * 미지급 보상을 수령자별로 합산하여 reward 값에 한 번에 반영 (MERGE)
+     * MERGE 를 쓸 수 없는 DB는 설정에 따라 합산 결과를 chunk 단위 JDBC 배치로 반영
+     * 같은 구간의 reward_history total_paid 값을 한 문장으로 true로 변경
      *
      * @param rewardRequestId 지급할 리워드 요청 ID
+     * @param maxReceiverId   이번에 지급할 수령자 ID 상한 (포함)
+     * @return 지급 완료 처리된 reward_history 건수
      */
     @Transactional
-    public void distributeRewards(Long rewardRequestId) {
-        // 1. 특정 rewardRequestId에 해당하는 미지급 보상 조회
-        List<Object[]> unpaidRewards = rewardHistoryRepository.findUnpaidRewardsByRequest(rewardRequestId);
-
-        for (Object[] record : unpaidRewards) {
-            Long userId = ((Number) record[0]).longValue();
-            int totalPoints = ((Number) record[1]).intValue();
+    public int distributeRewards(Long rewardRequestId, long maxReceiverId) {
+        // 1. JPA로 저장한 내역이 쓰기 지연 상태일 수 있으므로 JDBC 반영 전에 flush
+        rewardHistoryRepository.flush();
+        List<Long> receivers = rewardHistoryJdbcRepository.findUnpaidReceivers(rewardRequestId, maxReceiverId);
+
+        // 2. 수령자별 합산 점수를 사용자 reward 값에 반영
+        if (setBasedDistribute) {
+            rewardHistoryJdbcRepository.creditUnpaidRewards(rewardRequestId, maxReceiverId);
+        } else {
+            List<Object[]> unpaidRewards = rewardHistoryRepository.findUnpaidRewardsByRequest(rewardRequestId, maxReceiverId);
+            rewardHistoryJdbcRepository.creditRewardsInChunks(unpaidRewards, distributeChunkSize);
+        }
 
-            // 2. 사용자의 reward 값 업데이트
-            userRepository.updateUserReward(userId, totalPoints);
+        // 3. 같은 구간의 reward_history 기록을 paid 처리
+        int paid = rewardHistoryJdbcRepository.markPaid(rewardRequestId, maxReceiverId);
 
-            // 3. 해당 유저의 reward_history 기록을 paid 처리
-            rewardHistoryRepository.markAsPaid(userId, rewardRequestId);
-        }
+        // 4. 반영된 수령자의 리워드 내역 응답 캐시를 커밋 후 제거
+        userRewardCache.invalidateAfterCommit(receivers);
+        return paid;
     }
 
     /**
-     * 특정 날짜의 상위 10개 작품을 정렬하여 저장
+     * 특정 날짜의 상위 K개 작품을 정렬하여 저장
+     *
+     * 일자별 점수 테이블(work_daily_score)에서 인덱스 순서대로 읽고,
+     * 해당 날짜의 점수가 없으면 (테이블 도입 전 데이터 등) 원본 활동 기록을 집계한다.
+     * 원본 집계 결과는 전체 정렬 대신 크기 K의 힙으로 상위만 고른다. (동점이면 작품 ID 순)
+     * 오늘 이전 날짜는 랭킹 캐시를 거친다. (지급 전 날짜의 계산 결과는 짧은 시간만 보관)
      */
     public List<WorkActivityDTO> reasonReward(LocalDate rewardDate) {
-        // 작품별 활동 데이터 조회 후 DTO 변환
-        List<WorkActivityDTO> rankedWorks = Optional.ofNullable(userActivityRepository.getWorkActivityCounts(rewardDate))
-                .orElseThrow(() -> new CustomException("Resource not found","활동 데이터 조회 결과가 null입니다.")) // ✅ null 체크
-                .stream()
+        if (rewardDate.isBefore(LocalDate.now())) {
+            return rankingCache.get(rewardDate, this::computeRanking);
+        }
+        return computeRanking(rewardDate);
+    }
+
+    private List<WorkActivityDTO> computeRanking(LocalDate rewardDate) {
+        List<WorkActivityDTO> scoredWorks = workDailyScoreJdbcRepository.findTop(rewardDate, topK);
+        if (!scoredWorks.isEmpty()) {
+            return scoredWorks;
+        }
+
+        // 작품별 활동 데이터를 스트림으로 읽으며 상위 K개만 유지 (전체 집계 결과를 메모리에 올리지 않음)
+        TopKSelector<WorkActivityProjection> selector = new TopKSelector<>(topK, RANKING_ORDER);
+        readOnlyTransaction().executeWithoutResult(status -> {
+            try (Stream<WorkActivityProjection> rows = Optional.ofNullable(userActivityRepository.getWorkActivityCounts(rewardDate))
+                    .orElseThrow(() -> new CustomException("Resource not found","활동 데이터 조회 결과가 null입니다."))) { // ✅ null 체크
+                rows.forEach(selector::offer);
+            }
+        });
+
+        // DTO 변환
+
+        return selector.toSortedList().stream()
                 .map(row -> new WorkActivityDTO(row.getWorkId(), row.getLikeCount(), row.getViewCount(), row.getUserId()))
-                .sorted(Comparator.comparingInt(WorkActivityDTO::getScore).reversed()) // 점수 기준 내림차순 정렬
                 .toList();
+    }
 
-        // 상위 10개만 선택
-        List<WorkActivityDTO> topWorks = rankedWorks.stream().limit(10).toList();
+    /**
+     * 스트림 조회는 결과를 다 읽을 때까지 연결을 유지해야 하므로 읽기 전용 트랜잭션 안에서 실행
+     */
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
 
-        return topWorks;
+    /**
+     * 특정 날짜의 일자별 작품 점수를 원본 활동 기록으로 다시 생성 (복구용)
+     * 아직 활동이 쌓이고 있는 당일과 미래 날짜는 재생성할 수 없다.
+     * 해당 달이 이미 월 버킷으로 합산되었으면 같은 트랜잭션에서 월 버킷도 다시 합산한다.
+     *
+     * @return 점수가 생성된 작품 수
+     */
+    public int rebuildDailyScores(LocalDate scoreDate) {
+        if (!scoreDate.isBefore(LocalDate.now())) {
+            throw new CustomException("Invalid request", "당일과 미래 날짜의 점수는 재생성할 수 없습니다.");
+        }
+        // 자정 직후 아직 반영되지 않은 전날 증가분을 먼저 반영 (재생성 트랜잭션 밖에서 커밋하므로 재생성이 롤백되어도 유지)
+        // 이후 다른 인스턴스나 늦게 커밋된 트랜잭션이 쌓은 같은 날짜의 증가분은 재생성 시각과 비교해 버퍼에서 제외된다.
+        workCounterBuffer.flush();
+        Integer rebuiltWorks = transactionTemplate.execute(status -> {
+            int works = workDailyScoreJdbcRepository.rebuild(scoreDate);
+            activityRollupJdbcRepository.recompactMonth(scoreDate.withDayOfMonth(1));
+            return works;
+        });
+        rankingCache.evict(scoreDate);
+        return rebuiltWorks == null ? 0 : rebuiltWorks;
     }
 
     /**
@@ -236,7 +779,10 @@ public class RewardService {
             throw new CustomException("Reward can't be requested", "요청 당일과 미래 날짜는 선택할 수 없습니다.");
         }
 
-        if (rewardRequestRepository.findByRequestDate(rewardDate).isPresent()) {
+        // 실패한 요청은 재개할 수 있도록 허용
+        if (rewardRequestRepository.findByRequestDate(rewardDate)
+                .filter(request -> request.getStatus() != RewardStatus.FAILED)
+                .isPresent()) {
             throw new CustomException("Reward already requested", rewardDate + " 일은 이미 리워드 지급 요청이 있습니다.");
         }
     }
@@ -1,11 +1,17 @@
 package com.longleg.service;
 
+import com.longleg.entity.QualifiedUserProjection;
 import com.longleg.repository.UserActivityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class UserActivityService {
@@ -20,4 +26,19 @@ public class UserActivityService {
     public List<Long> getQualifiedUsers(Long workId, LocalDate rewardDate) {
         return userActivityRepository.findQualifiedUserIds(workId, rewardDate);
     }
+
+    /**
+     * 여러 작품의 조건 충족 사용자를 한 번의 쿼리로 조회 (작품 ID -> 사용자 ID 집합)
+     * 충족한 사용자가 없는 작품은 결과에 포함되지 않는다.
+     */
+    public Map<Long, Set<Long>> getQualifiedUsersByWork(Collection<Long> workIds, LocalDate rewardDate) {
+        Map<Long, Set<Long>> qualifiedByWork = new LinkedHashMap<>();
+        if (workIds.isEmpty()) {
+            return qualifiedByWork;
+        }
+        for (QualifiedUserProjection pair : userActivityRepository.findQualifiedUserPairs(workIds, rewardDate)) {
+            qualifiedByWork.computeIfAbsent(pair.getWorkId(), id -> new LinkedHashSet<>()).add(pair.getUserId());
+        }
+        return qualifiedByWork;
+    }
 }
@@ -0,0 +1,95 @@
+package com.longleg.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자별 리워드 내역 응답(/users/{id}) 캐시
+ *
+ * 리워드 내역과 잔액은 지급(잔액 반영) 시에만 바뀌므로 만든 응답을 사용자별로 보관하고,
+ * 지급 단계가 반영한 수령자만 커밋 후 한 번에 제거한다. (최대 사용자 수 / 만료 시간으로 크기 제한)
+ * 응답을 JSON 으로 직렬화한 바이트의 해시를 strong ETag 로 함께 보관해 If-None-Match 재검증에 쓴다.
+ * 적중률은 cache.gets {cache=user-reward} 지표로 노출된다.
+ */
+@Component
+public class UserRewardCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Summary> cache;
+
+    public UserRewardCache(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${longleg.user-reward.cache.max-users:100000}") long maxUsers,
+                           @Value("${longleg.user-reward.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-reward");
+    }
+
+    /**
+     * 캐시된 응답 반환, 없으면 만들어서 ETag 와 함께 보관
+     */
+    public Summary get(Long userId, Function<Long, Map<String, Object>> load) {
+        return cache.get(userId, id -> {
+            Map<String, Object> body = load.apply(id);
+            return new Summary(body, etagOf(body));
+        });
+    }
+
+    /**
+     * 수령자들의 응답을 제거 (트랜잭션 중이면 커밋 후에 제거해 커밋 전 상태가 다시 캐시되지 않도록 함)
+     */
+    public void invalidateAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        } else {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private String etagOf(Map<String, Object> body) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리워드 내역 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 사용자별 리워드 내역 응답과 ETag
+     */
+    public record Summary(Map<String, Object> body, String etag) {
+    }
+}
@@ -1,34 +1,39 @@
 package com.longleg.service;
 
 import com.longleg.dto.RewardHistoryDTO;
-import com.longleg.dto.WorkActivityDTO;
 import com.longleg.entity.RewardHistory;
-import com.longleg.entity.User;
-import com.longleg.entity.Work;
 import com.longleg.exception.CustomException;
 import com.longleg.repository.RewardHistoryRepository;
-import com.longleg.repository.UserActivityRepository;
 import com.longleg.repository.UserRepository;
-import com.longleg.repository.WorkRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
-    private final RewardHistoryRepository rewardHistoryRepository;
-    private final UserActivityRepository userActivityRepository;
+    private static final int MAX_PAGE_SIZE = 100;
 
+    private final RewardHistoryRepository rewardHistoryRepository;
     private final UserRepository userRepository;
-    private final UserActivityService userActivityService;
-    private final WorkRepository workRepository;
-    private final RewardService rewardService;
+    private final UserRewardCache userRewardCache;
+
+    /**
+     * 특정 사용자의 리워드 내역 응답을 ETag 와 함께 반환하는 메서드
+     * 지급으로 내역이 바뀌기 전까지는 캐시된 응답을 그대로 반환한다.
+     */
+    public UserRewardCache.Summary getUserRewardSummary(Long id) {
+        return userRewardCache.get(id, this::getUserReward);
+    }
 
     /**
      * 특정 사용자의 리워드 내역을 조회하여 지급 사유를 포함한 정보를 반환하는 메서드
+     *
+     * 지급 사유(기여한 상위 작품과 순위)는 지급 시점에 내역과 함께 저장되므로 날짜별 랭킹을 다시 계산하지 않는다.
      */
     public Map<String, Object> getUserReward(Long id) {
         Map<String, Object> response = new HashMap<>();
@@ -46,61 +51,53 @@ public class UserService {
                 })
                 .toList();
 
-        // 리워드 내역을 가공하여 최종 반환할 리스트
-        List<RewardHistoryDTO> rewardHistories1 = new ArrayList<>();
-        for (RewardHistoryDTO rewardHistoryDTO : rewardHistories) {
-            LocalDate rewardDate = rewardHistoryDTO.getRequestDate();
-
-            // 해당 지급 요청 날짜에 대한 상위 작품 활동 데이터 조회
-            List<WorkActivityDTO> topWorks = rewardService.reasonReward(rewardDate);
-
-            List<WorkActivityDTO> reason = new ArrayList<>();
-            int rank = 1;
-            for (WorkActivityDTO workActivityDTO : topWorks) {
-                workActivityDTO.setRank(rank);
-
-                // 사용자 정보를 조회 (예외 발생 가능)
-                User user = userRepository.findById(id)
-                        .orElseThrow(() -> new CustomException("Resource not found","해당 사용자를 찾을 수 없습니다."));
-
-                // 작품 정보를 조회 (예외 발생 가능)
-                Work work = workRepository.findById(workActivityDTO.getWorkId())
-                        .orElseThrow(() -> new CustomException("Resource not found","해당 작품을 찾을 수 없습니다."));
+        response.put("rewards", rewardHistories); // 원하는 키
+        response.put("totalCount", rewardHistories.size()); // 총 개수 추가
 
-                if (user.getUserRole().toString().equals("AUTHOR")) {
-                    /*사용자가 작가(Author)인 경우
-                    * 자신의 작품에 대해서 지급사유를 저장
-                    * */
-                    if (work.getAuthor().getId().equals(id)){
-                        reason.add(workActivityDTO);
-                        rewardHistoryDTO.setRewardReason(reason);
-                        rewardHistories1.add(rewardHistoryDTO);
-                        break;
-                    }
-                }else {
+        return response;
+    }
 
-                    /*
-                     * 사용자가 일반 소비자인 경우
-                     * 특정 작품에서 조건을 충족한 사용자인지 확인
-                     * (좋아요 / 조회수)
-                     */
-                    List<Long> userIds = userActivityService.getQualifiedUsers(workActivityDTO.getWorkId(), rewardDate);
-                    for (Long userId : userIds) {
-                        if (userId.equals(id)){
-                            reason.add(workActivityDTO);
-                            break;
-                        }
-                    }
-                }
-                rewardHistoryDTO.setRewardReason(reason);
-                rank++;
+    /**
+     * 특정 사용자의 지급 완료된 리워드 내역을 지급 날짜 최신순으로 커서 기반 페이지 조회하는 메서드
+     *
+     * 커서는 마지막으로 받은 내역의 "지급날짜,내역ID" 이며, 다음 페이지가 있으면 nextCursor 로 내려준다.
+     * totalCount 는 내역을 세지 않고 사용자별로 유지되는 지급 완료 내역 수(reward_count)를 사용하므로,
+     * 페이지도 지급 완료 내역만 포함한다. (지급 진행 중인 내역은 잔액 반영과 함께 나타남)
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기 (1 ~ 100)
+     */
+    public Map<String, Object> getUserRewardPage(Long id, String after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomException("Invalid request", "limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        long totalCount = userRepository.findRewardCountById(id)
+                .orElseThrow(() -> new CustomException("Resource not found", "해당 사용자를 찾을 수 없습니다."));
+
+        LocalDate afterDate = LocalDate.of(9999, 12, 31);
+        long afterId = Long.MAX_VALUE;
+        if (after != null && !after.isBlank()) {
+            String[] cursor = after.split(",");
+            try {
+                afterDate = LocalDate.parse(cursor[0].trim());
+                afterId = Long.parseLong(cursor[1].trim());
+            } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new CustomException("Invalid request", "after 는 \"지급날짜,내역ID\" 형식이어야 합니다.");
             }
-            rewardHistories1.add(rewardHistoryDTO);
         }
 
-        response.put("rewards", rewardHistories1); // 원하는 키
-        response.put("totalCount", rewardHistories.size()); // 총 개수 추가
-
+        // 한 건 더 읽어 다음 페이지 여부 판단
+        List<RewardHistoryDTO> rows = rewardHistoryRepository.findPageByReceiverId(id, afterDate, afterId, Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<RewardHistoryDTO> rewards = hasNext ? rows.subList(0, limit) : rows;
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("rewards", rewards);
+        response.put("totalCount", totalCount);
+        if (hasNext) {
+            RewardHistoryDTO last = rewards.get(rewards.size() - 1);
+            response.put("nextCursor", last.getRequestDate() + "," + last.getId());
+        }
         return response;
     }
 }
@@ -0,0 +1,49 @@
+package com.longleg.service;
+
+import com.longleg.repository.UserWorkLikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * user_work_like 초기 적재 작업
+ *
+ * 좋아요 상태 테이블이 비어 있으면 기동 시(요청을 받기 전) 한 번만
+ * 기존 user_activity 의 LIKE / UNLIKE 이력으로 상태를 채운다.
+ */
+@Slf4j
+@Component
+public class UserWorkLikeBackfill implements SmartInitializingSingleton {
+
+    private final UserWorkLikeRepository userWorkLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public UserWorkLikeBackfill(UserWorkLikeRepository userWorkLikeRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${longleg.like-state.backfill-on-startup:true}") boolean enabled) {
+        this.userWorkLikeRepository = userWorkLikeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || userWorkLikeRepository.count() > 0) {
+            return;
+        }
+        int rows = backfill();
+        log.info("좋아요 상태 테이블 초기 적재 완료 ({}건)", rows);
+    }
+
+    /**
+     * user_activity 이력으로 좋아요 상태를 다시 계산하여 반영
+     */
+    public int backfill() {
+        Integer rows = transactionTemplate.execute(status -> userWorkLikeRepository.backfillFromActivity());
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,304 @@
+package com.longleg.service;
+
+import com.longleg.utils.LongLongHashMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 중복 판정용 인메모리 슬라이딩 윈도우 캐시
+ *
+ * (userId, workId) 쌍을 하나의 long 키로 묶어 마지막 기록 시각을 보관한다.
+ * 각 세그먼트는 윈도우 길이만큼의 시간 버킷 두 개(current / previous)를 두고,
+ * 윈도우가 지날 때마다 버킷을 회전시켜 만료된 항목을 통째로 버린다.
+ * 기동 시 최근 1시간의 user_activity 로 채워지므로 중복 판정에 DB를 조회하지 않는다.
+ *
+ * 메모리 상한(maxEntries)에 도달한 세그먼트는 새 키를 받지 않고 {@link Result#UNKNOWN}을 반환하며,
+ * 이 경우 호출 측은 DB 조회로 판정한다.
+ * 트랜잭션 안에서 남긴 기록은 트랜잭션이 롤백되면 되돌려 저장되지 않은 활동을 중복으로 판정하지 않게 한다.
+ * 키는 userId, workId 가 각각 2^32 미만이라는 전제로 묶는다.
+ */
+@Slf4j
+@Component
+public class ViewDedupCache implements SmartInitializingSingleton {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    /** 롤백으로 되돌린 기록의 시각 (어떤 시점에서도 윈도우 밖) */
+    private static final long FORGOTTEN = 0L;
+
+    /** created_at 으로 시작하는 인덱스가 없으므로 activity_date 인덱스로 범위를 좁힌 뒤 시각으로 거름 */
+    private static final String WARM_UP_SQL = """
+            SELECT user_id, work_id, created_at
+            FROM user_activity
+            WHERE activity_date >= ?
+            AND created_at > ?
+            """;
+
+    public enum Result {
+        FIRST_VIEW, // 윈도우 내 첫 기록 (캐시에 기록됨)
+        DUPLICATE,  // 윈도우 내 이미 기록됨
+        UNKNOWN     // 메모리 상한 초과로 판정 불가
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final long windowMillis;
+    private final int maxEntriesPerSegment;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+
+    @Autowired
+    public ViewDedupCache(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${longleg.view.dedup.window-minutes:60}") long windowMinutes,
+                          @Value("${longleg.view.dedup.max-entries:2000000}") int maxEntries) {
+        this(jdbcTemplate, meterRegistry, Clock.systemDefaultZone(), windowMinutes * 60_000L, maxEntries);
+    }
+
+    ViewDedupCache(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, Clock clock,
+                   long windowMillis, int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+        this.maxEntriesPerSegment = Math.max(1, maxEntries / SEGMENT_COUNT);
+        long now = clock.millis();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(now, Math.min(maxEntriesPerSegment, 1 << 12));
+        }
+        registerMetrics(meterRegistry);
+    }
+
+    /**
+     * 기동 시 최근 윈도우의 활동 기록으로 캐시를 채움
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        long now = clock.millis();
+        Timestamp windowStart = new Timestamp(now - windowMillis);
+        try {
+            jdbcTemplate.query(WARM_UP_SQL, rs -> {
+                long seenAt = rs.getTimestamp("created_at").getTime();
+                long key = key(rs.getLong("user_id"), rs.getLong("work_id"));
+                segmentFor(key).warm(key, seenAt, now);
+            }, Date.valueOf(windowStart.toLocalDateTime().toLocalDate()), windowStart);
+        } catch (DataAccessException e) {
+            log.warn("조회 중복 캐시 초기화 실패 - 빈 상태로 시작합니다.", e);
+        }
+        log.info("조회 중복 캐시 초기화 완료 ({}건)", size());
+    }
+
+    /**
+     * 윈도우 내 첫 조회이면 기록하고 FIRST_VIEW, 이미 있으면 DUPLICATE 반환
+     */
+    public Result markViewed(long userId, long workId) {
+        long key = key(userId, workId);
+        long now = clock.millis();
+        Result result = segmentFor(key).markIfAbsent(key, now);
+        switch (result) {
+            case FIRST_VIEW -> {
+                misses.increment();
+                forgetOnRollback(key, now, FORGOTTEN);
+            }
+            case DUPLICATE -> hits.increment();
+            case UNKNOWN -> overflows.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 조회 외 활동(좋아요 등)도 기존 중복 판정 기준에 포함되므로 기록 시각을 현재 시각으로 갱신
+     * (윈도우 안에 이미 기록이 있어도 가장 최근 활동 시각을 기준으로 중복을 판정한다)
+     */
+    public void record(long userId, long workId) {
+        long key = key(userId, workId);
+        long now = clock.millis();
+        long replaced = segmentFor(key).record(key, now);
+        if (replaced != LongLongHashMap.NO_VALUE) {
+            forgetOnRollback(key, now, replaced);
+        }
+    }
+
+    /**
+     * 트랜잭션 중이면 롤백 시 이번 기록을 이전 시각으로 되돌리도록 등록 (트랜잭션별로 한 번만 등록)
+     */
+    private void forgetOnRollback(long key, long seenAt, long restoreTo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<long[]> marked = (List<long[]>) TransactionSynchronizationManager.getResource(this);
+        if (marked == null) {
+            List<long[]> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ViewDedupCache.this);
+                    if (status != STATUS_COMMITTED) {
+                        // 같은 키를 여러 번 갱신했을 수 있으므로 나중 기록부터 되돌림
+                        for (int i = created.size() - 1; i >= 0; i--) {
+                            long[] entry = created.get(i);
+                            segmentFor(entry[0]).forget(entry[0], entry[1], entry[2]);
+                        }
+                    }
+                }
+            });
+            marked = created;
+        }
+        marked.add(new long[]{key, seenAt, restoreTo});
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    public int size() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("view.dedup.hits", this, ViewDedupCache::getHitCount)
+                .description("중복으로 판정된 조회 수").register(meterRegistry);
+        FunctionCounter.builder("view.dedup.misses", this, ViewDedupCache::getMissCount)
+                .description("첫 조회로 판정된 조회 수").register(meterRegistry);
+        FunctionCounter.builder("view.dedup.overflows", this, ViewDedupCache::getOverflowCount)
+                .description("메모리 상한으로 DB 판정에 위임한 조회 수").register(meterRegistry);
+        Gauge.builder("view.dedup.size", this, ViewDedupCache::size)
+                .description("캐시에 보관 중인 (사용자, 작품) 쌍 수").register(meterRegistry);
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) ((key ^ (key >>> 29)) & (SEGMENT_COUNT - 1))];
+    }
+
+    private static long key(long userId, long workId) {
+        return (userId << 32) | (workId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 윈도우 길이의 시간 버킷 두 개로 구성된 세그먼트
+     */
+    private final class Segment {
+
+        private LongLongHashMap current;
+        private LongLongHashMap previous;
+        private long generationStart;
+
+        Segment(long now, int initialSize) {
+            this.current = new LongLongHashMap(initialSize);
+            this.previous = new LongLongHashMap(initialSize);
+            this.generationStart = now;
+        }
+
+        synchronized Result markIfAbsent(long key, long now) {
+            rotate(now);
+            if (isWithinWindow(key, now)) {
+                return Result.DUPLICATE;
+            }
+            if (size() >= maxEntriesPerSegment) {
+                return Result.UNKNOWN;
+            }
+            current.put(key, now);
+            return Result.FIRST_VIEW;
+        }
+
+        /**
+         * 기록 시각을 now 로 갱신하고 롤백 시 되돌릴 이전 시각(없으면 {@link #FORGOTTEN}) 반환
+         * 새 키인데 메모리 상한에 도달했으면 기록하지 않고 {@link LongLongHashMap#NO_VALUE} 반환
+         */
+        synchronized long record(long key, long now) {
+            rotate(now);
+            long replaced = current.get(key);
+            if (replaced == LongLongHashMap.NO_VALUE) {
+                if (size() >= maxEntriesPerSegment) {
+                    return LongLongHashMap.NO_VALUE;
+                }
+                replaced = previous.get(key);
+            }
+            current.put(key, now);
+            return replaced == LongLongHashMap.NO_VALUE ? FORGOTTEN : replaced;
+        }
+
+        /**
+         * 이번 기록이 그대로 남아 있으면 기록 전 시각으로 되돌림 (이후 다른 기록이 있으면 유지)
+         */
+        synchronized void forget(long key, long seenAt, long restoreTo) {
+            if (current.get(key) == seenAt) {
+                current.put(key, restoreTo);
+            } else if (previous.get(key) == seenAt) {
+                previous.put(key, restoreTo);
+            }
+        }
+
+        synchronized void warm(long key, long seenAt, long now) {
+            if (size() >= maxEntriesPerSegment) {
+                return;
+            }
+            if (current.get(key) < seenAt) {
+                current.put(key, seenAt);
+            }
+        }
+
+        synchronized int size() {
+            return current.size() + previous.size();
+        }
+
+        private boolean isWithinWindow(long key, long now) {
+            long seenAt = current.get(key);
+            if (seenAt == LongLongHashMap.NO_VALUE) {
+                seenAt = previous.get(key);
+            }
+            return seenAt != LongLongHashMap.NO_VALUE && now - seenAt < windowMillis;
+        }
+
+        /**
+         * 세대가 윈도우 길이를 넘기면 current 를 previous 로 내리고 가장 오래된 버킷을 비움
+         */
+        private void rotate(long now) {
+            long elapsed = now - generationStart;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            LongLongHashMap expired = previous;
+            expired.clear();
+            if (elapsed >= windowMillis * 2) {
+                current.clear();
+            }
+            previous = current;
+            current = expired;
+            generationStart = now;
+        }
+    }
+}
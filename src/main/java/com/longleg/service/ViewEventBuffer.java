@@ -0,0 +1,202 @@
+package com.longleg.service;
+
+import com.longleg.dto.ActivityEvent;
+import com.longleg.entity.ActivityType;
+import com.longleg.repository.UserActivityJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회(VIEW) 이벤트 write-behind 버퍼
+ *
+ * recordView 에서 접수된 조회 이벤트를 크기가 제한된 큐에 넣고,
+ * 드레이너 스레드가 flushSize 건이 모이거나 flushInterval 이 지나면
+ * user_activity 에 JDBC 배치로 INSERT 한다.
+ * works.view_count 는 접수 시점에 {@link WorkCounterBuffer}로 반영되므로 여기서는 다루지 않는다.
+ *
+ * 큐가 가득 찬 경우 offer 가 false 를 반환하므로 호출 측은 동기 저장으로 처리한다.
+ * 요청 트랜잭션 안에서 접수된 이벤트는 커밋된 뒤에만 큐에 들어가므로 롤백된 조회는 기록되지 않는다.
+ * 중복 조회 판정은 접수 시점에 {@link ViewDedupCache}에 기록되므로 버퍼에 남아 있는 이벤트도 반영된다.
+ */
+@Slf4j
+@Component
+public class ViewEventBuffer {
+
+    private final UserActivityJdbcRepository userActivityJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<ActivityEvent> queue;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public ViewEventBuffer(UserActivityJdbcRepository userActivityJdbcRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${longleg.view.write-behind.enabled:false}") boolean enabled,
+                           @Value("${longleg.view.write-behind.flush-size:500}") int flushSize,
+                           @Value("${longleg.view.write-behind.flush-interval-ms:1000}") long flushIntervalMillis,
+                           @Value("${longleg.view.write-behind.queue-capacity:10000}") int queueCapacity) {
+        this.userActivityJdbcRepository = userActivityJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 후 콜백에서 직접 기록할 때 이미 끝난 요청 트랜잭션에 참여하지 않도록 항상 새 트랜잭션 사용
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.flushSize = flushSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "view-event-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * 종료 시 드레이너를 멈추고 큐에 남은 이벤트를 모두 기록
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            drainer.interrupt();
+            drainer.join(flushIntervalMillis * 2);
+        }
+        flushPending();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회 이벤트를 버퍼에 추가
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에만 큐에 넣고, 롤백되면 버린다. (조회수 증가분과 같은 기준)
+     * 그 사이 큐가 가득 찼으면 커밋 후 콜백에서 바로 기록한다.
+     *
+     * @return write-behind 가 비활성화되어 있거나 큐가 가득 찬 경우 false
+     */
+    public boolean offer(long userId, long workId) {
+        if (!enabled || queue.remainingCapacity() == 0) {
+            return false;
+        }
+        ActivityEvent event = new ActivityEvent(userId, workId, ActivityType.VIEW, LocalDateTime.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return queue.offer(event);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (!queue.offer(event)) {
+                    flushEach(List.of(event));
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 큐에 남아 있는 이벤트를 flushSize 단위로 모두 기록 (종료 시 / 테스트용)
+     */
+    void flushPending() {
+        List<ActivityEvent> batch = new ArrayList<>(flushSize);
+        while (queue.drainTo(batch, flushSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void drainLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(flushSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 이벤트가 도착한 뒤 flushSize 건이 모이거나 flushInterval 이 지날 때까지 수집
+     */
+    private void collect(List<ActivityEvent> batch) throws InterruptedException {
+        ActivityEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < flushSize) {
+            queue.drainTo(batch, flushSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= flushSize || remaining <= 0) {
+                break;
+            }
+            ActivityEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 한 배치를 하나의 트랜잭션으로 기록
+     * 배치가 실패하면 조회수는 이미 반영되었으므로 버리지 않고 한 건씩 다시 기록한다.
+     */
+    private void flush(List<ActivityEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userActivityJdbcRepository.batchInsert(batch));
+        } catch (RuntimeException e) {
+            log.warn("조회 이벤트 {}건 배치 기록 실패 - 한 건씩 다시 기록합니다.", batch.size(), e);
+            flushEach(batch);
+        }
+    }
+
+    /**
+     * 이벤트마다 별도 트랜잭션으로 기록 (한 건의 실패가 나머지 이벤트를 롤백시키지 않음)
+     */
+    private void flushEach(List<ActivityEvent> batch) {
+        int failed = 0;
+        for (ActivityEvent event : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> userActivityJdbcRepository.batchInsert(List.of(event)));
+            } catch (RuntimeException e) {
+                // 드레이너 스레드가 종료되지 않도록 실패한 이벤트만 기록하고 계속 진행
+                failed++;
+                log.error("조회 이벤트 기록 실패 (userId: {}, workId: {})", event.userId(), event.workId(), e);
+            }
+        }
+        if (failed > 0) {
+            log.error("조회 이벤트 {}건 중 {}건 기록 실패", batch.size(), failed);
+        }
+    }
+}
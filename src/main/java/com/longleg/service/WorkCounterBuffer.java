@@ -0,0 +1,388 @@
+package com.longleg.service;
+
+import com.longleg.dto.ActivityHourlyDelta;
+import com.longleg.dto.WorkCountDelta;
+import com.longleg.dto.WorkDailyScoreDelta;
+import com.longleg.repository.ActivityRollupJdbcRepository;
+import com.longleg.repository.WorkDailyScoreJdbcRepository;
+import com.longleg.repository.WorkJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작품 조회수 / 좋아요 수 증분 버퍼
+ *
+ * 인기 작품에 요청이 몰려도 works 행 잠금을 잡지 않도록 증가분을 작품별 LongAdder 에 모아두고,
+ * 주기적으로 "view_count = view_count + ?" 형태의 배치 UPDATE 로 한 번에 반영한다.
+ * 같은 증가분을 (일자, 작품) 단위로도 모아 work_daily_score 에 MERGE 하므로 일자별 랭킹은 원본 집계 없이 읽을 수 있다.
+ * (시간, 작품) 단위 증가분은 activity_hourly 에 MERGE 하여 기간 통계의 경계 구간 집계에 쓴다.
+ * 트랜잭션 안에서 들어온 증가분은 트랜잭션별로 따로 모았다가 커밋 후에만 버퍼에 넣고, 롤백되면 버린다.
+ * 일자 / 시간 버킷은 활동이 발생한 시각(트랜잭션 안에서 증가분을 넣은 시각)으로 정하므로 자정 직후 커밋되어도 전날에 쌓인다.
+ * 응답에 쓰는 값은 DB에 반영된 값 + 아직 반영되지 않은 증가분(현재 트랜잭션의 증가분 포함)이다.
+ * 반영 전에 프로세스가 비정상 종료되면 마지막 flush 이후의 증가분은 유실된다 (user_activity 기록은 유지, 일자별 점수는 재생성으로 복구).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkCounterBuffer {
+
+    private final WorkJdbcRepository workJdbcRepository;
+    private final WorkDailyScoreJdbcRepository workDailyScoreJdbcRepository;
+    private final ActivityRollupJdbcRepository activityRollupJdbcRepository;
+
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+    private final Map<DailyKey, DailyCounters> pendingDaily = new ConcurrentHashMap<>();
+    private final Map<HourlyKey, DailyCounters> pendingHourly = new ConcurrentHashMap<>();
+
+    /** 다음 일자별 반영에 포함될 증가분이 쌓이기 시작한 시각 (반영에 성공할 때마다 갱신) */
+    private volatile LocalDateTime dailyQueuedSince = LocalDateTime.now();
+
+    public void addView(long workId) {
+        addView(workId, LocalDateTime.now());
+    }
+
+    /**
+     * 조회수 증가 (일자 / 시간 버킷은 커밋 시각이 아닌 활동 발생 시각 기준)
+     */
+    public void addView(long workId, LocalDateTime occurredAt) {
+        TransactionDeltas deltas = transactionDeltas();
+        if (deltas != null) {
+            deltas.views.add(new Delta(workId, 1, occurredAt));
+            return;
+        }
+        applyViews(workId, 1, occurredAt);
+    }
+
+    /**
+     * 좋아요 수 증감 (좋아요 취소는 -1)
+     */
+    public void addLike(long workId, int delta) {
+        addLike(workId, delta, LocalDateTime.now());
+    }
+
+    /**
+     * 좋아요 수 증감 (일자 / 시간 버킷은 커밋 시각이 아닌 활동 발생 시각 기준)
+     */
+    public void addLike(long workId, int delta, LocalDateTime occurredAt) {
+        TransactionDeltas deltas = transactionDeltas();
+        if (deltas != null) {
+            deltas.likes.add(new Delta(workId, delta, occurredAt));
+            return;
+        }
+        applyLike(workId, delta, occurredAt);
+    }
+
+    private void applyViews(long workId, long views, LocalDateTime occurredAt) {
+        addWorkCounts(workId, views, 0);
+        dailyCountersOf(workId, occurredAt).views.add(views);
+        hourlyCountersOf(workId, occurredAt).views.add(views);
+    }
+
+    private void applyLike(long workId, long delta, LocalDateTime occurredAt) {
+        addWorkCounts(workId, 0, delta);
+        DailyCounters daily = dailyCountersOf(workId, occurredAt);
+        DailyCounters hourly = hourlyCountersOf(workId, occurredAt);
+        if (delta >= 0) {
+            daily.likes.add(delta);
+            hourly.likes.add(delta);
+        } else {
+            daily.unlikes.add(-delta);
+            hourly.unlikes.add(-delta);
+        }
+    }
+
+    /**
+     * 작품별 증가분 누적
+     * 더한 직후 flush 가 이미 제거한 카운터였음을 확인하면, 남아 있는 값을 회수해 새 카운터에 다시 더한다.
+     */
+    private void addWorkCounts(long workId, long views, long likes) {
+        Counters counters = pending.computeIfAbsent(workId, id -> new Counters());
+        counters.views.add(views);
+        counters.likes.add(likes);
+        if (counters.retired) {
+            long orphanViews = counters.views.sumThenReset();
+            long orphanLikes = counters.likes.sumThenReset();
+            if (orphanViews != 0 || orphanLikes != 0) {
+                addWorkCounts(workId, orphanViews, orphanLikes);
+            }
+        }
+    }
+
+    /**
+     * DB에 반영된 조회수에 아직 반영되지 않은 증가분을 더한 값
+     */
+    public int currentViewCount(long workId, int persistedViewCount) {
+        Counters counters = pending.get(workId);
+        long viewCount = counters == null ? persistedViewCount : persistedViewCount + counters.views.sum();
+        TransactionDeltas deltas = currentTransactionDeltas();
+        if (deltas != null) {
+            for (Delta view : deltas.views) {
+                if (view.workId() == workId) {
+                    viewCount += view.amount();
+                }
+            }
+        }
+        return (int) viewCount;
+    }
+
+    /**
+     * DB에 반영된 좋아요 수에 아직 반영되지 않은 증감분을 더한 값 (음수 방지)
+     */
+    public int currentLikeCount(long workId, int persistedLikeCount) {
+        Counters counters = pending.get(workId);
+        long likeCount = counters == null ? persistedLikeCount : persistedLikeCount + counters.likes.sum();
+        TransactionDeltas deltas = currentTransactionDeltas();
+        if (deltas != null) {
+            for (Delta like : deltas.likes) {
+                if (like.workId() == workId) {
+                    likeCount += like.amount();
+                }
+            }
+        }
+        return (int) Math.max(likeCount, 0);
+    }
+
+    /**
+     * 누적된 증가분을 works / work_daily_score / activity_hourly 테이블에 반영
+     * 반영에 실패하면 다음 주기에 다시 시도하도록 증가분을 되돌려 놓는다.
+     * 점수 재생성 전에 요청 스레드에서도 호출되므로 주기 실행과 겹치지 않도록 직렬화한다.
+     */
+    @Scheduled(fixedDelayString = "${longleg.work-counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        flushWorkCounts();
+        flushDailyScores();
+        flushHourlyCounts();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void flushWorkCounts() {
+        List<WorkCountDelta> deltas = new ArrayList<>();
+        List<Long> idleWorkIds = new ArrayList<>();
+        pending.forEach((workId, counters) -> {
+            long views = counters.views.sumThenReset();
+            long likes = counters.likes.sumThenReset();
+            if (views != 0 || likes != 0) {
+                deltas.add(new WorkCountDelta(workId, views, likes));
+            } else {
+                idleWorkIds.add(workId);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            try {
+                workJdbcRepository.addCounts(deltas);
+            } catch (RuntimeException e) {
+                log.error("작품 집계 {}건 반영 실패 - 다음 주기에 재시도합니다.", deltas.size(), e);
+                for (WorkCountDelta delta : deltas) {
+                    addWorkCounts(delta.workId(), delta.views(), delta.likes());
+                }
+                return;
+            }
+        }
+        // 반영에 성공했으면 한 주기 동안 증가분이 없던 작품의 카운터를 제거 (조회된 적 있는 모든 작품이 쌓이지 않도록)
+        idleWorkIds.forEach(this::retire);
+    }
+
+    /**
+     * 증가분이 없는 작품 카운터 제거
+     * 제거 표시 후 남은 값을 회수하므로, 제거와 동시에 더해진 증가분은 새 카운터로 옮겨진다.
+     */
+    private void retire(long workId) {
+        Counters counters = pending.get(workId);
+        if (counters == null) {
+            return;
+        }
+        counters.retired = true;
+        pending.remove(workId, counters);
+        long views = counters.views.sumThenReset();
+        long likes = counters.likes.sumThenReset();
+        if (views != 0 || likes != 0) {
+            addWorkCounts(workId, views, likes);
+        }
+    }
+
+    private void flushDailyScores() {
+        // 이틀 이상 지난 일자에는 더 이상 증가분이 들어오지 않으므로 비운 뒤 제거
+        LocalDate today = LocalDate.now();
+        LocalDate expiredBefore = today.minusDays(1);
+        LocalDateTime drainStartedAt = LocalDateTime.now();
+        List<WorkDailyScoreDelta> deltas = new ArrayList<>();
+        pendingDaily.forEach((key, counters) -> {
+            long likes = counters.likes.sumThenReset();
+            long unlikes = counters.unlikes.sumThenReset();
+            long views = counters.views.sumThenReset();
+            if (likes != 0 || unlikes != 0 || views != 0) {
+                deltas.add(new WorkDailyScoreDelta(key.date(), key.workId(), likes, unlikes, views));
+            } else if (key.date().isBefore(expiredBefore)) {
+                pendingDaily.remove(key, counters);
+            }
+        });
+        if (deltas.isEmpty()) {
+            dailyQueuedSince = drainStartedAt;
+            return;
+        }
+        try {
+            List<WorkDailyScoreDelta> applicable = withoutRebuiltDates(deltas, today);
+            if (!applicable.isEmpty()) {
+                workDailyScoreJdbcRepository.addCounts(applicable);
+            }
+            dailyQueuedSince = drainStartedAt;
+        } catch (RuntimeException e) {
+            log.error("일자별 작품 점수 {}건 반영 실패 - 다음 주기에 재시도합니다.", deltas.size(), e);
+            for (WorkDailyScoreDelta delta : deltas) {
+                DailyCounters counters = pendingDaily.computeIfAbsent(
+                        new DailyKey(delta.scoreDate(), delta.workId()), key -> new DailyCounters());
+                counters.likes.add(delta.likes());
+                counters.unlikes.add(delta.unlikes());
+                counters.views.add(delta.views());
+            }
+        }
+    }
+
+    /**
+     * 지난 날짜 중 이번 증가분이 쌓이기 시작한 뒤 원본으로 재생성된 날짜의 증가분 제외
+     * 재생성이 이미 원본 활동을 다시 집계했으므로 (다른 인스턴스의 재생성 포함) 더하면 중복이 된다.
+     */
+    private List<WorkDailyScoreDelta> withoutRebuiltDates(List<WorkDailyScoreDelta> deltas, LocalDate today) {
+        Set<LocalDate> rebuiltDates = new HashSet<>();
+        deltas.stream()
+                .map(WorkDailyScoreDelta::scoreDate)
+                .filter(date -> date.isBefore(today))
+                .distinct()
+                .forEach(date -> workDailyScoreJdbcRepository.findRebuiltAt(date)
+                        .filter(rebuiltAt -> !rebuiltAt.isBefore(dailyQueuedSince))
+                        .ifPresent(rebuiltAt -> rebuiltDates.add(date)));
+        if (rebuiltDates.isEmpty()) {
+            return deltas;
+        }
+        log.info("재생성된 날짜 {}의 일자별 점수 증가분은 반영하지 않습니다.", rebuiltDates);
+        return deltas.stream()
+                .filter(delta -> !rebuiltDates.contains(delta.scoreDate()))
+                .toList();
+    }
+
+    private void flushHourlyCounts() {
+        // 두 시간 이상 지난 시간 버킷에는 더 이상 증가분이 들어오지 않으므로 비운 뒤 제거
+        LocalDateTime expiredBefore = currentHour().minusHours(1);
+        List<ActivityHourlyDelta> deltas = new ArrayList<>();
+        pendingHourly.forEach((key, counters) -> {
+            long likes = counters.likes.sumThenReset();
+            long unlikes = counters.unlikes.sumThenReset();
+            long views = counters.views.sumThenReset();
+            if (likes != 0 || unlikes != 0 || views != 0) {
+                deltas.add(new ActivityHourlyDelta(key.hour(), key.workId(), likes, unlikes, views));
+            } else if (key.hour().isBefore(expiredBefore)) {
+                pendingHourly.remove(key, counters);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            activityRollupJdbcRepository.addHourlyCounts(deltas);
+        } catch (RuntimeException e) {
+            log.error("시간별 작품 활동 {}건 반영 실패 - 다음 주기에 재시도합니다.", deltas.size(), e);
+            for (ActivityHourlyDelta delta : deltas) {
+                DailyCounters counters = pendingHourly.computeIfAbsent(
+                        new HourlyKey(delta.bucketHour(), delta.workId()), key -> new DailyCounters());
+                counters.likes.add(delta.likes());
+                counters.unlikes.add(delta.unlikes());
+                counters.views.add(delta.views());
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 증가분 모음 (없으면 만들고 커밋 후 반영되도록 등록), 트랜잭션 밖이면 null
+     */
+    private TransactionDeltas transactionDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        TransactionDeltas deltas = currentTransactionDeltas();
+        if (deltas == null) {
+            TransactionDeltas created = new TransactionDeltas();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.views.forEach(view -> applyViews(view.workId(), view.amount(), view.occurredAt()));
+                    created.likes.forEach(like -> applyLike(like.workId(), like.amount(), like.occurredAt()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkCounterBuffer.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    private TransactionDeltas currentTransactionDeltas() {
+        return (TransactionDeltas) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private DailyCounters dailyCountersOf(long workId, LocalDateTime occurredAt) {
+        return pendingDaily.computeIfAbsent(new DailyKey(occurredAt.toLocalDate(), workId), key -> new DailyCounters());
+    }
+
+    private DailyCounters hourlyCountersOf(long workId, LocalDateTime occurredAt) {
+        return pendingHourly.computeIfAbsent(
+                new HourlyKey(occurredAt.truncatedTo(ChronoUnit.HOURS), workId), key -> new DailyCounters());
+    }
+
+    private static LocalDateTime currentHour() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static final class Counters {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        /** flush 가 맵에서 제거한 카운터 (이후 더해진 값은 더한 쪽에서 회수) */
+        private volatile boolean retired;
+    }
+
+    private record DailyKey(LocalDate date, long workId) {
+    }
+
+    /**
+     * 한 트랜잭션에서 들어온 증가분 (적용 순서대로, 활동 발생 시각 포함)
+     */
+    private static final class TransactionDeltas {
+        private final List<Delta> views = new ArrayList<>();
+        private final List<Delta> likes = new ArrayList<>();
+    }
+
+    private record Delta(long workId, long amount, LocalDateTime occurredAt) {
+    }
+
+    private record HourlyKey(LocalDateTime hour, long workId) {
+    }
+
+    private static final class DailyCounters {
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder unlikes = new LongAdder();
+        private final LongAdder views = new LongAdder();
+    }
+}
@@ -1,26 +1,49 @@
 package com.longleg.service;
 
+import com.longleg.dto.ActivityEvent;
+import com.longleg.dto.ActivityEventRequest;
+import com.longleg.dto.ActivityEventResult;
 import com.longleg.entity.ActivityType;
 import com.longleg.entity.User;
 import com.longleg.entity.UserActivity;
 import com.longleg.entity.Work;
 import com.longleg.exception.CustomException;
+import com.longleg.repository.UserActivityJdbcRepository;
 import com.longleg.repository.UserActivityRepository;
 import com.longleg.repository.UserRepository;
+import com.longleg.repository.UserWorkLikeJdbcRepository;
+import com.longleg.repository.UserWorkLikeRepository;
 import com.longleg.repository.WorkRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class WorkService {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final WorkRepository workRepository;
     private final UserActivityRepository userActivityRepository;
     private final UserRepository userRepository;
+    private final ViewEventBuffer viewEventBuffer;
+    private final ViewDedupCache viewDedupCache;
+    private final UserWorkLikeRepository userWorkLikeRepository;
+    private final UserWorkLikeJdbcRepository userWorkLikeJdbcRepository;
+    private final WorkCounterBuffer workCounterBuffer;
+    private final UserActivityJdbcRepository userActivityJdbcRepository;
 
     @Transactional
     public int recordView(Long workId, Long userId) {
@@ -28,15 +51,15 @@ public class WorkService {
         User user = getUserById(userId);
 
         if (isRegularUser(user)) {
-            LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-            boolean alreadyViewed = userActivityRepository.existsByUserAndWorkAndCreatedAtAfter(user, work, oneHourAgo);
-
-            if (!alreadyViewed) {
-                saveUserActivity(user, work, ActivityType.VIEW);
-                work.increaseViewCount();
+            if (!isAlreadyViewed(user, work)) {
+                // write-behind 모드에서는 버퍼에 넣음 (비활성화 또는 버퍼가 가득 차면 동기 저장)
+                if (!viewEventBuffer.offer(userId, workId)) {
+                    saveUserActivity(user, work, ActivityType.VIEW);
+                }
+                workCounterBuffer.addView(workId);
             }
         }
-        return work.getViewCount();
+        return workCounterBuffer.currentViewCount(workId, work.getViewCount());
     }
 
     @Transactional
@@ -45,13 +68,14 @@ public class WorkService {
         User user = getUserById(userId);
 
         if (isRegularUser(user)) {
-            if (userActivityRepository.isCurrentlyLiked(user, work)) {
+            if (!markLiked(userId, workId)) {
                 throw new CustomException("Resource already exists", "이미 좋아요를 한 작품입니다.");
             }
             saveUserActivity(user, work, ActivityType.LIKE);
-            work.increaseLikeCount();
+            viewDedupCache.record(userId, workId);
+            workCounterBuffer.addLike(workId, 1);
         }
-        return work.getLikeCount();
+        return workCounterBuffer.currentLikeCount(workId, work.getLikeCount());
     }
 
     @Transactional
@@ -60,12 +84,53 @@ public class WorkService {
         User user = getUserById(userId);
 
         if (isRegularUser(user)) {
-            if (!userActivityRepository.isCurrentlyLiked(user, work)) {
+            if (userWorkLikeRepository.unlike(userId, workId) == 0) {
                 throw new CustomException("Resource not found", "해당 작품을 좋아요하지 않아서 좋아요 취소를 할 수 없습니다.");
             }
             saveUserActivity(user, work, ActivityType.UNLIKE);
-            work.decreaseLikeCount();
+            viewDedupCache.record(userId, workId);
+            workCounterBuffer.addLike(workId, -1);
+        }
+    }
+
+    /**
+     * 클라이언트에서 모아 보낸 활동 이벤트 일괄 처리
+     *
+     * 배치에 포함된 사용자와 작품은 각각 한 번의 조회로 가져오고,
+     * 단건 API와 같은 중복 조회 / 좋아요 규칙을 clientTimestamp 순서로 적용한 뒤
+     * 기록할 활동을 JDBC 배치로 한 번에 저장한다.
+     * 기록 시각은 서버 시각을 사용하고, 결과는 요청 순서(index)대로 반환한다.
+     */
+    @Transactional
+    public List<ActivityEventResult> recordActivities(List<ActivityEventRequest> events) {
+        if (events == null || events.isEmpty()) {
+            throw new CustomException("Invalid request", "이벤트 목록이 비어 있습니다.");
+        }
+        if (events.size() > MAX_BATCH_SIZE) {
+            throw new CustomException("Invalid request", "한 번에 최대 " + MAX_BATCH_SIZE + "건까지 전송할 수 있습니다.");
         }
+
+        Map<Long, User> users = userRepository.findAllById(distinctIds(events, ActivityEventRequest::getUserId)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Work> works = workRepository.findAllById(distinctIds(events, ActivityEventRequest::getWorkId)).stream()
+                .collect(Collectors.toMap(Work::getId, Function.identity()));
+
+        // ✅ 같은 배치 안의 좋아요 / 취소 순서를 지키기 위해 클라이언트 시각 순으로 적용 (시각이 없으면 맨 뒤)
+        int[] order = IntStream.range(0, events.size()).boxed()
+                .sorted(Comparator.comparing((Integer i) -> events.get(i).getClientTimestamp(),
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        LocalDateTime now = LocalDateTime.now();
+        ActivityEventResult[] results = new ActivityEventResult[events.size()];
+        List<ActivityEvent> rows = new ArrayList<>();
+        for (int index : order) {
+            results[index] = applyActivity(index, events.get(index), users, works, rows, now);
+        }
+
+        userActivityJdbcRepository.batchInsert(rows);
+        return Arrays.asList(results);
     }
 
 
@@ -81,6 +146,83 @@ public class WorkService {
                 .orElseThrow(() -> new CustomException("Resource not found", "해당 사용자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 좋아요 상태로 전환, 이미 좋아요 상태이면 false
+     * 같은 쌍에 대한 동시 INSERT 는 하나만 반영되고, 나머지는 트랜잭션을 롤백시키지 않고 false 가 된다.
+     */
+    private boolean markLiked(Long userId, Long workId) {
+        return userWorkLikeJdbcRepository.like(userId, workId) > 0;
+    }
+
+    /**
+     * 1시간 이내 같은 작품에 대한 활동이 있는지 확인 (캐시 상한 초과 시에만 DB 조회)
+     */
+    private boolean isAlreadyViewed(User user, Work work) {
+        ViewDedupCache.Result result = viewDedupCache.markViewed(user.getId(), work.getId());
+        if (result == ViewDedupCache.Result.UNKNOWN) {
+            LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
+            return userActivityRepository.existsByUserAndWorkAndCreatedAtAfter(user, work, oneHourAgo);
+        }
+        return result == ViewDedupCache.Result.DUPLICATE;
+    }
+
+    private ActivityEventResult applyActivity(int index, ActivityEventRequest event,
+                                              Map<Long, User> users, Map<Long, Work> works,
+                                              List<ActivityEvent> rows, LocalDateTime now) {
+        if (event.getWorkId() == null || event.getUserId() == null || event.getType() == null) {
+            return ActivityEventResult.rejected(index, "Invalid request", "workId, userId, type 은 필수입니다.");
+        }
+        Work work = works.get(event.getWorkId());
+        if (work == null) {
+            return ActivityEventResult.rejected(index, "Resource not found", "해당 작품을 찾을 수 없습니다.");
+        }
+        User user = users.get(event.getUserId());
+        if (user == null) {
+            return ActivityEventResult.rejected(index, "Resource not found", "해당 사용자를 찾을 수 없습니다.");
+        }
+        if (!isRegularUser(user)) {
+            return ActivityEventResult.ignored(index);
+        }
+
+        long userId = user.getId();
+        long workId = work.getId();
+        switch (event.getType()) {
+            case VIEW -> {
+                if (isAlreadyViewed(user, work)) {
+                    return ActivityEventResult.duplicate(index, workCounterBuffer.currentViewCount(workId, work.getViewCount()));
+                }
+                workCounterBuffer.addView(workId, now);
+                rows.add(new ActivityEvent(userId, workId, ActivityType.VIEW, now));
+                return ActivityEventResult.recorded(index, workCounterBuffer.currentViewCount(workId, work.getViewCount()));
+            }
+            case LIKE -> {
+                if (!markLiked(userId, workId)) {
+                    return ActivityEventResult.rejected(index, "Resource already exists", "이미 좋아요를 한 작품입니다.");
+                }
+                viewDedupCache.record(userId, workId);
+                workCounterBuffer.addLike(workId, 1, now);
+                rows.add(new ActivityEvent(userId, workId, ActivityType.LIKE, now));
+                return ActivityEventResult.recorded(index, workCounterBuffer.currentLikeCount(workId, work.getLikeCount()));
+            }
+            case UNLIKE -> {
+                if (userWorkLikeRepository.unlike(userId, workId) == 0) {
+                    return ActivityEventResult.rejected(index, "Resource not found", "해당 작품을 좋아요하지 않아서 좋아요 취소를 할 수 없습니다.");
+                }
+                viewDedupCache.record(userId, workId);
+                workCounterBuffer.addLike(workId, -1, now);
+                rows.add(new ActivityEvent(userId, workId, ActivityType.UNLIKE, now));
+                return ActivityEventResult.recorded(index, workCounterBuffer.currentLikeCount(workId, work.getLikeCount()));
+            }
+            default -> {
+                return ActivityEventResult.rejected(index, "Invalid request", "지원하지 않는 활동 유형입니다.");
+            }
+        }
+    }
+
+    private static List<Long> distinctIds(List<ActivityEventRequest> events, Function<ActivityEventRequest, Long> idGetter) {
+        return events.stream().map(idGetter).filter(Objects::nonNull).distinct().toList();
+    }
+
     private boolean isRegularUser(User user) {
         return "USER".equals(user.getUserRole().toString());
     }
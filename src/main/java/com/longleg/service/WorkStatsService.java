@@ -1,24 +1,48 @@
 package com.longleg.service;
 
+import com.longleg.dto.ActivityBucket;
+import com.longleg.dto.ActivityCounts;
+import com.longleg.dto.RollupWatermarks;
+import com.longleg.dto.WorkStatsBatchItem;
+import com.longleg.dto.WorkStatsBatchRequest;
+import com.longleg.dto.WorkStatsSeriesDTO;
 import com.longleg.exception.CustomException;
-import com.longleg.repository.UserActivityRepository;
+import com.longleg.repository.ActivityRollupJdbcRepository;
 import com.longleg.repository.WorkRepository;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class WorkStatsService {
 
-    private final UserActivityRepository userActivityRepository;
+    /** 시계열 한 번에 반환할 수 있는 최대 버킷 수 */
+    static final int MAX_SERIES_BUCKETS = 1000;
+
+    /** 일괄 통계 조회 최대 작품 수, 존재 확인 / 집계를 한 번에 수행할 작품 수 */
+    static final int MAX_BATCH_WORKS = 10000;
+    static final int BATCH_CHUNK_SIZE = 500;
+
+    private final ActivityRollupJdbcRepository activityRollupJdbcRepository;
     private final WorkRepository workRepository;  // 작품 존재 여부 확인을 위한 리포지토리
 
     /**
@@ -42,29 +66,249 @@ public class WorkStatsService {
         // 기본값 설정
         period = Optional.ofNullable(period).orElse("daily");
 
-        LocalDateTime[] dateRange = calculateDateRange(period, safeStartDate, safeEndDate);
-        List<Object[]> stats = Optional.ofNullable(userActivityRepository.getWorkStats(workId, dateRange[0], dateRange[1]))
-                .orElse(List.of()); // ✅ null 방지
+        LocalDateTime[] dateRange = calculateDateRange(period, startDate, endDate);
+        ActivityCounts counts = sumRange(workId, dateRange[0], dateRange[1]);
+
+        Map<String, Integer> result = new HashMap<>();
+        result.put("LIKE", (int) counts.likes());
+        result.put("UNLIKE", (int) counts.unlikes());
+        result.put("VIEW", (int) counts.views());
+
+        return formatStats(result);
+
+    }
 
-        // 결과가 없을 경우 빈 Map 반환
-        if (stats.isEmpty()) { // ✅ null 체크 제거
-            return Map.of("좋아요", 0, "조회수", 0);
+    /**
+     * 일괄 통계 조회 요청을 검증하고 조회 구간 [start, end) 반환
+     * 응답 스트리밍을 시작하기 전에 호출해야 잘못된 요청이 400 으로 응답된다.
+     * 조회 구간은 단건 조회와 같은 규칙({@link #calculateDateRange})으로 계산한다.
+     */
+    public LocalDateTime[] resolveBatchRange(WorkStatsBatchRequest request) {
+        List<Long> workIds = request.getWorkIds();
+        if (workIds == null || workIds.isEmpty()) {
+            throw new CustomException("Invalid request", "작품 ID 목록이 비어 있습니다.");
+        }
+        if (workIds.size() > MAX_BATCH_WORKS) {
+            throw new CustomException("Invalid request", "한 번에 최대 " + MAX_BATCH_WORKS + "개 작품까지 조회할 수 있습니다.");
+        }
+        if (workIds.stream().anyMatch(Objects::isNull)) {
+            throw new CustomException("Invalid request", "작품 ID 목록에 null 이 포함되어 있습니다.");
         }
 
-        Map<String, Integer> result = new HashMap<>();
-        for (Object[] stat : stats) {
-            result.put((String) stat[0], ((Number) stat[1]).intValue());
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new CustomException("Invalid to date", "시작일(" + startDate + ")은 종료일(" + endDate + ")보다 클 수 없습니다.");
         }
+        return calculateDateRange(request.getPeriod(), startDate, endDate);
+    }
 
-        return formatStats(result);
+    /**
+     * 작품 ID 를 BATCH_CHUNK_SIZE 개씩 나눠 존재 확인(쿼리 1회)과 집계를 수행하고, 요청 순서대로 결과를 sink 에 넘긴다.
+     * 한 번에 한 묶음의 결과만 보관하므로 작품 수가 늘어도 메모리 사용량은 일정하다. 중복 ID 는 한 번만 반환한다.
+     */
+    public void streamWorkStats(List<Long> workIds, LocalDateTime[] range, Consumer<WorkStatsBatchItem> sink) {
+        RollupWatermarks watermarks = activityRollupJdbcRepository.findWatermarks();
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(workIds));
+        for (int from = 0; from < distinctIds.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, distinctIds.size()));
+            Set<Long> existing = new HashSet<>(workRepository.findExistingIds(chunk));
+            Map<Long, ActivityCounts> counts = sumRangeByWork(existing, range[0], range[1], watermarks);
+            for (Long workId : chunk) {
+                sink.accept(existing.contains(workId)
+                        ? WorkStatsBatchItem.found(workId, counts.getOrDefault(workId, ActivityCounts.ZERO))
+                        : WorkStatsBatchItem.notFound(workId));
+            }
+        }
+    }
+
+    /**
+     * 시간 / 일 / 주 단위 시계열 조회 (startDate ~ endDate, 종료일 포함)
+     * 일 / 주 단위는 일자별 점수를, 시간 단위는 시간 버킷(보관 기간 이전은 원본)을 한 번씩만 읽어 열 단위 배열로 채운다.
+     * 주 단위 버킷은 월요일에 시작한다.
+     */
+    public WorkStatsSeriesDTO getWorkStatsSeries(Long workId, String granularity, LocalDate startDate, LocalDate endDate) {
+        LocalDate safeEndDate = Optional.ofNullable(endDate).orElse(LocalDate.now());
+        LocalDate safeStartDate = Optional.ofNullable(startDate).orElse(safeEndDate.minusDays(6));
+
+        if (!workRepository.existsById(workId)) {
+            throw new CustomException("Resource not found", "해당 ID(" + workId + ")의 작품을 찾을 수 없습니다.");
+        }
+        if (safeStartDate.isAfter(safeEndDate)) {
+            throw new CustomException("Invalid to date", "시작일(" + safeStartDate + ")은 종료일(" + safeEndDate + ")보다 클 수 없습니다.");
+        }
 
+        Granularity unit = Granularity.of(granularity);
+        LocalDateTime start = unit.floor(safeStartDate);
+        LocalDateTime end = unit.ceil(safeEndDate);
+        int size = (int) unit.step.between(start, end);
+        if (size > MAX_SERIES_BUCKETS) {
+            throw new CustomException("Invalid request",
+                    "한 번에 조회할 수 있는 구간 수(" + MAX_SERIES_BUCKETS + ")를 초과했습니다: " + size);
+        }
+
+        long[] views = new long[size];
+        long[] likes = new long[size];
+        long[] unlikes = new long[size];
+        for (ActivityBucket bucket : loadSeries(workId, unit, start, end)) {
+            int index = (int) unit.step.between(start, bucket.bucketStart());
+            views[index] += bucket.views();
+            likes[index] += bucket.likes();
+            unlikes[index] += bucket.unlikes();
+        }
+        return new WorkStatsSeriesDTO(unit.name().toLowerCase(Locale.ROOT), start, end, views, likes, unlikes);
+    }
+
+    private List<ActivityBucket> loadSeries(long workId, Granularity unit, LocalDateTime start, LocalDateTime end) {
+        if (unit != Granularity.HOUR) {
+            return activityRollupJdbcRepository.findDailySeries(workId, start.toLocalDate(), end.toLocalDate());
+        }
+        // 시간 버킷은 보관 기간(워터마크) 이후만 존재하므로 그 이전은 원본에서 시간 단위로 집계
+        LocalDateTime hourlyFrom = activityRollupJdbcRepository.findWatermarks().hourlyFrom();
+        if (!start.isBefore(hourlyFrom)) {
+            return activityRollupJdbcRepository.findHourlySeries(workId, start, end);
+        }
+        if (!end.isAfter(hourlyFrom)) {
+            return activityRollupJdbcRepository.findRawHourlySeries(workId, start, end);
+        }
+        List<ActivityBucket> buckets = new ArrayList<>(activityRollupJdbcRepository.findRawHourlySeries(workId, start, hourlyFrom));
+        buckets.addAll(activityRollupJdbcRepository.findHourlySeries(workId, hourlyFrom, end));
+        return buckets;
+    }
+
+    /**
+     * [start, end) 구간의 활동 합계
+     * 범위에 완전히 포함되는 월 → 일 → 시간 버킷 순으로 가장 큰 단위부터 합산하고,
+     * 정시에 맞지 않는 양 끝(또는 시간 버킷 보관 기간 이전의 날짜 경계)만 user_activity 원본에서 센다.
+     */
+    ActivityCounts sumRange(long workId, LocalDateTime start, LocalDateTime end) {
+        ActivityCounts total = ActivityCounts.ZERO;
+        if (!start.isBefore(end)) {
+            return total;
+        }
+        for (RangeSegment segment : planRange(start, end, activityRollupJdbcRepository.findWatermarks())) {
+            total = total.plus(switch (segment.tier()) {
+                case MONTHLY -> activityRollupJdbcRepository.sumMonthly(workId, segment.from().toLocalDate(), segment.to().toLocalDate());
+                case DAILY -> activityRollupJdbcRepository.sumDaily(workId, segment.from().toLocalDate(), segment.to().toLocalDate());
+                case HOURLY -> activityRollupJdbcRepository.sumHourly(workId, segment.from(), segment.to());
+                case RAW -> activityRollupJdbcRepository.sumRaw(workId, segment.from(), segment.to());
+            });
+        }
+        return total;
+    }
+
+    /**
+     * 여러 작품의 [start, end) 구간 활동 합계 (활동이 없는 작품은 결과에 없음)
+     * 구간을 나누는 방식은 sumRange 와 같고, 구간마다 작품 목록 전체를 한 번에 집계한다.
+     */
+    Map<Long, ActivityCounts> sumRangeByWork(Collection<Long> workIds, LocalDateTime start, LocalDateTime end,
+                                             RollupWatermarks watermarks) {
+        Map<Long, ActivityCounts> totals = new HashMap<>();
+        if (workIds.isEmpty() || !start.isBefore(end)) {
+            return totals;
+        }
+        for (RangeSegment segment : planRange(start, end, watermarks)) {
+            Map<Long, ActivityCounts> counts = switch (segment.tier()) {
+                case MONTHLY -> activityRollupJdbcRepository.sumMonthlyByWork(workIds, segment.from().toLocalDate(), segment.to().toLocalDate());
+                case DAILY -> activityRollupJdbcRepository.sumDailyByWork(workIds, segment.from().toLocalDate(), segment.to().toLocalDate());
+                case HOURLY -> activityRollupJdbcRepository.sumHourlyByWork(workIds, segment.from(), segment.to());
+                case RAW -> activityRollupJdbcRepository.sumRawByWork(workIds, segment.from(), segment.to());
+            };
+            counts.forEach((workId, count) -> totals.merge(workId, count, ActivityCounts::plus));
+        }
+        return totals;
+    }
+
+    /**
+     * [start, end) 를 집계 단계별 구간으로 분할 (빈 구간 제외)
+     */
+    private static List<RangeSegment> planRange(LocalDateTime start, LocalDateTime end, RollupWatermarks watermarks) {
+        List<RangeSegment> segments = new ArrayList<>();
+        // 월 버킷은 집계가 끝난 달까지만 사용
+        LocalDate firstMonth = ceilToMonth(start);
+        LocalDate endMonth = min(end.toLocalDate().withDayOfMonth(1), watermarks.monthlyUntil());
+        if (firstMonth.isBefore(endMonth)) {
+            segments.add(new RangeSegment(Tier.MONTHLY, firstMonth.atStartOfDay(), endMonth.atStartOfDay()));
+            planDays(start, firstMonth.atStartOfDay(), watermarks, segments);
+            planDays(endMonth.atStartOfDay(), end, watermarks, segments);
+        } else {
+            planDays(start, end, watermarks, segments);
+        }
+        return segments;
+    }
+
+    private static void planDays(LocalDateTime start, LocalDateTime end, RollupWatermarks watermarks,
+                                 List<RangeSegment> segments) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        LocalDate firstDay = ceilToDay(start);
+        LocalDate endDay = end.toLocalDate();
+        if (firstDay.isBefore(endDay)) {
+            segments.add(new RangeSegment(Tier.DAILY, firstDay.atStartOfDay(), endDay.atStartOfDay()));
+            planHours(start, firstDay.atStartOfDay(), watermarks, segments);
+            planHours(endDay.atStartOfDay(), end, watermarks, segments);
+        } else {
+            planHours(start, end, watermarks, segments);
+        }
+    }
+
+    private static void planHours(LocalDateTime start, LocalDateTime end, RollupWatermarks watermarks,
+                                  List<RangeSegment> segments) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        // 시간 버킷은 보관 기간(워터마크) 이후만 존재
+        LocalDateTime firstHour = max(ceilToHour(start), watermarks.hourlyFrom());
+        LocalDateTime endHour = end.truncatedTo(ChronoUnit.HOURS);
+        if (firstHour.isBefore(endHour)) {
+            segments.add(new RangeSegment(Tier.HOURLY, firstHour, endHour));
+            planRaw(start, firstHour, segments);
+            planRaw(endHour, end, segments);
+        } else {
+            planRaw(start, end, segments);
+        }
+    }
+
+    private static void planRaw(LocalDateTime start, LocalDateTime end, List<RangeSegment> segments) {
+        if (start.isBefore(end)) {
+            segments.add(new RangeSegment(Tier.RAW, start, end));
+        }
+    }
+
+    private static LocalDate ceilToMonth(LocalDateTime time) {
+        LocalDate month = time.toLocalDate().withDayOfMonth(1);
+        return time.equals(month.atStartOfDay()) ? month : month.plusMonths(1);
+    }
+
+    private static LocalDate ceilToDay(LocalDateTime time) {
+        LocalDate day = time.toLocalDate();
+        return time.equals(day.atStartOfDay()) ? day : day.plusDays(1);
+    }
+
+    private static LocalDateTime ceilToHour(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return time.equals(hour) ? hour : hour.plusHours(1);
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
     }
 
     /**
      * 기간(period) 또는 사용자 입력(startDate, endDate)에 따라 날짜 범위 계산
+     * startDate, endDate 를 모두 지정하면 해당 날짜 범위(종료일 포함), 아니면 period 기준으로 현재까지 계산한다.
+     * 단건 / 일괄 통계 조회가 같은 규칙을 사용한다.
      */
     LocalDateTime[] calculateDateRange(@Nullable String period,
                                        @Nullable LocalDate startDate, @Nullable LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            return new LocalDateTime[]{startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()};
+        }
         LocalDateTime endDateTime = LocalDateTime.now();
         LocalDateTime startDateTime;
 
@@ -85,6 +329,50 @@ public class WorkStatsService {
         return new LocalDateTime[]{startDateTime, endDateTime};
     }
 
+    private enum Tier {
+        MONTHLY, DAILY, HOURLY, RAW
+    }
+
+    private record RangeSegment(Tier tier, LocalDateTime from, LocalDateTime to) {
+    }
+
+    private enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS),
+        WEEK(ChronoUnit.WEEKS);
+
+        private final ChronoUnit step;
+
+        Granularity(ChronoUnit step) {
+            this.step = step;
+        }
+
+        static Granularity of(@Nullable String value) {
+            if (value == null) {
+                return DAY;
+            }
+            for (Granularity granularity : values()) {
+                if (granularity.name().equalsIgnoreCase(value)) {
+                    return granularity;
+                }
+            }
+            throw new CustomException("Invalid request", "지원하지 않는 granularity 입니다: " + value + " (hour, day, week)");
+        }
+
+        LocalDateTime floor(LocalDate date) {
+            return this == WEEK
+                    ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay()
+                    : date.atStartOfDay();
+        }
+
+        /**
+         * 종료일을 포함하는 마지막 버킷의 종료 시각
+         */
+        LocalDateTime ceil(LocalDate date) {
+            return this == WEEK ? floor(date).plusWeeks(1) : date.plusDays(1).atStartOfDay();
+        }
+    }
+
     /**
      * LIKE - UNLIKE 값 계산 후 가독성 좋은 Map 반환
      */
@@ -0,0 +1,140 @@
+package com.longleg.utils;
+
+import java.util.Arrays;
+
+/**
+ * LongLongHashMap
+ * long 키 -> long 값을 박싱 없이 저장하는 오픈 어드레싱(선형 탐사) 해시맵입니다.
+ * 키 0 은 빈 슬롯 표시로 사용하므로 저장할 수 없습니다.
+ * 동기화하지 않으므로 호출 측에서 접근을 직렬화해야 합니다.
+ */
+public class LongLongHashMap {
+
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int resizeThreshold;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(4, (int) (expectedSize / LOAD_FACTOR)));
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 키에 해당하는 값을 반환, 없으면 {@link #NO_VALUE}
+     */
+    public long get(long key) {
+        int index = slotOf(key);
+        return keys[index] == key && key != 0L ? values[index] : NO_VALUE;
+    }
+
+    /**
+     * 키에 값을 저장 (기존 값이 있으면 덮어씀)
+     */
+    public void put(long key, long value) {
+        int index = claimSlot(key);
+        values[index] = value;
+        if (keys[index] == 0L) {
+            insertAt(index, key);
+        }
+    }
+
+    /**
+     * 키의 값에 delta 를 더하고 더한 값을 반환 (없던 키는 0에서 시작)
+     */
+    public long addTo(long key, long delta) {
+        int index = claimSlot(key);
+        if (keys[index] == key) {
+            return values[index] += delta;
+        }
+        values[index] = delta;
+        insertAt(index, key);
+        return delta;
+    }
+
+    /**
+     * 모든 (키, 값) 항목 순회 (순서는 보장하지 않음)
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0L) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 테이블 크기는 유지한 채 모든 항목 제거
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    /**
+     * 키가 있는 슬롯, 없으면 키가 들어갈 빈 슬롯의 위치 (선형 탐사)
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != key && keys[index] != 0L) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private int claimSlot(long key) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+        return slotOf(key);
+    }
+
+    /**
+     * 값을 채운 빈 슬롯에 키를 기록하고 필요하면 테이블을 늘림
+     */
+    private void insertAt(int index, long key) {
+        keys[index] = key;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        resizeThreshold = (int) (keys.length * LOAD_FACTOR);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0L) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
@@ -0,0 +1,61 @@
+package com.longleg.utils;
+
+import com.longleg.dto.WorkActivityDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RewardReasonCodec
+ * 리워드 지급 사유(지급에 기여한 상위 작품)를 reward_history.reward_reason 한 컬럼에 담는 인코딩입니다.
+ * 작품마다 "순위:작품ID:좋아요수:조회수" 를 순위 오름차순으로 쉼표로 이어 붙입니다. (예: "1:10:5:120,4:7:2:80")
+ * 지급 SQL(RewardHistoryJdbcRepository)도 같은 형식으로 만들므로 형식을 바꿀 때는 함께 바꿔야 합니다.
+ */
+public final class RewardReasonCodec {
+
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private RewardReasonCodec() {
+    }
+
+    /**
+     * 순위가 설정된 작품 목록을 인코딩 (비어 있으면 null)
+     */
+    public static String encode(Collection<WorkActivityDTO> works) {
+        if (works.isEmpty()) {
+            return null;
+        }
+        StringBuilder encoded = new StringBuilder(works.size() * 24);
+        for (WorkActivityDTO work : works) {
+            if (!encoded.isEmpty()) {
+                encoded.append(ENTRY_SEPARATOR);
+            }
+            encoded.append(work.getRank()).append(FIELD_SEPARATOR)
+                    .append(work.getWorkId()).append(FIELD_SEPARATOR)
+                    .append(work.getLikeCount()).append(FIELD_SEPARATOR)
+                    .append(work.getViewCount());
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * 인코딩된 사유를 작품 목록으로 복원 (null 이나 빈 값은 빈 목록)
+     */
+    public static List<WorkActivityDTO> decode(String encoded) {
+        List<WorkActivityDTO> works = new ArrayList<>();
+        if (encoded == null || encoded.isBlank()) {
+            return works;
+        }
+        for (String entry : encoded.split(ENTRY_SEPARATOR)) {
+            String[] fields = entry.split(FIELD_SEPARATOR);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("잘못된 지급 사유 형식입니다: " + entry);
+            }
+            works.add(new WorkActivityDTO(Long.parseLong(fields[1]), Integer.parseInt(fields[2]),
+                    Integer.parseInt(fields[3]), Integer.parseInt(fields[0]), null));
+        }
+        return works;
+    }
+}
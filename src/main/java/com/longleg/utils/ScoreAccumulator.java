@@ -0,0 +1,61 @@
+package com.longleg.utils;
+
+/**
+ * ScoreAccumulator
+ * long ID -> int 점수를 박싱 없이 누적합니다.
+ * 저장은 {@link LongLongHashMap}에 맡기고 점수 누적용 API만 제공합니다.
+ * 키 0 은 저장할 수 없고, 동기화하지 않으므로 호출 측에서 접근을 직렬화해야 합니다.
+ */
+public class ScoreAccumulator {
+
+    private final LongLongHashMap scores;
+
+    public ScoreAccumulator(int expectedSize) {
+        this.scores = new LongLongHashMap(expectedSize);
+    }
+
+    /**
+     * ID의 점수에 delta 를 더하고 누적된 점수를 반환
+     */
+    public int add(long key, int delta) {
+        return (int) scores.addTo(key, delta);
+    }
+
+    /**
+     * ID의 점수를 1 증가
+     */
+    public int increment(long key) {
+        return add(key, 1);
+    }
+
+    /**
+     * ID의 누적 점수 반환, 없으면 0
+     */
+    public int get(long key) {
+        long score = scores.get(key);
+        return score == LongLongHashMap.NO_VALUE ? 0 : (int) score;
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * 모든 (ID, 점수) 항목 순회 (순서는 보장하지 않음)
+     */
+    public void forEach(EntryConsumer consumer) {
+        scores.forEach((key, score) -> consumer.accept(key, (int) score));
+    }
+
+    /**
+     * 테이블 크기는 유지한 채 모든 항목 제거
+     */
+    public void clear() {
+        scores.clear();
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int score);
+    }
+}
@@ -0,0 +1,60 @@
+package com.longleg.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * TopKSelector
+ * 전체 정렬 없이 상위 K개만 고르는 크기 고정 힙입니다.
+ * 힙 맨 위에는 현재 K개 중 가장 낮은 순위가 있어, 새 원소는 그보다 앞설 때만 교체됩니다.
+ * N개 입력에 O(N log K) 시간, O(K) 메모리를 사용합니다.
+ * 동점 처리는 전달한 비교자가 결정하므로 결과 순서를 고정하려면 비교자에 타이브레이크를 포함해야 합니다.
+ *
+ * @param <T> 원소 타입
+ */
+public class TopKSelector<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param k     선택할 개수
+     * @param order 순위 비교자 (앞 순위가 작은 값)
+     */
+    public TopKSelector(int k, Comparator<? super T> order) {
+        this.k = Math.max(k, 0);
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(this.k, 1), order.reversed());
+    }
+
+    /**
+     * 원소 후보 추가, 상위 K개에 들어가면 true
+     */
+    public boolean offer(T candidate) {
+        if (k == 0) {
+            return false;
+        }
+        if (heap.size() < k) {
+            heap.add(candidate);
+            return true;
+        }
+        if (order.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 선택된 원소를 순위 순으로 반환
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package db.migration;
+
+import com.longleg.entity.SequenceAllocation;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * user_activity / reward_history 의 ID 생성을 IDENTITY 에서 시퀀스로 전환
+ *
+ * 기존 ID와 겹치지 않도록 시퀀스 시작 값을 max(id) + 할당 단위로 잡는다.
+ * (pooled 옵티마이저는 첫 값 v 에서 (v - 할당 단위, v] 를 쓰므로 max(id) + 1 부터 사용됨)
+ */
+public class V2__Sequence_ids extends BaseJavaMigration {
+
+    private static final String[][] SEQUENCES = {
+            {"user_activity_seq", "user_activity"},
+            {"reward_history_seq", "reward_history"}
+    };
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String[] sequence : SEQUENCES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + sequence[1])) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence[0]
+                        + " START WITH " + (maxId + SequenceAllocation.SIZE)
+                        + " INCREMENT BY " + SequenceAllocation.SIZE);
+            }
+        }
+    }
+}
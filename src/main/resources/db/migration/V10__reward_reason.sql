@@ -0,0 +1,37 @@
+-- 지급 사유를 지급 시점에 "순위:작품ID:좋아요수:조회수,..." 로 저장 (상위 작품 수만큼 길어지므로 확장)
+ALTER TABLE reward_history ALTER COLUMN reward_reason SET DATA TYPE VARCHAR(2000);
+
+-- 사용자별 리워드 내역 조회용
+CREATE INDEX IF NOT EXISTS idx_reward_history_receiver
+    ON reward_history (receiver_id, reward_request_id);
+
+-- 기존 작가 내역: 지급 랭킹에서 해당 작품의 순위
+UPDATE reward_history rh
+SET reward_reason = (
+    SELECT CONCAT(rr.ranking, ':', rr.work_id, ':', rr.like_count, ':', rr.view_count)
+    FROM reward_ranking rr
+    WHERE rr.reward_request_id = rh.reward_request_id
+    AND rr.work_id = rh.work_id
+)
+WHERE rh.reward_reason IS NULL
+AND rh.work_id IS NOT NULL;
+
+-- 기존 소비자 내역: 지급 랭킹 중 해당 날짜에 조건(조회 / 좋아요 > 좋아요 취소)을 충족한 작품
+MERGE INTO reward_history rh
+USING (
+    SELECT qualified.reward_request_id, qualified.user_id,
+           LISTAGG(CONCAT(qualified.ranking, ':', qualified.work_id, ':', qualified.like_count, ':', qualified.view_count), ',')
+               WITHIN GROUP (ORDER BY qualified.ranking) AS reason
+    FROM (
+        SELECT rr.reward_request_id, ua.user_id, ua.work_id, rr.ranking, rr.like_count, rr.view_count
+        FROM reward_ranking rr
+        JOIN user_activity ua ON ua.work_id = rr.work_id AND ua.activity_date = rr.ranking_date
+        GROUP BY rr.reward_request_id, ua.user_id, ua.work_id, rr.ranking, rr.like_count, rr.view_count
+        HAVING SUM(CASE WHEN ua.activity_type = 'VIEW' THEN 1 ELSE 0 END) > 0
+            OR SUM(CASE WHEN ua.activity_type = 'LIKE' THEN 1 ELSE 0 END)
+               > SUM(CASE WHEN ua.activity_type = 'UNLIKE' THEN 1 ELSE 0 END)
+    ) qualified
+    GROUP BY qualified.reward_request_id, qualified.user_id
+) reasons
+ON (rh.reward_request_id = reasons.reward_request_id AND rh.receiver_id = reasons.user_id AND rh.work_id IS NULL)
+WHEN MATCHED AND rh.reward_reason IS NULL THEN UPDATE SET reward_reason = reasons.reason;
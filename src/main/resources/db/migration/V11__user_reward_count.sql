@@ -0,0 +1,10 @@
+-- 사용자별 지급 완료된 리워드 내역 수 (잔액 반영 시 함께 증가, 내역 목록의 totalCount 용)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS reward_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET reward_count = (
+    SELECT COUNT(*)
+    FROM reward_history rh
+    WHERE rh.receiver_id = u.id
+    AND rh.total_paid = TRUE
+);
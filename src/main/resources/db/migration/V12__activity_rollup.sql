@@ -0,0 +1,58 @@
+-- 작품 활동 시간별 집계 (조회수 / 좋아요 / 좋아요 취소), 작품 활동이 기록될 때 증분 반영
+-- 보관 기간이 지난 시간 버킷은 일자별 점수(work_daily_score)에 이미 합산되어 있으므로 정리 작업에서 삭제
+CREATE TABLE IF NOT EXISTS activity_hourly (
+    work_id      BIGINT    NOT NULL,
+    bucket_hour  TIMESTAMP NOT NULL,
+    like_count   BIGINT    NOT NULL DEFAULT 0,
+    unlike_count BIGINT    NOT NULL DEFAULT 0,
+    view_count   BIGINT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (work_id, bucket_hour)
+);
+
+-- 작품 활동 월별 집계, 마감된 달만 work_daily_score 를 합산해 생성
+CREATE TABLE IF NOT EXISTS activity_monthly (
+    work_id      BIGINT NOT NULL,
+    bucket_month DATE   NOT NULL,
+    like_count   BIGINT NOT NULL DEFAULT 0,
+    unlike_count BIGINT NOT NULL DEFAULT 0,
+    view_count   BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (work_id, bucket_month)
+);
+
+-- 집계 단계별 유효 구간
+-- HOURLY  : 이 시각 이후의 시간 버킷이 모두 존재
+-- MONTHLY : 이 날짜 이전의 월 버킷이 모두 존재
+CREATE TABLE IF NOT EXISTS activity_rollup_watermark (
+    tier      VARCHAR(20) NOT NULL PRIMARY KEY,
+    watermark TIMESTAMP   NOT NULL
+);
+
+-- 작품별 기간 합산 (work_id = ? AND score_date BETWEEN ...)
+CREATE INDEX IF NOT EXISTS idx_work_daily_score_work_date
+    ON work_daily_score (work_id, score_date);
+
+-- 시간 버킷은 최근 7일치만 기존 활동 이력으로 채움
+INSERT INTO activity_hourly (work_id, bucket_hour, like_count, unlike_count, view_count)
+SELECT work_id,
+       DATE_TRUNC('HOUR', created_at),
+       SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END)
+FROM user_activity
+WHERE created_at >= DATEADD(DAY, -7, CURRENT_DATE)
+GROUP BY work_id, DATE_TRUNC('HOUR', created_at);
+
+-- 이번 달 이전의 월 버킷은 일자별 점수로 채움
+INSERT INTO activity_monthly (work_id, bucket_month, like_count, unlike_count, view_count)
+SELECT work_id,
+       DATE_TRUNC('MONTH', score_date),
+       SUM(like_count),
+       SUM(unlike_count),
+       SUM(view_count)
+FROM work_daily_score
+WHERE score_date < DATE_TRUNC('MONTH', CURRENT_DATE)
+GROUP BY work_id, DATE_TRUNC('MONTH', score_date);
+
+INSERT INTO activity_rollup_watermark (tier, watermark)
+VALUES ('HOURLY', CAST(DATEADD(DAY, -7, CURRENT_DATE) AS TIMESTAMP)),
+       ('MONTHLY', CAST(DATE_TRUNC('MONTH', CURRENT_DATE) AS TIMESTAMP));
@@ -0,0 +1,51 @@
+-- V4 일자별 점수 / V12 시간 버킷 초기 채움에 비활성(is_active = FALSE) 활동이 포함되었으므로 차감
+-- (기간 통계와 점수 재생성은 활성 활동만 집계, 이미 적용된 마이그레이션은 수정하지 않음)
+
+MERGE INTO work_daily_score t
+USING (
+    SELECT activity_date AS score_date,
+           work_id,
+           SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END) AS likes,
+           SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END) AS unlikes,
+           SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END) AS views
+    FROM user_activity
+    WHERE is_active = FALSE
+    GROUP BY activity_date, work_id
+) s
+ON t.score_date = s.score_date AND t.work_id = s.work_id
+WHEN MATCHED THEN
+    UPDATE SET like_count = GREATEST(t.like_count - s.likes, 0),
+               unlike_count = GREATEST(t.unlike_count - s.unlikes, 0),
+               view_count = GREATEST(t.view_count - s.views, 0);
+
+-- 시간 버킷은 보관 중인 구간만 남아 있으므로 워터마크 이후만 차감
+MERGE INTO activity_hourly t
+USING (
+    SELECT work_id,
+           DATE_TRUNC('HOUR', created_at) AS bucket_hour,
+           SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END) AS likes,
+           SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END) AS unlikes,
+           SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END) AS views
+    FROM user_activity
+    WHERE is_active = FALSE
+    AND created_at >= (SELECT watermark FROM activity_rollup_watermark WHERE tier = 'HOURLY')
+    GROUP BY work_id, DATE_TRUNC('HOUR', created_at)
+) s
+ON t.work_id = s.work_id AND t.bucket_hour = s.bucket_hour
+WHEN MATCHED THEN
+    UPDATE SET like_count = GREATEST(t.like_count - s.likes, 0),
+               unlike_count = GREATEST(t.unlike_count - s.unlikes, 0),
+               view_count = GREATEST(t.view_count - s.views, 0);
+
+-- 월 버킷은 차감된 일자별 점수로 다시 합산
+DELETE FROM activity_monthly;
+
+INSERT INTO activity_monthly (work_id, bucket_month, like_count, unlike_count, view_count)
+SELECT work_id,
+       DATE_TRUNC('MONTH', score_date),
+       SUM(like_count),
+       SUM(unlike_count),
+       SUM(view_count)
+FROM work_daily_score
+WHERE score_date < (SELECT CAST(watermark AS DATE) FROM activity_rollup_watermark WHERE tier = 'MONTHLY')
+GROUP BY work_id, DATE_TRUNC('MONTH', score_date);
@@ -0,0 +1,5 @@
+-- 일자별 점수를 user_activity 원본으로 다시 생성한 시각 (재생성 이전에 쌓인 증가분이 재생성 결과에 중복 더해지지 않도록 확인)
+CREATE TABLE IF NOT EXISTS work_daily_score_rebuild (
+    score_date DATE         NOT NULL PRIMARY KEY,
+    rebuilt_at TIMESTAMP(6) NOT NULL
+);
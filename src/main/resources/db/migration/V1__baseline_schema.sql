@@ -0,0 +1,54 @@
+-- 기존 스키마 (Hibernate ddl-auto 로 생성되던 테이블)
+-- 이미 테이블이 있는 DB는 baseline(0) 이후 이 스크립트가 그대로 통과한다.
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL UNIQUE,
+    user_role  VARCHAR(20)  NOT NULL,
+    reward     BIGINT       NOT NULL DEFAULT 0,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS works (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title      VARCHAR(255) NOT NULL,
+    author_id  BIGINT       NOT NULL REFERENCES users (id),
+    view_count INT          NOT NULL DEFAULT 0,
+    like_count INT          NOT NULL DEFAULT 0,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS reward_requests (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    request_date DATE        NOT NULL,
+    status       VARCHAR(20),
+    created_at   TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS reward_history (
+    id                BIGINT       NOT NULL PRIMARY KEY,
+    reward_request_id BIGINT       NOT NULL REFERENCES reward_requests (id),
+    receiver_id       BIGINT       NOT NULL REFERENCES users (id),
+    work_id           BIGINT       REFERENCES works (id),
+    points            INT          NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    total_paid        BOOLEAN      NOT NULL DEFAULT FALSE,
+    reward_reason     VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS user_activity (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    user_id       BIGINT       NOT NULL REFERENCES users (id),
+    work_id       BIGINT       NOT NULL REFERENCES works (id),
+    activity_type VARCHAR(20)  NOT NULL,
+    is_active     BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS user_work_like (
+    user_id    BIGINT       NOT NULL,
+    work_id    BIGINT       NOT NULL,
+    liked      BOOLEAN      NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id, work_id)
+);
@@ -0,0 +1,16 @@
+-- 일자별 집계 쿼리가 인덱스를 쓸 수 있도록 created_at 의 날짜를 별도 컬럼으로 저장
+ALTER TABLE user_activity ADD COLUMN IF NOT EXISTS activity_date DATE;
+
+UPDATE user_activity
+SET activity_date = CAST(created_at AS DATE)
+WHERE activity_date IS NULL;
+
+ALTER TABLE user_activity ALTER COLUMN activity_date SET NOT NULL;
+
+-- 랭킹 집계 / 소비자 선정 (activity_date = ? AND work_id = ?)
+CREATE INDEX IF NOT EXISTS idx_user_activity_date_work_type
+    ON user_activity (activity_date, work_id, activity_type);
+
+-- 1시간 중복 조회 판정 (user_id = ? AND work_id = ? AND created_at > ?)
+CREATE INDEX IF NOT EXISTS idx_user_activity_user_work_created
+    ON user_activity (user_id, work_id, created_at);
@@ -0,0 +1,24 @@
+-- 일자별 작품 점수 (좋아요 * 2 + 조회수), 작품 활동이 기록될 때 증분 반영
+CREATE TABLE IF NOT EXISTS work_daily_score (
+    score_date   DATE   NOT NULL,
+    work_id      BIGINT NOT NULL,
+    like_count   BIGINT NOT NULL DEFAULT 0,
+    unlike_count BIGINT NOT NULL DEFAULT 0,
+    view_count   BIGINT NOT NULL DEFAULT 0,
+    score        BIGINT GENERATED ALWAYS AS ((like_count - unlike_count) * 2 + view_count),
+    PRIMARY KEY (score_date, work_id)
+);
+
+-- 일자별 상위 N개 조회 (score_date = ? ORDER BY score DESC)
+CREATE INDEX IF NOT EXISTS idx_work_daily_score_rank
+    ON work_daily_score (score_date, score DESC, work_id);
+
+-- 기존 활동 이력으로 채움
+INSERT INTO work_daily_score (score_date, work_id, like_count, unlike_count, view_count)
+SELECT activity_date,
+       work_id,
+       SUM(CASE WHEN activity_type = 'LIKE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN activity_type = 'UNLIKE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN activity_type = 'VIEW' THEN 1 ELSE 0 END)
+FROM user_activity
+GROUP BY activity_date, work_id;
@@ -0,0 +1,13 @@
+-- 리워드 지급 시점의 일자별 랭킹 (지급 요청과 함께 저장, 재기동 후 랭킹 캐시 복원용)
+CREATE TABLE IF NOT EXISTS reward_ranking (
+    reward_request_id BIGINT NOT NULL REFERENCES reward_requests (id),
+    ranking           INT    NOT NULL,
+    ranking_date      DATE   NOT NULL,
+    work_id           BIGINT NOT NULL,
+    like_count        INT    NOT NULL,
+    view_count        INT    NOT NULL,
+    PRIMARY KEY (reward_request_id, ranking)
+);
+
+CREATE INDEX IF NOT EXISTS idx_reward_ranking_date
+    ON reward_ranking (ranking_date, ranking);
@@ -0,0 +1,10 @@
+-- 리워드 지급 단계별 체크포인트 (재기동 / 실패 후 마지막으로 커밋된 지점부터 재개)
+ALTER TABLE reward_requests ADD COLUMN IF NOT EXISTS phase VARCHAR(32);
+ALTER TABLE reward_requests ADD COLUMN IF NOT EXISTS checkpoint_cursor BIGINT;
+ALTER TABLE reward_requests ADD COLUMN IF NOT EXISTS checkpoint_at TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_reward_requests_status
+    ON reward_requests (status);
+
+CREATE INDEX IF NOT EXISTS idx_reward_history_request_unpaid
+    ON reward_history (reward_request_id, total_paid, receiver_id);
@@ -0,0 +1,4 @@
+-- 리워드 지급 진행 현황 (처리 건수, 처리 시작 / 종료 시각)
+ALTER TABLE reward_requests ADD COLUMN IF NOT EXISTS rows_processed BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reward_requests ADD COLUMN IF NOT EXISTS started_at TIMESTAMP(6);
+ALTER TABLE reward_requests ADD COLUMN IF NOT EXISTS finished_at TIMESTAMP(6);
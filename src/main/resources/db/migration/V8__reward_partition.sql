@@ -0,0 +1,13 @@
+-- 소비자 리워드 내역 생성의 사용자 ID 구간(파티션)별 진행 상황
+-- 파티션마다 독립적으로 커밋하므로 실패한 파티션만 마지막 체크포인트부터 다시 실행한다.
+CREATE TABLE IF NOT EXISTS reward_partition (
+    reward_request_id BIGINT       NOT NULL REFERENCES reward_requests (id),
+    partition_no      INT          NOT NULL,
+    lower_bound       BIGINT       NOT NULL,
+    upper_bound       BIGINT       NOT NULL,
+    checkpoint_cursor BIGINT       NOT NULL,
+    rows_processed    BIGINT       NOT NULL DEFAULT 0,
+    completed         BOOLEAN      NOT NULL DEFAULT FALSE,
+    updated_at        TIMESTAMP(6),
+    PRIMARY KEY (reward_request_id, partition_no)
+);
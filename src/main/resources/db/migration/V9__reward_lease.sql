@@ -0,0 +1,11 @@
+-- 날짜별 리워드 지급 요청은 하나만 허용 (여러 인스턴스가 동시에 요청해도 한 건만 생성)
+ALTER TABLE reward_requests ADD CONSTRAINT IF NOT EXISTS uk_reward_requests_request_date UNIQUE (request_date);
+
+-- 날짜별 리워드 지급 실행 lease (한 번에 한 인스턴스만 실행, 갱신이 끊기면 만료 후 다른 인스턴스가 재개)
+CREATE TABLE IF NOT EXISTS reward_lease (
+    request_date DATE         NOT NULL PRIMARY KEY,
+    holder_id    VARCHAR(128) NOT NULL,
+    acquired_at  TIMESTAMP(6) NOT NULL,
+    heartbeat_at TIMESTAMP(6) NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL
+);
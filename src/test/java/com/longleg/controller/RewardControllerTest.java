@@ -1,5 +1,7 @@
 package com.longleg.controller;
 
+import com.longleg.entity.RewardRequest;
+import com.longleg.entity.RewardStatus;
 import com.longleg.service.RewardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
@@ -50,20 +53,72 @@ class RewardControllerTest {
     }
 
     @Test
+    @DisplayName("리워드 지급 요청 API - 접수 후 202 반환")
     void getWorks_execute() {
         // Given
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "Reward request completed.");
-        response.put("requestDate", "2025-01-29");
-        response.put("status", "COMPLETED");
+        RewardRequest request = new RewardRequest(LocalDate.of(2025, 1, 29));
+        request.setId(7L);
 
-        when(rewardService.rewardExecute(any(LocalDate.class))).thenReturn(response);
+        when(rewardService.submitRewardExecute(any(LocalDate.class))).thenReturn(request);
 
         // When
         ResponseEntity<Map<String, Object>> result = rewardController.getRewardExecute("2025-01-29");
 
+        // Then
+        assertEquals(202, result.getStatusCodeValue());
+        assertEquals(URI.create("/rewards/requests/7"), result.getHeaders().getLocation());
+        assertEquals(7L, result.getBody().get("requestId"));
+        assertEquals(RewardStatus.REQUESTED, result.getBody().get("status"));
+    }
+
+    @Test
+    @DisplayName("리워드 지급 진행 상황 조회 API - 성공")
+    void getRewardRequestProgress_success() {
+        // Given
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("requestId", 7L);
+        progress.put("rowsProcessed", 1200L);
+
+        when(rewardService.getRewardRequestProgress(7L)).thenReturn(progress);
+
+        // When
+        ResponseEntity<Map<String, Object>> result = rewardController.getRewardRequestProgress(7L);
+
         // Then
         assertEquals(200, result.getStatusCodeValue());
-        assertEquals(response, result.getBody());
+        assertEquals(progress, result.getBody());
+    }
+
+    @Test
+    @DisplayName("리워드 일괄 지급 API - 접수 후 날짜별 요청 ID / 상태 반환")
+    void backfillRewards_success() {
+        // Given
+        Map<String, Object> report = new HashMap<>();
+        report.put("message", "Reward backfill accepted.");
+        report.put("outcomes", Map.of("ACCEPTED", 2L, "ALREADY_COMPLETED", 1L));
+
+        when(rewardService.backfillRewards(LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 29))).thenReturn(report);
+
+        // When
+        ResponseEntity<Map<String, Object>> result = rewardController.backfillRewards("2025-01-27", "2025-01-29");
+
+        // Then
+        assertEquals(202, result.getStatusCodeValue()); // ✅ 지급 완료를 기다리지 않음
+        assertEquals(report, result.getBody());
+    }
+
+    @Test
+    @DisplayName("일자별 작품 점수 재생성 API - 성공")
+    void rebuildDailyScores_success() {
+        // Given
+        when(rewardService.rebuildDailyScores(LocalDate.of(2025, 1, 29))).thenReturn(12);
+
+        // When
+        ResponseEntity<Map<String, Object>> result = rewardController.rebuildDailyScores("2025-01-29");
+
+        // Then
+        assertEquals(200, result.getStatusCodeValue());
+        assertEquals("2025-01-29", result.getBody().get("scoreDate"));
+        assertEquals(12, result.getBody().get("rebuiltWorks"));
     }
 }
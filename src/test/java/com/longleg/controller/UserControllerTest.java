@@ -1,5 +1,6 @@
 package com.longleg.controller;
 
+import com.longleg.service.UserRewardCache;
 import com.longleg.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -55,11 +57,12 @@ class UserControllerTest {
                 "totalRewards", 2
         );
 
-        given(userService.getUserReward(userId)).willReturn(mockResponse);
+        given(userService.getUserRewardSummary(userId)).willReturn(new UserRewardCache.Summary(mockResponse, "\"abc\""));
 
         // When & Then
         mockMvc.perform(get("/users/{id}", userId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
                 .andExpect(jsonPath("$.rewards").isArray())
                 .andExpect(jsonPath("$.totalRewards").value(2))
                 .andExpect(jsonPath("$.rewards[0].rewardAmount").value(100))
@@ -67,6 +70,39 @@ class UserControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("사용자 리워드 내역 페이지 조회 - 커서와 limit 전달")
+    void getUserRewards_Success() throws Exception {
+        // Given
+        Map<String, Object> mockResponse = Map.of(
+                "rewards", List.of(Map.of("rewardAmount", 100)),
+                "totalCount", 25,
+                "nextCursor", "2024-02-01,7"
+        );
+        given(userService.getUserRewardPage(1L, "2024-02-02,9", 1)).willReturn(mockResponse);
+
+        // When & Then
+        mockMvc.perform(get("/users/{id}/rewards", 1L).param("after", "2024-02-02,9").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(25))
+                .andExpect(jsonPath("$.nextCursor").value("2024-02-01,7"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("사용자 리워드 내역 조회 - ETag 가 같으면 304")
+    void getUserReward_NotModified() throws Exception {
+        // Given
+        given(userService.getUserRewardSummary(1L))
+                .willReturn(new UserRewardCache.Summary(Map.of("totalCount", 0), "\"abc\""));
+
+        // When & Then
+        mockMvc.perform(get("/users/{id}", 1L).header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("사용자 리워드 내역 조회 - 잘못된 ID 입력")
     void getUserReward_InvalidId() throws Exception {
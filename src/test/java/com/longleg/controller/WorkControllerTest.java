@@ -1,5 +1,6 @@
 package com.longleg.controller;
 
+import com.longleg.dto.ActivityEventResult;
 import com.longleg.service.WorkService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -79,4 +83,28 @@ class WorkControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()); // ✅ 200 OK 기대
     }
+
+    @Test
+    @DisplayName("✅ 활동 이벤트 일괄 기록 - 이벤트별 결과 반환")
+    void recordActivities_Success() throws Exception {
+        // Given
+        Mockito.when(workService.recordActivities(anyList())).thenReturn(List.of(
+                ActivityEventResult.recorded(0, 11),
+                ActivityEventResult.rejected(1, "Resource already exists", "이미 좋아요를 한 작품입니다.")));
+
+        // When & Then
+        mockMvc.perform(post("/works/activities:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                  {"workId": 1, "userId": 123, "type": "VIEW", "clientTimestamp": "2025-02-01T10:00:00"},
+                                  {"workId": 1, "userId": 123, "type": "LIKE", "clientTimestamp": "2025-02-01T10:00:05"}
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("RECORDED"))
+                .andExpect(jsonPath("$[0].count").value(11))
+                .andExpect(jsonPath("$[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$[1].error").value("Resource already exists"));
+    }
 }
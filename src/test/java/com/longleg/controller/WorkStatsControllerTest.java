@@ -1,5 +1,11 @@
 package com.longleg.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.longleg.dto.ActivityCounts;
+import com.longleg.dto.WorkStatsBatchItem;
+import com.longleg.dto.WorkStatsBatchRequest;
+import com.longleg.dto.WorkStatsSeriesDTO;
 import com.longleg.service.WorkStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +16,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mock;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -33,7 +47,7 @@ class WorkStatsControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        workStatsController = new WorkStatsController(workStatsService); // 수동으로 생성
+        workStatsController = new WorkStatsController(workStatsService, new ObjectMapper()); // 수동으로 생성
 
     }
 
@@ -61,4 +75,72 @@ class WorkStatsControllerTest {
         assertEquals(5, response.getBody().get("좋아요"));
         assertEquals(100, response.getBody().get("조회수"));
     }
+
+    @Test
+    @DisplayName("작품 통계 시계열 조회 - 서비스 결과를 그대로 반환")
+    void testGetWorkStatsSeries_Success() {
+        WorkStatsSeriesDTO series = new WorkStatsSeriesDTO("day",
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 3, 0, 0),
+                new long[]{10, 20}, new long[]{1, 2}, new long[]{0, 1});
+        given(workStatsService.getWorkStatsSeries(1L, "day", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2)))
+                .willReturn(series);
+
+        ResponseEntity<WorkStatsSeriesDTO> response = workStatsController.getWorkStatsSeries(
+                1L, "day", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(series, response.getBody());
+    }
+
+    @Test
+    @DisplayName("작품 통계 일괄 조회 - 작품별 결과를 JSON 배열로 스트리밍")
+    @SuppressWarnings("unchecked")
+    void testGetWorkStatsBatch_StreamsItems() throws Exception {
+        WorkStatsBatchRequest request = new WorkStatsBatchRequest(List.of(1L, 2L), "weekly", null, null);
+        LocalDateTime[] range = {LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 8, 0, 0)};
+        given(workStatsService.resolveBatchRange(request)).willReturn(range);
+        doAnswer(invocation -> {
+            Consumer<WorkStatsBatchItem> sink = invocation.getArgument(2);
+            sink.accept(WorkStatsBatchItem.found(1L, new ActivityCounts(7, 2, 40)));
+            sink.accept(WorkStatsBatchItem.notFound(2L));
+            return null;
+        }).when(workStatsService).streamWorkStats(eq(List.of(1L, 2L)), eq(range), any());
+
+        ResponseEntity<StreamingResponseBody> response = workStatsController.getWorkStatsBatch(request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(200, response.getStatusCode().value());
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(2, json.size());
+        assertEquals(1, json.get(0).get("workId").asInt());
+        assertEquals(5, json.get(0).get("좋아요").asInt()); // ✅ 7 - 2
+        assertEquals(40, json.get(0).get("조회수").asInt());
+        assertFalse(json.get(0).has("error"));
+        assertEquals("Resource not found", json.get(1).get("error").asText());
+        assertFalse(json.get(1).has("조회수"));
+    }
+
+    @Test
+    @DisplayName("작품 통계 일괄 조회 - 스트리밍 도중 실패하면 마지막 항목으로 오류 표시")
+    void testGetWorkStatsBatch_WritesTerminalErrorItem_WhenQueryFails() throws Exception {
+        WorkStatsBatchRequest request = new WorkStatsBatchRequest(List.of(1L, 2L), "weekly", null, null);
+        LocalDateTime[] range = {LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 8, 0, 0)};
+        given(workStatsService.resolveBatchRange(request)).willReturn(range);
+        doAnswer(invocation -> {
+            Consumer<WorkStatsBatchItem> sink = invocation.getArgument(2);
+            sink.accept(WorkStatsBatchItem.found(1L, new ActivityCounts(7, 2, 40)));
+            throw new IllegalStateException("db down"); // ✅ 첫 항목을 보낸 뒤 DB 오류
+        }).when(workStatsService).streamWorkStats(eq(List.of(1L, 2L)), eq(range), any());
+
+        ResponseEntity<StreamingResponseBody> response = workStatsController.getWorkStatsBatch(request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray()); // ✅ 닫힌 JSON 배열
+        assertEquals(2, json.size());
+        assertEquals(1, json.get(0).get("workId").asInt());
+        assertFalse(json.get(1).has("workId"));
+        assertEquals("Stats query failed", json.get(1).get("error").asText());
+    }
 }
@@ -0,0 +1,79 @@
+package com.longleg.service;
+
+import com.longleg.dto.RollupWatermarks;
+import com.longleg.repository.ActivityRollupJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityRollupCompactor 단위 테스트")
+class ActivityRollupCompactorTest {
+
+    @Mock
+    private ActivityRollupJdbcRepository activityRollupJdbcRepository;
+
+    private ActivityRollupCompactor compactorAt(LocalDateTime now) {
+        Clock clock = Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new ActivityRollupCompactor(activityRollupJdbcRepository, clock, 7);
+    }
+
+    @Test
+    @DisplayName("compact - 보관 기간이 지난 시간 버킷 정리, 마감된 달만 월 버킷으로 합산")
+    void compact_PrunesHoursAndCompactsClosedMonths() {
+        // Given: 4/10 기준, 월 버킷은 2월 이전까지 존재
+        given(activityRollupJdbcRepository.findWatermarks())
+                .willReturn(new RollupWatermarks(LocalDateTime.of(2024, 4, 1, 0, 0), LocalDate.of(2024, 2, 1)));
+
+        // When
+        compactorAt(LocalDateTime.of(2024, 4, 10, 0, 5)).compact();
+
+        // Then
+        verify(activityRollupJdbcRepository).pruneHourlyBefore(LocalDateTime.of(2024, 4, 3, 0, 0));
+        verify(activityRollupJdbcRepository).compactMonth(LocalDate.of(2024, 2, 1));
+        verify(activityRollupJdbcRepository).compactMonth(LocalDate.of(2024, 3, 1));
+        verify(activityRollupJdbcRepository, never()).compactMonth(LocalDate.of(2024, 4, 1)); // ✅ 진행 중인 달
+    }
+
+    @Test
+    @DisplayName("compact - 다른 인스턴스가 먼저 합산한 달은 건너뛰고 다음 달 진행")
+    void compact_SkipsMonthClaimedByAnotherInstance() {
+        // Given: 2월은 다른 인스턴스가 워터마크를 먼저 올림
+        given(activityRollupJdbcRepository.findWatermarks())
+                .willReturn(new RollupWatermarks(LocalDateTime.of(2024, 4, 3, 0, 0), LocalDate.of(2024, 2, 1)));
+        given(activityRollupJdbcRepository.compactMonth(LocalDate.of(2024, 2, 1))).willReturn(-1);
+
+        // When
+        compactorAt(LocalDateTime.of(2024, 4, 10, 0, 5)).compact();
+
+        // Then
+        verify(activityRollupJdbcRepository).compactMonth(LocalDate.of(2024, 3, 1)); // ✅ 다음 달은 계속 합산
+    }
+
+    @Test
+    @DisplayName("compact - 달이 바뀐 첫날에는 지난달을 아직 합산하지 않음")
+    void compact_WaitsOneDayAfterMonthEnd() {
+        // Given
+        given(activityRollupJdbcRepository.findWatermarks())
+                .willReturn(new RollupWatermarks(LocalDateTime.of(2024, 3, 25, 0, 0), LocalDate.of(2024, 3, 1)));
+
+        // When
+        compactorAt(LocalDateTime.of(2024, 4, 1, 0, 5)).compact();
+
+        // Then
+        verify(activityRollupJdbcRepository, never()).compactMonth(any());
+        verify(activityRollupJdbcRepository, never()).pruneHourlyBefore(any()); // ✅ 이미 보관 기간 이내
+    }
+}
@@ -0,0 +1,142 @@
+package com.longleg.service;
+
+import com.longleg.dto.WorkActivityDTO;
+import com.longleg.entity.RewardRequest;
+import com.longleg.repository.RewardRankingJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankingCache 단위 테스트")
+class RankingCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 29);
+
+    @Mock
+    private RewardRankingJdbcRepository rewardRankingJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RankingCache rankingCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rankingCache = new RankingCache(rewardRankingJdbcRepository, meterRegistry, 10, 60);
+    }
+
+    @Test
+    @DisplayName("get - 저장된 지급 랭킹이 있으면 계산하지 않음")
+    void get_UsesStoredRanking() {
+        when(rewardRankingJdbcRepository.findByDate(DATE)).thenReturn(List.of(new WorkActivityDTO(7L, 3, 10, null)));
+
+        List<WorkActivityDTO> ranking = rankingCache.get(DATE, date -> {
+            throw new AssertionError("저장된 랭킹이 있으면 계산하지 않아야 함");
+        });
+
+        assertThat(ranking).extracting(WorkActivityDTO::getWorkId).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("get - 계산한 랭킹은 보관 시간 동안 캐시에서 반환하고 적중 지표를 기록")
+    void get_ComputesOnceAndRecordsHits() {
+        AtomicInteger computed = new AtomicInteger();
+
+        rankingCache.get(DATE, date -> {
+            computed.incrementAndGet();
+            return List.of(new WorkActivityDTO(1L, 1, 1, null));
+        });
+        rankingCache.get(DATE, date -> {
+            computed.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(computed.get()).isEqualTo(1);
+        verify(rewardRankingJdbcRepository, times(1)).findByDate(DATE);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ranking.computed").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("get - 저장된 지급 랭킹은 계속 보관하여 다시 조회하지 않음")
+    void get_KeepsStoredRanking() {
+        when(rewardRankingJdbcRepository.findByDate(DATE)).thenReturn(List.of(new WorkActivityDTO(7L, 3, 10, null)));
+
+        rankingCache.get(DATE, date -> List.of());
+        List<WorkActivityDTO> cached = rankingCache.get(DATE, date -> List.of());
+
+        assertThat(cached).extracting(WorkActivityDTO::getWorkId).containsExactly(7L);
+        verify(rewardRankingJdbcRepository, times(1)).findByDate(DATE);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ranking").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("get - 지급 전 날짜의 계산 결과는 보관 시간이 지나면 다시 계산")
+    void get_RecomputesUnpaidRankingAfterTtl() {
+        rankingCache = new RankingCache(rewardRankingJdbcRepository, meterRegistry, 10, 0); // ✅ 계산 결과를 보관하지 않는 설정
+        AtomicInteger computed = new AtomicInteger();
+
+        rankingCache.get(DATE, date -> {
+            computed.incrementAndGet();
+            return List.of(new WorkActivityDTO(1L, 1, 1, null));
+        });
+        List<WorkActivityDTO> second = rankingCache.get(DATE, date -> {
+            computed.incrementAndGet();
+            return List.of(new WorkActivityDTO(3L, 2, 1, null));
+        });
+
+        assertThat(computed.get()).isEqualTo(2);
+        assertThat(second).extracting(WorkActivityDTO::getWorkId).containsExactly(3L); // ✅ 늦게 반영된 카운터가 랭킹에 반영
+        verify(rewardRankingJdbcRepository, times(2)).findByDate(DATE);
+    }
+
+    @Test
+    @DisplayName("persist - 지급 후에는 계산 결과 대신 지급 랭킹을 반환")
+    void persist_ReplacesComputedRanking() {
+        rankingCache.get(DATE, date -> List.of(new WorkActivityDTO(1L, 1, 1, null)));
+
+        rankingCache.persist(new RewardRequest(DATE), List.of(new WorkActivityDTO(2L, 5, 50, null)));
+        List<WorkActivityDTO> cached = rankingCache.get(DATE, date -> List.of());
+
+        assertThat(cached).extracting(WorkActivityDTO::getWorkId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("persist - 지급 랭킹을 저장하고 캐시에 반영")
+    void persist_SavesAndCaches() {
+        RewardRequest request = new RewardRequest(DATE);
+        List<WorkActivityDTO> ranking = List.of(new WorkActivityDTO(2L, 5, 50, null));
+
+        rankingCache.persist(request, ranking);
+        List<WorkActivityDTO> cached = rankingCache.get(DATE, date -> List.of());
+
+        verify(rewardRankingJdbcRepository).saveAll(request.getId(), DATE, ranking);
+        verify(rewardRankingJdbcRepository, never()).findByDate(any());
+        assertThat(cached).extracting(WorkActivityDTO::getWorkId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("evict - 제거한 날짜는 다시 계산")
+    void evict_ForcesRecompute() {
+        rankingCache.get(DATE, date -> List.of(new WorkActivityDTO(1L, 1, 1, null)));
+
+        rankingCache.evict(DATE);
+        List<WorkActivityDTO> recomputed = rankingCache.get(DATE, date -> List.of(new WorkActivityDTO(9L, 1, 1, null)));
+
+        assertThat(recomputed).extracting(WorkActivityDTO::getWorkId).containsExactly(9L);
+        verify(rewardRankingJdbcRepository, never()).saveAll(any(), any(), anyList());
+    }
+}
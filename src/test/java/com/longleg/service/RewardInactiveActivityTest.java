@@ -0,0 +1,116 @@
+package com.longleg.service;
+
+import com.longleg.dto.ActivityEvent;
+import com.longleg.dto.WorkActivityDTO;
+import com.longleg.entity.ActivityType;
+import com.longleg.repository.RewardRequestRepository;
+import com.longleg.repository.UserActivityJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비활성(is_active = FALSE) 활동이 랭킹과 지급 대상에 반영되지 않는지 실제 DB에서 확인
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reward-inactive;DB_CLOSE_DELAY=-1",
+        "longleg.like-state.backfill-on-startup=false"
+})
+@DisplayName("비활성 활동 제외 테스트")
+class RewardInactiveActivityTest {
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private RewardRequestRepository rewardRequestRepository;
+
+    @Autowired
+    private UserActivityJdbcRepository userActivityJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate rewardDate = LocalDate.now().minusDays(1);
+
+    private long activeWorkId;
+    private long inflatedWorkId;
+    private final List<Long> inactiveUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        long authorId = insertUser("inactive-author", "AUTHOR");
+        activeWorkId = insertWork("inactive-active-work", authorId);
+        inflatedWorkId = insertWork("inactive-inflated-work", authorId);
+
+        // 활성 좋아요: activeWork 2건, inflatedWork 1건
+        List<ActivityEvent> events = new ArrayList<>();
+        events.add(like(insertUser("inactive-consumer-1", "USER"), activeWorkId));
+        events.add(like(insertUser("inactive-consumer-2", "USER"), activeWorkId));
+        events.add(like(insertUser("inactive-consumer-3", "USER"), inflatedWorkId));
+        // 비활성 처리될 좋아요 3건 (반영되면 inflatedWork 가 1위가 됨)
+        for (int i = 0; i < 3; i++) {
+            long userId = insertUser("inactive-removed-" + i, "USER");
+            inactiveUserIds.add(userId);
+            events.add(like(userId, inflatedWorkId));
+        }
+        userActivityJdbcRepository.batchInsert(events);
+
+        for (long userId : inactiveUserIds) {
+            jdbcTemplate.update("UPDATE user_activity SET is_active = FALSE WHERE user_id = ?", userId);
+        }
+    }
+
+    @Test
+    @DisplayName("비활성 활동은 랭킹 순위와 소비자 지급에서 제외")
+    void inactiveActivity_DoesNotChangeRankOrPayout() {
+        // ✅ 일자별 점수가 없을 때의 원본 집계 경로
+        assertThat(rankedWorkIds(rewardService.reasonReward(rewardDate))).containsSubsequence(activeWorkId, inflatedWorkId);
+
+        rewardService.rewardExecute(rewardDate);
+
+        // ✅ 지급 전 재생성한 일자별 점수 경로
+        Long requestId = rewardRequestRepository.findByRequestDate(rewardDate).orElseThrow().getId();
+        List<Long> rankedWorkIds = jdbcTemplate.queryForList(
+                "SELECT work_id FROM reward_ranking WHERE reward_request_id = ? ORDER BY ranking", Long.class, requestId);
+        assertThat(rankedWorkIds).containsSubsequence(activeWorkId, inflatedWorkId);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT like_count FROM reward_ranking WHERE reward_request_id = ? AND work_id = ?",
+                Integer.class, requestId, inflatedWorkId)).isEqualTo(1);
+
+        List<Long> receivers = jdbcTemplate.queryForList(
+                "SELECT receiver_id FROM reward_history WHERE reward_request_id = ?", Long.class, requestId);
+        assertThat(receivers).doesNotContainAnyElementsOf(inactiveUserIds);
+    }
+
+    private static List<Long> rankedWorkIds(List<WorkActivityDTO> ranking) {
+        return ranking.stream().map(WorkActivityDTO::getWorkId).toList();
+    }
+
+    private long insertUser(String name, String role) {
+        jdbcTemplate.update("INSERT INTO users (name, user_role, reward, created_at) VALUES (?, ?, 0, CURRENT_TIMESTAMP)",
+                name, role);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE name = ?", Long.class, name);
+    }
+
+    private long insertWork(String title, long authorId) {
+        jdbcTemplate.update("INSERT INTO works (title, author_id, view_count, like_count, created_at) "
+                + "VALUES (?, ?, 0, 0, CURRENT_TIMESTAMP)", title, authorId);
+        return jdbcTemplate.queryForObject("SELECT id FROM works WHERE title = ?", Long.class, title);
+    }
+
+    private ActivityEvent like(long userId, long workId) {
+        return new ActivityEvent(userId, workId, ActivityType.LIKE, rewardDate.atTime(10, 0));
+    }
+}
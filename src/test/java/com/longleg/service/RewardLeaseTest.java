@@ -0,0 +1,81 @@
+package com.longleg.service;
+
+import com.longleg.exception.CustomException;
+import com.longleg.repository.RewardLeaseJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RewardLease 단위 테스트")
+class RewardLeaseTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 2, 1);
+    private static final long TTL_MILLIS = 60_000L;
+
+    @Mock
+    private RewardLeaseJdbcRepository rewardLeaseJdbcRepository;
+
+    private RewardLease rewardLease;
+
+    @BeforeEach
+    void setUp() {
+        rewardLease = new RewardLease(rewardLeaseJdbcRepository, "node-a", TTL_MILLIS);
+    }
+
+    @Test
+    @DisplayName("tryAcquire - 같은 인스턴스에서 이미 실행 중인 날짜는 다시 획득하지 않음")
+    void tryAcquire_RejectsSameDateOnSameInstance() {
+        when(rewardLeaseJdbcRepository.tryAcquire(DATE, "node-a", TTL_MILLIS)).thenReturn(true);
+
+        assertThat(rewardLease.tryAcquire(DATE)).isTrue();
+        assertThat(rewardLease.tryAcquire(DATE)).isFalse(); // ✅ 실행 중인 작업과 중복 실행 방지
+
+        rewardLease.release(DATE);
+        assertThat(rewardLease.tryAcquire(DATE)).isTrue();
+        verify(rewardLeaseJdbcRepository, times(2)).tryAcquire(DATE, "node-a", TTL_MILLIS);
+        verify(rewardLeaseJdbcRepository).release(DATE, "node-a");
+    }
+
+    @Test
+    @DisplayName("tryAcquire - 다른 인스턴스가 보유 중이면 false")
+    void tryAcquire_FailsWhenHeldElsewhere() {
+        when(rewardLeaseJdbcRepository.tryAcquire(DATE, "node-a", TTL_MILLIS)).thenReturn(false);
+
+        assertThat(rewardLease.tryAcquire(DATE)).isFalse();
+
+        rewardLease.heartbeat();
+        verify(rewardLeaseJdbcRepository, never()).renew(any(), any(), anyLong()); // ✅ 보유하지 않은 lease 는 갱신하지 않음
+    }
+
+    @Test
+    @DisplayName("fence - lease 를 잃었으면 예외로 지급 트랜잭션을 중단")
+    void fence_ThrowsWhenLeaseLost() {
+        when(rewardLeaseJdbcRepository.renew(DATE, "node-a", TTL_MILLIS)).thenReturn(false);
+
+        assertThatThrownBy(() -> rewardLease.fence(DATE))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("heartbeat - 보유 중인 lease 만료 시각 연장")
+    void heartbeat_RenewsHeldLeases() {
+        when(rewardLeaseJdbcRepository.tryAcquire(DATE, "node-a", TTL_MILLIS)).thenReturn(true);
+        when(rewardLeaseJdbcRepository.renew(DATE, "node-a", TTL_MILLIS)).thenReturn(true);
+        rewardLease.tryAcquire(DATE);
+
+        rewardLease.heartbeat();
+
+        verify(rewardLeaseJdbcRepository).renew(DATE, "node-a", TTL_MILLIS);
+    }
+}
@@ -0,0 +1,157 @@
+package com.longleg.service;
+
+import com.longleg.dto.ActivityEvent;
+import com.longleg.dto.WorkActivityDTO;
+import com.longleg.entity.ActivityType;
+import com.longleg.repository.RewardRequestRepository;
+import com.longleg.repository.UserActivityJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 건별 지급과 집합 단위(INSERT ... SELECT, MERGE) 지급이 같은 리워드 내역과 잔액을 만드는지 실제 DB에서 비교
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reward-payout;DB_CLOSE_DELAY=-1",
+        "longleg.like-state.backfill-on-startup=false"
+})
+@DisplayName("리워드 지급 방식 비교 테스트")
+class RewardPayoutSideBySideTest {
+
+    private static final int AUTHORS = 4;
+    private static final int WORKS = 14;
+    private static final int CONSUMERS = 40;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private RewardRequestRepository rewardRequestRepository;
+
+    @Autowired
+    private UserActivityJdbcRepository userActivityJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate rewardDate = LocalDate.now().minusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        // 작가 / 작품 / 소비자 생성 (작가 한 명이 여러 작품을 가짐)
+        List<Long> authorIds = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            authorIds.add(insertUser("payout-author-" + i, "AUTHOR"));
+        }
+        List<Long> workIds = new ArrayList<>();
+        for (int i = 0; i < WORKS; i++) {
+            jdbcTemplate.update("INSERT INTO works (title, author_id, view_count, like_count, created_at) "
+                    + "VALUES (?, ?, 0, 0, CURRENT_TIMESTAMP)", "payout-work-" + i, authorIds.get(i % AUTHORS));
+            workIds.add(jdbcTemplate.queryForObject("SELECT id FROM works WHERE title = ?", Long.class, "payout-work-" + i));
+        }
+
+        // 조회 / 좋아요 / 좋아요 후 취소 / 취소만 있는 경우 등이 섞이도록 고정 시드로 활동 생성
+        Random random = new Random(7);
+        List<ActivityEvent> events = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            long userId = insertUser("payout-consumer-" + c, "USER");
+            for (long workId : workIds) {
+                int pattern = random.nextInt(6);
+                if (pattern == 1 || pattern == 5) {
+                    events.add(event(userId, workId, ActivityType.VIEW, c));
+                }
+                if (pattern == 2 || pattern == 3) {
+                    events.add(event(userId, workId, ActivityType.LIKE, c));
+                }
+                if (pattern == 3 || pattern == 4) {
+                    events.add(event(userId, workId, ActivityType.UNLIKE, c));
+                }
+            }
+        }
+        // 다른 날짜의 활동은 지급 대상이 아님
+        events.add(new ActivityEvent(insertUser("payout-other-day", "USER"), workIds.get(0),
+                ActivityType.VIEW, rewardDate.minusDays(1).atTime(12, 0)));
+        userActivityJdbcRepository.batchInsert(events);
+    }
+
+    @Test
+    @DisplayName("집합 단위 지급 결과가 건별 지급 결과와 같음")
+    void setBasedPayout_MatchesPerRowPayout() {
+        List<WorkActivityDTO> topWorks = rewardService.reasonReward(rewardDate);
+        assertThat(topWorks).hasSize(10);
+
+        List<String> perRow = payoutAndReset(false);
+        List<String> setBased = payoutAndReset(true);
+
+        assertThat(perRow).isNotEmpty();
+        assertThat(setBased).containsExactlyElementsOf(perRow);
+    }
+
+    /**
+     * 단계별 지급(rewardExecute)을 지정한 방식으로 끝까지 실행하고
+     * (수령자, 작품, 점수, 지급 사유) 목록과 지급 후 잔액을 읽은 뒤, 같은 날짜를 다시 지급할 수 있도록 지급 결과를 지움
+     * 건별 방식은 잔액도 MERGE 대신 chunk 단위 JDBC 배치로 반영한다.
+     */
+    private List<String> payoutAndReset(boolean setBased) {
+        RewardService target = AopTestUtils.getUltimateTargetObject(rewardService);
+        ReflectionTestUtils.setField(target, "setBasedPayout", setBased);
+        ReflectionTestUtils.setField(target, "setBasedDistribute", setBased);
+        ReflectionTestUtils.setField(target, "distributeChunkSize", 7);
+        ReflectionTestUtils.setField(target, "payoutChunkSize", 7);
+        try {
+            rewardService.rewardExecute(rewardDate);
+        } finally {
+            ReflectionTestUtils.setField(target, "setBasedPayout", false);
+            ReflectionTestUtils.setField(target, "setBasedDistribute", true);
+            ReflectionTestUtils.setField(target, "distributeChunkSize", 500);
+            ReflectionTestUtils.setField(target, "payoutChunkSize", 1000);
+        }
+
+        Long requestId = rewardRequestRepository.findByRequestDate(rewardDate).orElseThrow().getId();
+        List<String> rows = jdbcTemplate.queryForList("""
+                SELECT CONCAT(receiver_id, ':', COALESCE(CAST(work_id AS VARCHAR), '-'), ':', points, ' ', reward_reason)
+                FROM reward_history
+                WHERE reward_request_id = ?
+                ORDER BY receiver_id, work_id, points
+                """, String.class, requestId);
+        rows.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT('balance:', id, ':', reward, ':', reward_count) FROM users WHERE reward <> 0 ORDER BY id", String.class));
+        rows.add("unpaid:" + jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reward_history WHERE reward_request_id = ? AND total_paid = FALSE",
+                Long.class, requestId));
+
+        // 지급 단계마다 커밋되므로 롤백 대신 지급 결과를 직접 지움
+        jdbcTemplate.update("DELETE FROM reward_history WHERE reward_request_id = ?", requestId);
+        jdbcTemplate.update("DELETE FROM reward_ranking WHERE reward_request_id = ?", requestId);
+        jdbcTemplate.update("DELETE FROM reward_partition WHERE reward_request_id = ?", requestId);
+        jdbcTemplate.update("DELETE FROM reward_requests WHERE id = ?", requestId);
+        jdbcTemplate.update("DELETE FROM reward_lease WHERE request_date = ?", rewardDate);
+        jdbcTemplate.update("UPDATE users SET reward = 0, reward_count = 0");
+        return rows;
+    }
+
+    private long insertUser(String name, String role) {
+        jdbcTemplate.update("INSERT INTO users (name, user_role, reward, created_at) VALUES (?, ?, 0, CURRENT_TIMESTAMP)",
+                name, role);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE name = ?", Long.class, name);
+    }
+
+    private ActivityEvent event(long userId, long workId, ActivityType type, int minute) {
+        return new ActivityEvent(userId, workId, type, rewardDate.atTime(10, minute));
+    }
+}
@@ -1,23 +1,34 @@
 package com.longleg.service;
 
 import com.longleg.dto.RewardHistoryDTO;
+import com.longleg.dto.RewardPartition;
 import com.longleg.dto.WorkActivityDTO;
 import com.longleg.entity.*;
 import com.longleg.exception.CustomException;
 import com.longleg.repository.RewardRequestRepository;
 import com.longleg.repository.UserActivityRepository;
+import com.longleg.utils.ScoreAccumulator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.lang.reflect.Method;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -52,6 +63,37 @@ class RewardServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private WorkDailyScoreJdbcRepository workDailyScoreJdbcRepository;
+
+    @Mock
+    private WorkCounterBuffer workCounterBuffer;
+
+    @Mock
+    private RewardHistoryJdbcRepository rewardHistoryJdbcRepository;
+
+    @Mock
+    private RewardJobExecutor rewardJobExecutor;
+
+    @Mock
+    private RewardPartitionJdbcRepository rewardPartitionJdbcRepository;
+
+    @Mock
+    private RewardLease rewardLease;
+
+    @Mock
+    private UserRewardCache userRewardCache;
+
+    @Mock
+    private ActivityRollupJdbcRepository activityRollupJdbcRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+
+    @Spy
+    private RankingCache rankingCache = new RankingCache(
+            Mockito.mock(RewardRankingJdbcRepository.class), new SimpleMeterRegistry(), 100, 60);
+
     private Work work;
     private WorkActivityDTO workActivityDTO;
     private RewardRequest rewardRequest;
@@ -62,6 +104,7 @@ class RewardServiceTest {
         work.setId(1L);
         rewardRequest = new RewardRequest(1L);
         workActivityDTO = new WorkActivityDTO(1L);
+        lenient().when(rewardLease.tryAcquire(any(LocalDate.class))).thenReturn(true);
     }
     @Test
     void calReward_ShouldThrowException_WhenRewardDateIsTodayOrFuture() {
@@ -128,8 +171,8 @@ class RewardServiceTest {
 
         List<WorkActivityProjection> mockData = List.of(projection1, projection2);
 
-        // userActivityRepository.getWorkActivityCounts()가 List<WorkActivityProjection>을 반환해야 함
-        when(userActivityRepository.getWorkActivityCounts(rewardDate)).thenReturn(mockData);
+        // userActivityRepository.getWorkActivityCounts()가 Stream<WorkActivityProjection>을 반환해야 함
+        when(userActivityRepository.getWorkActivityCounts(rewardDate)).thenReturn(mockData.stream());
 
         List<WorkActivityDTO> result = rewardService.reasonReward(rewardDate);
 
@@ -150,27 +193,47 @@ class RewardServiceTest {
 
 
     @Test
-    void distributeRewards_ShouldUpdateUserRewardsAndMarkAsPaid() {
+    void distributeRewards_ShouldCreditAndMarkPaidInSingleStatements() {
         Long rewardRequestId = 1L;
+        when(rewardHistoryJdbcRepository.findUnpaidReceivers(rewardRequestId, Long.MAX_VALUE)).thenReturn(List.of(1001L, 1002L));
+
+        // ✅ 1. 메서드 실행 (기본값: MERGE 한 문장으로 잔액 반영)
+        rewardService.distributeRewards(rewardRequestId);
+
+        // ✅ 2. 쓰기 지연된 내역을 먼저 반영한 뒤 잔액 반영 / 지급 완료 처리가 각각 한 번씩 호출되었는지 검증
+        verify(rewardHistoryRepository, times(1)).flush();
+        verify(rewardHistoryJdbcRepository, times(1)).creditUnpaidRewards(rewardRequestId, Long.MAX_VALUE);
+        verify(rewardHistoryJdbcRepository, times(1)).markPaid(rewardRequestId, Long.MAX_VALUE);
+
+        // ✅ 3. 사용자별 조회 / 갱신은 하지 않음
+        verify(rewardHistoryRepository, never()).findUnpaidRewardsByRequest(anyLong(), anyLong());
+        verify(rewardHistoryJdbcRepository, never()).creditRewardsInChunks(anyList(), anyInt());
+
+        // ✅ 4. 반영된 수령자의 응답 캐시만 한 번에 제거
+        verify(userRewardCache).invalidateAfterCommit(List.of(1001L, 1002L));
+    }
+
+    @Test
+    void distributeRewards_ChunkedFallback_ShouldBatchCreditsAndMarkAsPaidOnce() {
+        Long rewardRequestId = 1L;
+        ReflectionTestUtils.setField(rewardService, "setBasedDistribute", false);
+        ReflectionTestUtils.setField(rewardService, "distributeChunkSize", 100);
 
         // ✅ 1. Mock 데이터 설정 (미지급 보상 조회)
         List<Object[]> unpaidRewards = List.of(
-                new Object[]{1001L, 50},  // 유저 ID: 1001, 보상 포인트: 50
-                new Object[]{1002L, 75}   // 유저 ID: 1002, 보상 포인트: 75
+                new Object[]{1001L, 50, 1L},  // 유저 ID: 1001, 보상 포인트: 50, 내역 1건
+                new Object[]{1002L, 75, 2L}   // 유저 ID: 1002, 보상 포인트: 75, 내역 2건
         );
 
-        when(rewardHistoryRepository.findUnpaidRewardsByRequest(rewardRequestId)).thenReturn(unpaidRewards);
+        when(rewardHistoryRepository.findUnpaidRewardsByRequest(rewardRequestId, Long.MAX_VALUE)).thenReturn(unpaidRewards);
 
         // ✅ 2. 메서드 실행
         rewardService.distributeRewards(rewardRequestId);
 
-        // ✅ 3. `updateUserReward()`가 올바르게 호출되었는지 검증
-        verify(userRepository, times(1)).updateUserReward(1001L, 50);
-        verify(userRepository, times(1)).updateUserReward(1002L, 75);
-
-        // ✅ 4. `markAsPaid()`가 올바르게 호출되었는지 검증
-        verify(rewardHistoryRepository, times(1)).markAsPaid(1001L, rewardRequestId);
-        verify(rewardHistoryRepository, times(1)).markAsPaid(1002L, rewardRequestId);
+        // ✅ 3. 합산 결과를 chunk 단위 배치로 반영하고 지급 완료는 한 문장으로 처리
+        verify(rewardHistoryJdbcRepository, times(1)).creditRewardsInChunks(unpaidRewards, 100);
+        verify(rewardHistoryJdbcRepository, times(1)).markPaid(rewardRequestId, Long.MAX_VALUE);
+        verify(rewardHistoryJdbcRepository, never()).creditUnpaidRewards(anyLong(), anyLong());
     }
 
 
@@ -179,10 +242,9 @@ class RewardServiceTest {
         // ✅ 1. Mock 데이터 설정
         RewardRequest mockRequest = Mockito.mock(RewardRequest.class);
 
-        List<Map<String, Object>> userScoreList = List.of(
-                Map.of("userId", 1001L, "currentScore", 50),
-                Map.of("userId", 1002L, "currentScore", 75)
-        );
+        ScoreAccumulator userScores = new ScoreAccumulator(2);
+        userScores.add(1001L, 50);
+        userScores.add(1002L, 75);
 
         User user1 = Mockito.mock(User.class);
         User user2 = Mockito.mock(User.class);
@@ -191,7 +253,7 @@ class RewardServiceTest {
         when(userRepository.findById(1002L)).thenReturn(Optional.of(user2));
 
         // ✅ 2. 메서드 실행
-        rewardService.distributeConsumerRankingRewards(mockRequest, userScoreList);
+        rewardService.distributeConsumerRankingRewards(mockRequest, userScores);
 
         // ✅ 3. `findById()`가 두 번 호출되었는지 검증
         verify(userRepository, times(1)).findById(1001L);
@@ -206,15 +268,14 @@ class RewardServiceTest {
         // ✅ 1. Mock 데이터 설정
         RewardRequest mockRequest = Mockito.mock(RewardRequest.class);
 
-        List<Map<String, Object>> userScoreList = List.of(
-                Map.of("userId", 1001L, "currentScore", 50)
-        );
+        ScoreAccumulator userScores = new ScoreAccumulator(1);
+        userScores.add(1001L, 50);
 
         when(userRepository.findById(1001L)).thenReturn(Optional.empty()); // 존재하지 않는 유저
 
         // ✅ 2. 예외 발생 검증
         CustomException exception = assertThrows(CustomException.class, () -> {
-            rewardService.distributeConsumerRankingRewards(mockRequest, userScoreList);
+            rewardService.distributeConsumerRankingRewards(mockRequest, userScores);
         });
 
         assertEquals("해당 소비자가 존재하지 않습니다.", exception.getMessage());
@@ -233,17 +294,20 @@ class RewardServiceTest {
     @Test
     void distributeAuthorRankingRewards_Success() {
         LocalDate rewardDate = LocalDate.now();
-        List<WorkActivityDTO> topWorks = List.of(new WorkActivityDTO(1L)); // workId가 null이 아님을 보장
+        List<WorkActivityDTO> topWorks = List.of(new WorkActivityDTO(1L), new WorkActivityDTO(2L)); // workId가 null이 아님을 보장
 
         when(workRepository.findById(any())).thenReturn(Optional.of(work));
-        when(userActivityService.getQualifiedUsers(anyLong(), any()))
-                .thenReturn(List.of(100L, 101L, 100L));  // 동일한 userId(100L) 두 번 등장
+        when(userActivityService.getQualifiedUsersByWork(List.of(1L, 2L), rewardDate))
+                .thenReturn(Map.of(1L, Set.of(100L, 101L), 2L, Set.of(100L)));  // 동일한 userId(100L)가 두 작품에 등장
 
 
-        List<Map<String, Object>> result = rewardService.distributeAuthorRankingRewards(topWorks, rewardDate);
+        ScoreAccumulator result = rewardService.distributeAuthorRankingRewards(topWorks, rewardDate);
 
         assertNotNull(result);
         assertEquals(2, result.size());
+        assertEquals(2, result.get(100L)); // ✅ 작품 수만큼 누적
+        assertEquals(1, result.get(101L));
+        verify(userActivityService, never()).getQualifiedUsers(anyLong(), any()); // ✅ 작품별 조회 없음
     }
 
 
@@ -270,7 +334,8 @@ class RewardServiceTest {
 
         rewardService.allocateAuthorRewards(rewardRequest, topWorks);
 
-        verify(rewardHistoryRepository, times(1)).save(any(RewardHistory.class));
+        verify(rewardHistoryRepository, times(1)).save(argThat((RewardHistory history) ->
+                "1:1:0:0".equals(history.getRewardReason()))); // ✅ 지급 사유: 순위:작품ID:좋아요:조회수
     }
 
     @Test
@@ -319,16 +384,14 @@ class RewardServiceTest {
     void testRewardExecute() {
         // Given
         LocalDate rewardDate = LocalDate.of(2024, 2, 1);
-        RewardRequest request = new RewardRequest(rewardDate);
 
         List<WorkActivityDTO> topWorks = Arrays.asList(
                 new WorkActivityDTO(1L),
                 new WorkActivityDTO(2L)
         );
-        List<Map<String, Object>> userScoreList = List.of(
-                Map.of("userId", 1L, "score", 100),
-                Map.of("userId", 2L, "score", 80)
-        );
+        ScoreAccumulator userScores = new ScoreAccumulator(2);
+        userScores.add(1L, 100);
+        userScores.add(2L, 80);
 
 
         // `save()` 호출 시 ID를 설정하여 `null` 방지
@@ -339,14 +402,14 @@ class RewardServiceTest {
         });
 
         doNothing().when(rewardService).validateRewardRequest(any(LocalDate.class));
-        when(rewardService.reasonReward(any(LocalDate.class))).thenReturn(topWorks);
+        doReturn(topWorks).when(rewardService).reasonReward(any(LocalDate.class)); // ✅ spy 실제 메서드 호출 없이 스텁
 
         // ArgumentMatchers를 활용하여 정확한 매칭 문제 해결
         doNothing().when(rewardService).allocateAuthorRewards(any(RewardRequest.class), anyList());
-        when(rewardService.distributeAuthorRankingRewards(anyList(), any(LocalDate.class))).thenReturn(userScoreList);
-        doNothing().when(rewardService).distributeConsumerRankingRewards(any(RewardRequest.class), anyList());
-        // `distributeRewards()`가 `null`을 받을 수 있도록 수정
-        doNothing().when(rewardService).distributeRewards(nullable(Long.class));
+        doReturn(userScores).when(rewardService).distributeAuthorRankingRewards(anyList(), any(LocalDate.class));
+        doNothing().when(rewardService).distributeConsumerRankingRewards(any(RewardRequest.class), any(ScoreAccumulator.class));
+        when(rewardHistoryJdbcRepository.findNextUnpaidReceiverBound(1L, 1000)).thenReturn(2L, (Long) null);
+        doReturn(3).when(rewardService).distributeRewards(1L, 2L);
 
 
         // When
@@ -357,13 +420,419 @@ class RewardServiceTest {
         assertEquals("Reward request completed.", response.get("message"));
         assertEquals("COMPLETE", response.get("status"));
 
-        verify(rewardRequestRepository, times(3)).save(any(RewardRequest.class));
+        ArgumentCaptor<RewardRequest> saved = ArgumentCaptor.forClass(RewardRequest.class);
+        verify(rewardRequestRepository, atLeastOnce()).save(saved.capture());
+        assertEquals(RewardStatus.COMPLETED, saved.getValue().getStatus());
+        assertEquals(RewardPhase.BALANCE_APPLICATION, saved.getValue().getPhase());
+        assertEquals(2 + 2 + 2 + 3, saved.getValue().getRowsProcessed()); // ✅ 랭킹 + 작가 + 소비자 + 지급 완료 건수
+
         verify(rewardService, times(1)).validateRewardRequest(any(LocalDate.class));
-        verify(rewardService, times(1)).reasonReward(any(LocalDate.class));
+        var inOrder = inOrder(workDailyScoreJdbcRepository, rewardService);
+        inOrder.verify(workDailyScoreJdbcRepository).rebuild(rewardDate); // ✅ 랭킹 계산 전 일자별 점수 재생성
+        inOrder.verify(rewardService, times(1)).reasonReward(any(LocalDate.class));
         verify(rewardService, times(1)).allocateAuthorRewards(any(RewardRequest.class), anyList());
         verify(rewardService, times(1)).distributeAuthorRankingRewards(anyList(), any(LocalDate.class));
-        verify(rewardService, times(1)).distributeConsumerRankingRewards(any(RewardRequest.class), anyList());
-        verify(rewardService, times(1)).distributeRewards(nullable(Long.class));
+        verify(rewardService, times(1)).distributeConsumerRankingRewards(any(RewardRequest.class), any(ScoreAccumulator.class));
+        verify(rewardHistoryJdbcRepository).updateConsumerRewardReasons(1L, rewardDate); // ✅ 건별 저장 후 지급 사유 기록
+        verify(rewardService, times(1)).distributeRewards(1L, 2L);
+        verify(rankingCache, times(1)).persist(any(RewardRequest.class), eq(topWorks));
+        verify(transactionTemplate, times(4)).executeWithoutResult(any()); // ✅ 랭킹 / 작가 / 소비자 / 잔액 구간 1개
+        verify(rewardLease, times(4)).fence(rewardDate); // ✅ 커밋마다 lease 확인
+        verify(rewardLease).release(rewardDate);
+    }
+
+    @Test
+    void rewardExecute_SetBasedPayout_ShouldCommitConsumerChunksWithCheckpoint() {
+        // Given
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        List<WorkActivityDTO> topWorks = List.of(new WorkActivityDTO(1L));
+        ReflectionTestUtils.setField(rewardService, "setBasedPayout", true);
+        ReflectionTestUtils.setField(rewardService, "payoutChunkSize", 2);
+
+        when(rewardRequestRepository.save(any())).thenAnswer(invocation -> {
+            RewardRequest savedRequest = invocation.getArgument(0);
+            savedRequest.setId(1L);
+            return savedRequest;
+        });
+        doNothing().when(rewardService).validateRewardRequest(any(LocalDate.class));
+        doReturn(topWorks).when(rewardService).reasonReward(any(LocalDate.class));
+        runPartitionsInline(2);
+        when(rewardHistoryJdbcRepository.findConsumerIdRange(1L, rewardDate)).thenReturn(new long[]{1L, 9L});
+        // ✅ 파티션 0: (0, 5], 파티션 1: (5, 9]
+        when(rewardHistoryJdbcRepository.findNextConsumerBound(1L, rewardDate, 0L, 5L, 2)).thenReturn(3L);
+        when(rewardHistoryJdbcRepository.findNextConsumerBound(1L, rewardDate, 3L, 5L, 2)).thenReturn(5L);
+        when(rewardHistoryJdbcRepository.findNextConsumerBound(1L, rewardDate, 5L, 5L, 2)).thenReturn(null);
+        when(rewardHistoryJdbcRepository.findNextConsumerBound(1L, rewardDate, 5L, 9L, 2)).thenReturn(9L);
+        when(rewardHistoryJdbcRepository.findNextConsumerBound(1L, rewardDate, 9L, 9L, 2)).thenReturn(null);
+        when(rewardPartitionJdbcRepository.sumRowsProcessed(1L)).thenReturn(4L);
+        when(rewardHistoryJdbcRepository.findNextUnpaidReceiverBound(1L, 2)).thenReturn(7L, (Long) null);
+        when(rewardHistoryJdbcRepository.insertAuthorRewards(1L)).thenReturn(1);
+        when(rewardHistoryJdbcRepository.insertConsumerRewards(1L, rewardDate, 0L, 3L)).thenReturn(1);
+        when(rewardHistoryJdbcRepository.insertConsumerRewards(1L, rewardDate, 3L, 5L)).thenReturn(1);
+        when(rewardHistoryJdbcRepository.insertConsumerRewards(1L, rewardDate, 5L, 9L)).thenReturn(2);
+        doReturn(4).when(rewardService).distributeRewards(1L, 7L);
+
+        // When
+        rewardService.rewardExecute(rewardDate);
+
+        // Then
+        verify(rankingCache).persist(any(RewardRequest.class), eq(topWorks)); // ✅ 집합 INSERT 기준 랭킹
+        verify(rewardHistoryJdbcRepository).insertAuthorRewards(1L);
+        verify(rewardPartitionJdbcRepository).createAll(1L, List.of(RewardPartition.of(0, 0L, 5L), RewardPartition.of(1, 5L, 9L)));
+        verify(rewardHistoryJdbcRepository).insertConsumerRewards(1L, rewardDate, 0L, 3L); // ✅ 파티션 안에서 사용자 ID 구간 단위
+        verify(rewardHistoryJdbcRepository).insertConsumerRewards(1L, rewardDate, 3L, 5L);
+        verify(rewardHistoryJdbcRepository).insertConsumerRewards(1L, rewardDate, 5L, 9L);
+        verify(rewardPartitionJdbcRepository).checkpoint(1L, 0, 3L, 1);
+        verify(rewardPartitionJdbcRepository).checkpoint(1L, 0, 5L, 1);
+        verify(rewardPartitionJdbcRepository).checkpoint(1L, 1, 9L, 2);
+        verify(rewardPartitionJdbcRepository).complete(1L, 0);
+        verify(rewardPartitionJdbcRepository).complete(1L, 1);
+        verify(rewardService).distributeRewards(1L, 7L);
+        verify(rewardService, never()).allocateAuthorRewards(any(RewardRequest.class), anyList());
+        verify(rewardService, never()).distributeConsumerRankingRewards(any(RewardRequest.class), any(ScoreAccumulator.class));
+        verify(rewardHistoryRepository, never()).save(any(RewardHistory.class));
+
+        ArgumentCaptor<RewardRequest> saved = ArgumentCaptor.forClass(RewardRequest.class);
+        verify(rewardRequestRepository, atLeastOnce()).save(saved.capture());
+        assertEquals(1 + 1 + 2 + 2 + 4, saved.getValue().getRowsProcessed());
+        assertEquals(7L, saved.getValue().getCheckpointCursor());
+    }
+
+    @Test
+    void rewardExecute_ShouldResumeFailedRequestFromCheckpoint() {
+        // Given: 소비자 내역 생성 중 파티션 1이 사용자 ID 7까지 커밋된 뒤 실패한 요청
+        LocalDate rewardDate = LocalDate.now().minusDays(1);
+        List<WorkActivityDTO> topWorks = List.of(new WorkActivityDTO(1L));
+        ReflectionTestUtils.setField(rewardService, "setBasedPayout", true);
+
+        RewardRequest failed = new RewardRequest(rewardDate);
+        failed.setId(1L);
+        failed.setPhase(RewardPhase.CONSUMER_ALLOCATION);
+        failed.fail();
+
+        runPartitionsInline(2);
+        when(rewardPartitionJdbcRepository.findByRequest(1L)).thenReturn(List.of(
+                new RewardPartition(0, 0L, 5L, 5L, 3L, true),
+                new RewardPartition(1, 5L, 9L, 7L, 1L, false)));
+        when(rewardPartitionJdbcRepository.sumRowsProcessed(1L)).thenReturn(4L);
+
+        when(rewardRequestRepository.findByRequestDate(rewardDate)).thenReturn(Optional.of(failed));
+        when(rewardRequestRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doReturn(topWorks).when(rewardService).reasonReward(rewardDate);
+        when(rewardHistoryJdbcRepository.findNextConsumerBound(1L, rewardDate, 7L, 9L, 1000)).thenReturn(null);
+        when(rewardHistoryJdbcRepository.findNextUnpaidReceiverBound(1L, 1000)).thenReturn(null);
+
+        // When
+        Map<String, Object> response = rewardService.rewardExecute(rewardDate);
+
+        // Then: 끝난 단계는 다시 실행하지 않고 체크포인트 다음 구간부터 진행
+        assertEquals("COMPLETE", response.get("status"));
+        assertEquals(RewardStatus.COMPLETED, failed.getStatus());
+        verify(rewardRequestRepository, never()).save(argThat((RewardRequest request) -> request != failed));
+        verify(rankingCache, never()).persist(any(RewardRequest.class), anyList());
+        verify(workDailyScoreJdbcRepository, never()).rebuild(any()); // ✅ 저장된 지급 랭킹을 그대로 사용
+        verify(rewardHistoryJdbcRepository, never()).insertAuthorRewards(anyLong());
+        verify(rewardHistoryJdbcRepository).findNextConsumerBound(1L, rewardDate, 7L, 9L, 1000); // ✅ 실패한 파티션만 재실행
+        verify(rewardHistoryJdbcRepository, never()).findNextConsumerBound(eq(1L), eq(rewardDate), anyLong(), eq(5L), anyInt());
+        verify(rewardPartitionJdbcRepository, never()).createAll(anyLong(), anyList());
+        verify(rewardPartitionJdbcRepository).complete(1L, 1);
+        assertEquals(4L, failed.getRowsProcessed()); // ✅ 파티션 처리 건수 합산
+    }
+
+    @Test
+    void rewardExecute_ShouldMarkFailedWithCommittedCheckpoint() {
+        // Given
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        ReflectionTestUtils.setField(rewardService, "setBasedPayout", true);
+
+        RewardRequest started = new RewardRequest(rewardDate);
+        started.setId(1L);
+        RewardRequest committed = new RewardRequest(rewardDate);
+        committed.setId(1L);
+        committed.setPhase(RewardPhase.AUTHOR_ALLOCATION);
+
+        when(rewardRequestRepository.save(any())).thenAnswer(invocation -> {
+            RewardRequest savedRequest = invocation.getArgument(0);
+            savedRequest.setId(1L);
+            return savedRequest;
+        });
+        // ✅ lease 획득 후 한 번, 실패 처리 시 커밋된 상태로 한 번 다시 읽음
+        when(rewardRequestRepository.findById(1L)).thenReturn(Optional.of(started), Optional.of(committed));
+        doNothing().when(rewardService).validateRewardRequest(any(LocalDate.class));
+        doReturn(List.of(new WorkActivityDTO(1L))).when(rewardService).reasonReward(any(LocalDate.class));
+        when(rewardHistoryJdbcRepository.insertAuthorRewards(1L)).thenThrow(new IllegalStateException("db down"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> rewardService.rewardExecute(rewardDate));
+
+        assertEquals(RewardStatus.FAILED, committed.getStatus());
+        assertEquals(RewardPhase.AUTHOR_ALLOCATION, committed.getPhase()); // ✅ 롤백된 단계 이전 체크포인트 유지
+        verify(rewardRequestRepository).save(committed);
+        verify(rewardLease).release(rewardDate); // ✅ 실패해도 lease 반납
+    }
+
+    @Test
+    void rewardExecute_ShouldNotMarkFailed_WhenLeaseWasLost() {
+        // Given
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        ReflectionTestUtils.setField(rewardService, "setBasedPayout", true);
+
+        RewardRequest started = new RewardRequest(rewardDate);
+        started.setId(1L);
+
+        when(rewardRequestRepository.save(any())).thenAnswer(invocation -> {
+            RewardRequest savedRequest = invocation.getArgument(0);
+            savedRequest.setId(1L);
+            return savedRequest;
+        });
+        when(rewardRequestRepository.findById(1L)).thenReturn(Optional.of(started));
+        doNothing().when(rewardService).validateRewardRequest(any(LocalDate.class));
+        doReturn(List.of(new WorkActivityDTO(1L))).when(rewardService).reasonReward(any(LocalDate.class));
+        // ✅ 랭킹 단계 커밋 후 lease 만료 → 다른 인스턴스가 가져감
+        CustomException leaseLost = new CustomException("Reward can't be requested", "lease lost");
+        doNothing().doThrow(leaseLost).when(rewardLease).fence(rewardDate);
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class, () -> rewardService.rewardExecute(rewardDate));
+
+        assertSame(leaseLost, exception);
+        assertNotEquals(RewardStatus.FAILED, started.getStatus());
+        verify(rewardRequestRepository, never()).save(argThat(request -> request.getStatus() == RewardStatus.FAILED));
+        verify(rewardLease, times(3)).fence(rewardDate); // ✅ 랭킹 / 작가 지급 / 실패 기록 전 확인
+        verify(rewardLease).release(rewardDate);
+    }
+
+    @Test
+    void runPayout_ShouldNotRun_WhenLeaseIsHeldElsewhere() {
+        // Given
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        RewardRequest request = new RewardRequest(rewardDate);
+        request.setId(1L);
+        when(rewardLease.tryAcquire(rewardDate)).thenReturn(false);
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class, () -> rewardService.runPayout(request));
+
+        assertEquals("Reward already requested", exception.getError());
+        assertEquals(RewardStatus.REQUESTED, request.getStatus());
+        verify(rewardRequestRepository, never()).save(any());
+        verify(rewardLease, never()).release(any());
+    }
+
+    @Test
+    void runPayout_ShouldSkip_WhenCompletedByAnotherInstance() {
+        // Given: lease 를 기다리는 사이 다른 인스턴스가 지급을 마친 요청
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        RewardRequest submitted = new RewardRequest(rewardDate);
+        submitted.setId(1L);
+        RewardRequest completed = new RewardRequest(rewardDate);
+        completed.setId(1L);
+        completed.complete();
+        List<WorkActivityDTO> topWorks = List.of(new WorkActivityDTO(1L));
+        when(rewardRequestRepository.findById(1L)).thenReturn(Optional.of(completed));
+        doReturn(topWorks).when(rewardService).reasonReward(rewardDate);
+
+        // When
+        List<WorkActivityDTO> result = rewardService.runPayout(submitted);
+
+        // Then
+        assertEquals(topWorks, result);
+        verify(rewardRequestRepository, never()).save(any());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(rewardLease).release(rewardDate);
+    }
+
+    @Test
+    void recoverOrphanedPayouts_ShouldSubmitOnlyRequestsWithExpiredLease() {
+        // Given
+        RewardRequest running = new RewardRequest(LocalDate.of(2024, 2, 1));
+        running.setId(1L);
+        RewardRequest orphaned = new RewardRequest(LocalDate.of(2024, 2, 2));
+        orphaned.setId(2L);
+        when(rewardRequestRepository.findByStatusInOrderByRequestDate(anyCollection())).thenReturn(List.of(running, orphaned));
+        when(rewardLease.isActive(running.getRequestDate())).thenReturn(true);
+        when(rewardLease.isActive(orphaned.getRequestDate())).thenReturn(false);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(rewardJobExecutor).submit(any(Runnable.class));
+        doReturn(List.of()).when(rewardService).runPayout(orphaned);
+
+        // When
+        rewardService.recoverOrphanedPayouts();
+
+        // Then
+        verify(rewardJobExecutor, times(1)).submit(any(Runnable.class));
+        verify(rewardService, never()).runPayout(running); // ✅ 다른 인스턴스가 진행 중
+        verify(rewardService).runPayout(orphaned);
+    }
+
+    @Test
+    void resumeUnfinishedPayouts_ShouldContinueAfterFailure() {
+        // Given
+        RewardRequest first = new RewardRequest(LocalDate.of(2024, 2, 1));
+        RewardRequest second = new RewardRequest(LocalDate.of(2024, 2, 2));
+        when(rewardRequestRepository.findByStatusInOrderByRequestDate(anyCollection())).thenReturn(List.of(first, second));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run(); // ✅ 실행기 대신 즉시 실행
+            return null;
+        }).when(rewardJobExecutor).submit(any(Runnable.class));
+        doThrow(new IllegalStateException("db down")).when(rewardService).runPayout(first);
+        doReturn(List.of()).when(rewardService).runPayout(second);
+
+        // When
+        rewardService.resumeUnfinishedPayouts();
+
+        // Then
+        verify(rewardJobExecutor, times(2)).submit(any(Runnable.class));
+        verify(rewardService).runPayout(first);
+        verify(rewardService).runPayout(second); // ✅ 앞선 요청이 실패해도 계속 재개
+    }
+
+    @Test
+    void backfillRewards_ShouldSubmitUnfinishedDaysOldestFirstWithoutWaiting() {
+        // Given: 2/1 완료, 2/2 실패, 2/3 진행 중, 2/4 요청 없음
+        LocalDate start = LocalDate.of(2024, 2, 1);
+        LocalDate end = LocalDate.of(2024, 2, 4);
+        RewardRequest completed = new RewardRequest(start);
+        completed.setId(1L);
+        completed.complete();
+        RewardRequest failed = new RewardRequest(start.plusDays(1));
+        failed.setId(2L);
+        failed.fail();
+        RewardRequest running = new RewardRequest(start.plusDays(2));
+        running.setId(3L);
+        running.startProcessing();
+        when(rewardRequestRepository.findByRequestDateBetweenOrderByRequestDate(start, end))
+                .thenReturn(List.of(completed, failed, running));
+        when(rewardRequestRepository.save(any(RewardRequest.class))).thenAnswer(invocation -> {
+            RewardRequest created = invocation.getArgument(0);
+            created.setId(4L);
+            return created;
+        });
+
+        List<Runnable> submitted = new ArrayList<>();
+        doAnswer(invocation -> submitted.add(invocation.getArgument(0)))
+                .when(rewardJobExecutor).submitBackfill(any(Runnable.class)); // ✅ 실행하지 않고 보관
+
+        // When
+        Map<String, Object> report = rewardService.backfillRewards(start, end);
+
+        // Then: 지급을 기다리지 않고 날짜별 요청 ID / 상태 반환
+        List<Map<String, Object>> days = (List<Map<String, Object>>) report.get("days");
+        assertEquals(List.of("ALREADY_COMPLETED", "ACCEPTED", "IN_PROGRESS", "ACCEPTED"),
+                days.stream().map(day -> day.get("outcome")).toList()); // ✅ 오래된 날짜 순
+        assertEquals(List.of(1L, 2L, 3L, 4L), days.stream().map(day -> day.get("requestId")).toList());
+        assertEquals(RewardStatus.REQUESTED, days.get(3).get("status"));
+        assertEquals(Map.of("ALREADY_COMPLETED", 1L, "ACCEPTED", 2L, "IN_PROGRESS", 1L), report.get("outcomes"));
+        assertEquals(2, submitted.size());
+        verify(rewardService, never()).runPayout(any());
+
+        // 실행기에서 넣은 순서대로 실행
+        doReturn(List.of()).when(rewardService).runPayout(any(RewardRequest.class));
+        submitted.forEach(Runnable::run);
+        var inOrder = inOrder(rewardService);
+        inOrder.verify(rewardService).runPayout(failed);
+        inOrder.verify(rewardService).runPayout(argThat(request -> request.getId() == 4L));
+        verify(rewardJobExecutor, never()).submit(any(Runnable.class)); // ✅ 단건 지급 대기열은 사용하지 않음
+    }
+
+    @Test
+    void backfillRewards_ShouldReportRejectedDay_WhenRequestCannotBeCreated() {
+        LocalDate day = LocalDate.of(2024, 2, 1);
+        when(rewardRequestRepository.findByRequestDateBetweenOrderByRequestDate(day, day)).thenReturn(List.of());
+        when(rewardRequestRepository.save(any(RewardRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_reward_requests_request_date")); // ✅ 다른 인스턴스가 먼저 생성
+
+        Map<String, Object> report = rewardService.backfillRewards(day, day);
+
+        List<Map<String, Object>> days = (List<Map<String, Object>>) report.get("days");
+        assertEquals("REJECTED", days.get(0).get("outcome"));
+        assertEquals("Reward already requested", days.get(0).get("error"));
+        verify(rewardJobExecutor, never()).submitBackfill(any(Runnable.class));
+    }
+
+    @Test
+    void backfillRewards_ShouldThrowException_WhenRangeIsInvalid() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        assertThrows(CustomException.class, () -> rewardService.backfillRewards(yesterday, yesterday.minusDays(1)));
+        assertThrows(CustomException.class, () -> rewardService.backfillRewards(yesterday, LocalDate.now()));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> rewardService.backfillRewards(yesterday.minusDays(31), yesterday)); // ✅ 32일
+
+        assertEquals("Invalid request", exception.getError());
+        verify(rewardJobExecutor, never()).submitBackfill(any(Runnable.class));
+    }
+
+    @Test
+    void submitRewardExecute_ShouldEnqueuePayoutAndReturnRequest() {
+        // Given
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        when(rewardRequestRepository.save(any())).thenAnswer(invocation -> {
+            RewardRequest savedRequest = invocation.getArgument(0);
+            savedRequest.setId(1L);
+            return savedRequest;
+        });
+        doNothing().when(rewardService).validateRewardRequest(rewardDate);
+
+        // When
+        RewardRequest request = rewardService.submitRewardExecute(rewardDate);
+
+        // Then: 접수만 하고 지급은 실행기에서 진행
+        assertEquals(1L, request.getId());
+        assertEquals(RewardStatus.REQUESTED, request.getStatus());
+        verify(rewardJobExecutor).submit(any(Runnable.class));
+        verify(rewardService, never()).runPayout(any(RewardRequest.class));
+    }
+
+    @Test
+    void submitRewardExecute_ShouldMarkFailed_WhenQueueIsFull() {
+        // Given
+        LocalDate rewardDate = LocalDate.of(2024, 2, 1);
+        when(rewardRequestRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doNothing().when(rewardService).validateRewardRequest(rewardDate);
+        doThrow(new CustomException("Reward can't be requested", "대기 중인 리워드 지급 작업이 많습니다. 잠시 후 다시 요청해 주세요."))
+                .when(rewardJobExecutor).submit(any(Runnable.class));
+
+        // When & Then
+        assertThrows(CustomException.class, () -> rewardService.submitRewardExecute(rewardDate));
+
+        ArgumentCaptor<RewardRequest> saved = ArgumentCaptor.forClass(RewardRequest.class);
+        verify(rewardRequestRepository, times(2)).save(saved.capture());
+        assertEquals(RewardStatus.FAILED, saved.getValue().getStatus()); // ✅ 다시 요청하면 재개 가능
+    }
+
+    @Test
+    void getRewardRequestProgress_ShouldReportThroughput() {
+        // Given
+        RewardRequest request = new RewardRequest(LocalDate.of(2024, 2, 1));
+        request.setId(1L);
+        request.setPhase(RewardPhase.BALANCE_APPLICATION);
+        request.setStatus(RewardStatus.COMPLETED);
+        request.setStartedAt(LocalDateTime.of(2024, 2, 2, 1, 0, 0));
+        request.setFinishedAt(LocalDateTime.of(2024, 2, 2, 1, 0, 4));
+        request.addProcessedRows(1000);
+        when(rewardRequestRepository.findById(1L)).thenReturn(Optional.of(request));
+
+        // When
+        Map<String, Object> progress = rewardService.getRewardRequestProgress(1L);
+
+        // Then
+        assertEquals(RewardStatus.COMPLETED, progress.get("status"));
+        assertEquals(RewardPhase.BALANCE_APPLICATION, progress.get("phase"));
+        assertEquals(1000L, progress.get("rowsProcessed"));
+        assertEquals(4000L, progress.get("elapsedMillis"));
+        assertEquals(250.0, progress.get("rowsPerSecond"));
+    }
+
+    @Test
+    void getRewardRequestProgress_ShouldThrow_WhenNotFound() {
+        when(rewardRequestRepository.findById(99L)).thenReturn(Optional.empty());
+
+        CustomException exception = assertThrows(CustomException.class, () -> rewardService.getRewardRequestProgress(99L));
+
+        assertEquals("Resource not found", exception.getError());
     }
 
     @Test
@@ -395,6 +864,20 @@ class RewardServiceTest {
         assertEquals(rewardDate + " 일은 이미 리워드 지급 요청이 있습니다.", exception.getMessage());
     }
 
+    @Test
+    void submitRewardExecute_ShouldThrowException_WhenAnotherInstanceCreatedSameDate() {
+        // given: 동시에 요청한 다른 인스턴스가 먼저 같은 날짜를 저장 (request_date 유니크 제약 위반)
+        LocalDate rewardDate = LocalDate.now().minusDays(1);
+        doNothing().when(rewardService).validateRewardRequest(rewardDate);
+        when(rewardRequestRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_reward_requests_request_date"));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class, () -> rewardService.submitRewardExecute(rewardDate));
+
+        assertEquals("Reward already requested", exception.getError());
+        verify(rewardJobExecutor, never()).submit(any(Runnable.class));
+    }
+
     @Test
     void validateRewardRequest_shouldPassForValidDate() {
         // given: 유효한 과거 날짜
@@ -433,6 +916,136 @@ class RewardServiceTest {
         assertEquals(1, ((List<?>) response3.get("topWorks")).size());
     }
 
+    @Test
+    void reasonReward_ShouldReadDailyScoreTable_WhenScoresExist() {
+        LocalDate rewardDate = LocalDate.now().minusDays(1);
+        List<WorkActivityDTO> scored = List.of(
+                new WorkActivityDTO(2L, 10, 200, null),
+                new WorkActivityDTO(1L, 5, 100, null));
+        when(workDailyScoreJdbcRepository.findTop(rewardDate, 10)).thenReturn(scored);
 
+        List<WorkActivityDTO> result = rewardService.reasonReward(rewardDate);
 
+        assertEquals(scored, result);
+        verify(userActivityRepository, never()).getWorkActivityCounts(any()); // ✅ 원본 집계 생략
+    }
+
+    @Test
+    void rebuildDailyScores_ShouldFlushPendingCountsThenRebuild() {
+        LocalDate scoreDate = LocalDate.now().minusDays(1);
+        when(workDailyScoreJdbcRepository.rebuild(scoreDate)).thenReturn(3);
+
+        int rebuilt = rewardService.rebuildDailyScores(scoreDate);
+
+        assertEquals(3, rebuilt);
+        PlatformTransactionManager transactionManager = transactionTemplate.getTransactionManager();
+        var inOrder = inOrder(workCounterBuffer, transactionManager, workDailyScoreJdbcRepository, activityRollupJdbcRepository);
+        inOrder.verify(workCounterBuffer).flush(); // ✅ 재생성 트랜잭션 시작 전에 반영
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(workDailyScoreJdbcRepository).rebuild(scoreDate);
+        inOrder.verify(activityRollupJdbcRepository).recompactMonth(scoreDate.withDayOfMonth(1)); // ✅ 합산된 달이면 월 버킷도 갱신
+    }
+
+    @Test
+    void rebuildDailyScores_ShouldKeepFlushedCounts_WhenRebuildFails() {
+        LocalDate scoreDate = LocalDate.now().minusDays(1);
+        PlatformTransactionManager transactionManager = transactionTemplate.getTransactionManager();
+        when(workDailyScoreJdbcRepository.rebuild(scoreDate)).thenReturn(3);
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(activityRollupJdbcRepository).recompactMonth(any());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> rewardService.rebuildDailyScores(scoreDate));
+
+        // ✅ 증가분 반영은 롤백된 재생성 트랜잭션에 포함되지 않음
+        var inOrder = inOrder(workCounterBuffer, transactionManager);
+        inOrder.verify(workCounterBuffer).flush();
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionManager).rollback(any());
+        verify(workCounterBuffer, times(1)).flush();
+        verify(transactionManager, never()).commit(any());
+        verify(rankingCache, never()).evict(any());
+    }
+
+    @Test
+    void rebuildDailyScores_ShouldThrowException_WhenDateIsToday() {
+        assertThrows(CustomException.class, () -> rewardService.rebuildDailyScores(LocalDate.now()));
+
+        verify(workDailyScoreJdbcRepository, never()).rebuild(any());
+    }
+
+    @Test
+    void reasonReward_ShouldKeepTopKWithWorkIdTieBreak() {
+        LocalDate rewardDate = LocalDate.now().minusDays(1);
+        ReflectionTestUtils.setField(rewardService, "topK", 3);
+        when(userActivityRepository.getWorkActivityCounts(rewardDate)).thenReturn(Stream.of(
+                projection(5L, 1, 10),   // 12점
+                projection(4L, 0, 30),   // 30점
+                projection(3L, 5, 2),    // 12점
+                projection(2L, 0, 1),    // 1점
+                projection(1L, 6, 0)));  // 12점
+
+        List<WorkActivityDTO> result = rewardService.reasonReward(rewardDate);
+
+        // ✅ 30점 1개 + 12점 동점 중 작품 ID가 작은 2개
+        assertEquals(List.of(4L, 1L, 3L), result.stream().map(WorkActivityDTO::getWorkId).toList());
+    }
+
+    @Test
+    void validateTopK_ShouldRejectRankBeyondAuthorPointSchedule() {
+        ReflectionTestUtils.setField(rewardService, "topK", 11); // ✅ 11위 작가 점수가 0점이 되는 설정
+
+        assertThrows(IllegalStateException.class, () -> rewardService.validateTopK());
+
+        ReflectionTestUtils.setField(rewardService, "topK", 10);
+        assertDoesNotThrow(() -> rewardService.validateTopK());
+    }
+
+    @Test
+    void reasonReward_ShouldComputeClosedDayOnlyOnce() {
+        LocalDate rewardDate = LocalDate.now().minusDays(1);
+        when(userActivityRepository.getWorkActivityCounts(rewardDate)).thenReturn(Stream.of(projection(1L, 1, 1)));
+
+        List<WorkActivityDTO> first = rewardService.reasonReward(rewardDate);
+        first.get(0).setRank(1); // ✅ 호출 측 변경이 캐시에 영향을 주지 않아야 함
+        List<WorkActivityDTO> second = rewardService.reasonReward(rewardDate);
+
+        assertEquals(0, second.get(0).getRank());
+        verify(userActivityRepository, times(1)).getWorkActivityCounts(rewardDate);
+    }
+
+    private static WorkActivityProjection projection(Long workId, int likeCount, int viewCount) {
+        return new WorkActivityProjection() {
+            @Override
+            public Long getWorkId() {
+                return workId;
+            }
+
+            @Override
+            public int getLikeCount() {
+                return likeCount;
+            }
+
+            @Override
+            public int getViewCount() {
+                return viewCount;
+            }
+
+            @Override
+            public Long getUserId() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * 파티션 실행기를 즉시 실행으로 대체
+     */
+    private void runPartitionsInline(int partitionCount) {
+        lenient().when(rewardJobExecutor.getPartitionCount()).thenReturn(partitionCount);
+        doAnswer(invocation -> {
+            List<Runnable> jobs = invocation.getArgument(0);
+            jobs.forEach(Runnable::run);
+            return null;
+        }).when(rewardJobExecutor).runAll(anyList());
+    }
 }
@@ -1,6 +1,7 @@
 package com.longleg.service;
 
 
+import com.longleg.entity.QualifiedUserProjection;
 import com.longleg.repository.UserActivityRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,9 +13,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class) // Mockito 확장 적용
@@ -70,4 +75,42 @@ class UserActivityServiceTest {
 
         verify(userActivityRepository).findQualifiedUserIds(workId, rewardDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getQualifiedUsersByWork - 작품별 조건 충족 사용자를 한 번에 조회")
+    void getQualifiedUsersByWork_GroupsPairsByWork() {
+        // Given
+        given(userActivityRepository.findQualifiedUserPairs(List.of(100L, 200L, 300L), rewardDate))
+                .willReturn(List.of(pair(100L, 1L), pair(100L, 2L), pair(200L, 1L)));
+
+        // When
+        Map<Long, Set<Long>> result = userActivityService.getQualifiedUsersByWork(List.of(100L, 200L, 300L), rewardDate);
+
+        // Then
+        assertThat(result).containsOnlyKeys(100L, 200L); // ✅ 충족 사용자가 없는 작품은 제외
+        assertThat(result.get(100L)).containsExactly(1L, 2L);
+        assertThat(result.get(200L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("getQualifiedUsersByWork - 작품 목록이 비어 있으면 조회하지 않음")
+    void getQualifiedUsersByWork_EmptyWorkIds() {
+        assertThat(userActivityService.getQualifiedUsersByWork(List.of(), rewardDate)).isEmpty();
+
+        verify(userActivityRepository, never()).findQualifiedUserPairs(any(), any());
+    }
+
+    private static QualifiedUserProjection pair(Long workId, Long userId) {
+        return new QualifiedUserProjection() {
+            @Override
+            public Long getWorkId() {
+                return workId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
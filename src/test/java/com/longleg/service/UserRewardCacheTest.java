@@ -0,0 +1,79 @@
+package com.longleg.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserRewardCache 단위 테스트")
+class UserRewardCacheTest {
+
+    private UserRewardCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserRewardCache(new ObjectMapper(), new SimpleMeterRegistry(), 100, 10);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("get - 제거 전까지 같은 응답과 ETag 반환")
+    void get_ReturnsCachedSummary() {
+        UserRewardCache.Summary first = cache.get(1L, this::load);
+        UserRewardCache.Summary second = cache.get(1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).startsWith("\"").endsWith("\""); // ✅ strong ETag
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("invalidateAfterCommit - 트랜잭션이 커밋된 뒤에만 제거")
+    void invalidateAfterCommit_WaitsForCommit() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCommit(List.of(1L));
+        cache.get(1L, this::load);
+        assertThat(loads).hasValue(2); // ✅ 커밋 전에는 유지
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        assertThat(loads).hasValue(3); // ✅ 1번 사용자만 다시 로딩
+    }
+
+    @Test
+    @DisplayName("get - 내용이 바뀌면 ETag 도 바뀜")
+    void get_EtagChangesWithBody() {
+        String before = cache.get(1L, this::load).etag();
+
+        cache.invalidateAfterCommit(List.of(1L));
+        String after = cache.get(1L, this::load).etag();
+
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    private Map<String, Object> load(Long userId) {
+        return Map.of("userId", userId, "totalCount", loads.incrementAndGet());
+    }
+}
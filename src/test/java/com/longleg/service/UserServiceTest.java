@@ -9,13 +9,13 @@ import com.longleg.entity.Work;
 import com.longleg.exception.CustomException;
 import com.longleg.repository.RewardHistoryRepository;
 import com.longleg.repository.UserRepository;
-import com.longleg.repository.WorkRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -25,7 +25,6 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,15 +36,6 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private WorkRepository workRepository;
-
-    @Mock
-    private RewardService rewardService;
-
-    @Mock
-    private UserActivityService userActivityService;
-
     @InjectMocks
     private UserService userService;
 
@@ -77,11 +67,6 @@ class UserServiceTest {
         when(rewardHistoryRepository.findByReceiverIdWithRequestDate(any()))
                 .thenReturn(List.of(new Object[][]{ {rewardHistory, requestDate} }));
 
-
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(workRepository.findById(any())).thenReturn(Optional.of(work));
-        when(rewardService.reasonReward(any())).thenReturn(List.of(new WorkActivityDTO(100L)));
-
         Map<String, Object> result = userService.getUserReward(1L);
 
         assertNotNull(result);
@@ -103,32 +88,73 @@ class UserServiceTest {
     }
 
     @Test
-    void testGetUserReward_UserAsConsumer() {
-        RewardHistory rewardHistory = new RewardHistory();
-        LocalDate requestDate = LocalDate.now();
+    void testGetUserReward_ShouldDecodeStoredReason() {
+        // 🔹 지급 시점에 저장된 사유: 1위 100번 작품, 4위 200번 작품
+        RewardHistory rewardHistory = new RewardHistory(null, user, null, 2, "1:100:5:120,4:200:2:80");
 
         List<Object[]> mockData = new ArrayList<>();
         mockData.add(new Object[]{rewardHistory, requestDate});
+        when(rewardHistoryRepository.findByReceiverIdWithRequestDate(userId)).thenReturn(mockData);
 
-        when(rewardHistoryRepository.findByReceiverIdWithRequestDate(any()))
-                .thenReturn(mockData);
-
-
-        when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(workRepository.findById(any())).thenReturn(Optional.of(work));
-        when(rewardService.reasonReward(any())).thenReturn(List.of(new WorkActivityDTO(100L)));
+        Map<String, Object> result = userService.getUserReward(userId);
 
-        // 🔹 사용자의 역할을 일반 소비자로 설정
-        user.setUserRole(UserRole.USER);
+        List<RewardHistoryDTO> rewards = (List<RewardHistoryDTO>) result.get("rewards");
+        List<WorkActivityDTO> reason = rewards.get(0).getRewardReason();
+        assertEquals(List.of(100L, 200L), reason.stream().map(WorkActivityDTO::getWorkId).toList());
+        assertEquals(List.of(1, 4), reason.stream().map(WorkActivityDTO::getRank).toList());
+        assertEquals(120, reason.get(0).getViewCount());
+        assertEquals(5, reason.get(0).getLikeCount());
+    }
 
-        // 🔹 userActivityService.getQualifiedUsers(...)가 특정 사용자 ID를 포함한 리스트를 반환하도록 설정
-        when(userActivityService.getQualifiedUsers(any(), any()))
-                .thenReturn(List.of(1L)); // ID 1번 사용자가 조건 충족
+    @Test
+    void getUserRewardPage_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // given: limit 2 + 1건 조회 → 다음 페이지 있음
+        LocalDate date = LocalDate.of(2024, 2, 3);
+        when(userRepository.findRewardCountById(userId)).thenReturn(Optional.of(25L));
+        when(rewardHistoryRepository.findPageByReceiverId(userId, LocalDate.of(9999, 12, 31), Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(new ArrayList<>(List.of(
+                        new RewardHistoryDTO(30L, 100, date, true, "1:100:5:120"),
+                        new RewardHistoryDTO(20L, 2, date.minusDays(1), true, null),
+                        new RewardHistoryDTO(10L, 1, date.minusDays(2), true, null))));
+
+        // when
+        Map<String, Object> result = userService.getUserRewardPage(userId, null, 2);
+
+        // then
+        assertEquals(2, ((List<?>) result.get("rewards")).size());
+        assertEquals(25L, result.get("totalCount")); // ✅ 유지되는 카운터 사용
+        assertEquals("2024-02-02,20", result.get("nextCursor"));
+    }
 
-        Map<String, Object> result = userService.getUserReward(1L);
+    @Test
+    void getUserRewardPage_ShouldContinueFromCursor() {
+        // given
+        when(userRepository.findRewardCountById(userId)).thenReturn(Optional.of(3L));
+        when(rewardHistoryRepository.findPageByReceiverId(userId, LocalDate.of(2024, 2, 2), 20L, Limit.of(21)))
+                .thenReturn(List.of(new RewardHistoryDTO(10L, 1, LocalDate.of(2024, 2, 1), true, null)));
+
+        // when
+        Map<String, Object> result = userService.getUserRewardPage(userId, "2024-02-02,20", 20);
+
+        // then
+        assertEquals(1, ((List<?>) result.get("rewards")).size());
+        assertFalse(result.containsKey("nextCursor")); // ✅ 마지막 페이지
+    }
 
-        assertNotNull(result);
-        assertEquals(1, result.get("totalCount"));
+    @Test
+    void getUserRewardPage_ShouldThrowException_WhenRequestIsInvalid() {
+        assertThrows(CustomException.class, () -> userService.getUserRewardPage(userId, null, 0));
+        assertThrows(CustomException.class, () -> userService.getUserRewardPage(userId, null, 101));
+
+        when(userRepository.findRewardCountById(userId)).thenReturn(Optional.of(0L));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> userService.getUserRewardPage(userId, "2024-02-02", 20)); // 내역 ID 누락
+        assertEquals("Invalid request", exception.getError());
+
+        when(userRepository.findRewardCountById(99L)).thenReturn(Optional.empty());
+        exception = assertThrows(CustomException.class, () -> userService.getUserRewardPage(99L, null, 20));
+        assertEquals("Resource not found", exception.getError());
+        verify(rewardHistoryRepository, never()).findPageByReceiverId(any(), any(), any(), any());
     }
 
     @Test
@@ -0,0 +1,210 @@
+package com.longleg.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewDedupCache 단위 테스트")
+class ViewDedupCacheTest {
+
+    private static final long WINDOW_MILLIS = 60 * 60 * 1000L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(1_700_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("markViewed - 윈도우 내 재조회는 DUPLICATE")
+    void markViewed_DuplicateWithinWindow() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+        clock.advance(WINDOW_MILLIS - 1);
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE);
+        assertThat(cache.markViewed(1L, 200L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW); // ✅ 다른 작품
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("markViewed - 윈도우가 지나면 다시 FIRST_VIEW")
+    void markViewed_ExpiresAfterWindow() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+
+        cache.markViewed(1L, 100L);
+        clock.advance(WINDOW_MILLIS);
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+    }
+
+    @Test
+    @DisplayName("markViewed - 버킷 회전 후에도 윈도우 내 기록은 유지")
+    void markViewed_SurvivesRotation() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+
+        clock.advance(WINDOW_MILLIS - 10);
+        cache.markViewed(1L, 100L);
+        clock.advance(20); // ✅ 세대 회전 발생
+        cache.markViewed(2L, 100L);
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE);
+        clock.advance(WINDOW_MILLIS * 2); // ✅ 두 세대 모두 만료
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+    }
+
+    @Test
+    @DisplayName("markViewed - 메모리 상한 초과 시 UNKNOWN")
+    void markViewed_UnknownWhenSaturated() {
+        // 세그먼트당 상한이 1이 되도록 16건으로 제한
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 16);
+
+        int unknown = 0;
+        for (long userId = 1; userId <= 100; userId++) {
+            if (cache.markViewed(userId, 100L) == ViewDedupCache.Result.UNKNOWN) {
+                unknown++;
+            }
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(unknown).isGreaterThanOrEqualTo(84);
+        assertThat(cache.getOverflowCount()).isEqualTo(unknown);
+    }
+
+    @Test
+    @DisplayName("record - 좋아요 등 다른 활동도 조회 중복 판정에 반영")
+    void record_MarksPairAsSeen() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+
+        cache.record(1L, 100L);
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE);
+    }
+
+    @Test
+    @DisplayName("record - 윈도우 안의 좋아요도 기록 시각을 갱신 (조회 0분 → 좋아요 50분 → 조회 70분은 중복)")
+    void record_RefreshesTimestampWithinWindow() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+        long minute = 60 * 1000L;
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+        clock.advance(50 * minute);
+        cache.record(1L, 100L);
+        clock.advance(20 * minute);
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE); // ✅ 1시간 이내 좋아요 기록
+    }
+
+    @Test
+    @DisplayName("record - 롤백되면 덮어쓴 이전 기록 시각으로 되돌림")
+    void record_RestoresPreviousTimestampOnRollback() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+        long minute = 60 * 1000L;
+
+        cache.markViewed(1L, 100L); // ✅ 커밋된 조회
+        clock.advance(10 * minute);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.record(1L, 100L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        clock.advance(40 * minute);
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE); // ✅ 첫 조회 기록 유지
+    }
+
+    @Test
+    @DisplayName("markViewed / record - 트랜잭션이 롤백되면 기록을 되돌림")
+    void markViewed_ForgottenOnRollback() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+            cache.record(2L, 100L);
+            assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE); // ✅ 같은 트랜잭션 안에서는 중복
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+        assertThat(cache.markViewed(2L, 100L)).isEqualTo(ViewDedupCache.Result.FIRST_VIEW);
+    }
+
+    @Test
+    @DisplayName("markViewed - 커밋된 기록은 유지")
+    void markViewed_KeptOnCommit() {
+        ViewDedupCache cache = new ViewDedupCache(jdbcTemplate, new SimpleMeterRegistry(), clock, WINDOW_MILLIS, 1000);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.markViewed(1L, 100L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.markViewed(1L, 100L)).isEqualTo(ViewDedupCache.Result.DUPLICATE);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
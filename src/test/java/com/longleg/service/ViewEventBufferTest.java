@@ -0,0 +1,168 @@
+package com.longleg.service;
+
+import com.longleg.dto.ActivityEvent;
+import com.longleg.entity.ActivityType;
+import com.longleg.repository.UserActivityJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewEventBuffer 단위 테스트")
+class ViewEventBufferTest {
+
+    @Mock
+    private UserActivityJdbcRepository userActivityJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("offer - 비활성화 상태에서는 버퍼에 넣지 않음")
+    void offer_Disabled() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, false, 10, 1000, 10);
+
+        assertThat(buffer.offer(1L, 100L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("offer - 큐가 가득 차면 false 반환")
+    void offer_QueueFull() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 10, 1000, 2);
+
+        assertThat(buffer.offer(1L, 100L)).isTrue();
+        assertThat(buffer.offer(2L, 100L)).isTrue();
+        assertThat(buffer.offer(3L, 100L)).isFalse(); // ✅ 용량 초과
+    }
+
+    @Test
+    @DisplayName("offer - 트랜잭션 안에서 접수된 이벤트는 커밋된 뒤에만 큐에 넣음")
+    void offer_EnqueuedAfterCommit() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 10, 1000, 10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(buffer.offer(1L, 100L)).isTrue();
+            buffer.flushPending();
+            verify(userActivityJdbcRepository, never()).batchInsert(any()); // ✅ 커밋 전에는 기록되지 않음
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+                sync.afterCommit();
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            });
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        buffer.flushPending();
+        verify(userActivityJdbcRepository).batchInsert(argThat((List<ActivityEvent> events) -> events.size() == 1));
+    }
+
+    @Test
+    @DisplayName("offer - 트랜잭션이 롤백되면 이벤트를 버림")
+    void offer_DiscardedOnRollback() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 10, 1000, 10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.offer(1L, 100L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        buffer.flushPending();
+        verify(userActivityJdbcRepository, never()).batchInsert(any());
+    }
+
+    @Test
+    @DisplayName("offer - 커밋 시점에 큐가 가득 찼으면 바로 기록")
+    void offer_WritesDirectlyWhenQueueFilledBeforeCommit() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 10, 1000, 1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(buffer.offer(1L, 100L)).isTrue();
+            assertThat(buffer.offer(2L, 100L)).isTrue(); // ✅ 커밋 전이라 아직 큐에 자리가 있음
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(userActivityJdbcRepository).batchInsert(argThat((List<ActivityEvent> events) ->
+                events.size() == 1 && events.get(0).userId() == 2L)); // ✅ 큐에 들어가지 못한 이벤트
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("flushPending - flushSize 단위로 배치 INSERT")
+    void flushPending_BatchesByFlushSize() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 2, 1000, 10);
+        buffer.offer(1L, 100L);
+        buffer.offer(2L, 100L);
+        buffer.offer(3L, 200L);
+
+        buffer.flushPending();
+
+        verify(userActivityJdbcRepository, times(2)).batchInsert(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("flushPending - 기록되는 이벤트는 VIEW 유형")
+    void flushPending_RecordsViewEvents() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 10, 1000, 10);
+        buffer.offer(1L, 100L);
+
+        doAnswer(invocation -> {
+            List<ActivityEvent> events = invocation.getArgument(0);
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).userId()).isEqualTo(1L);
+            assertThat(events.get(0).workId()).isEqualTo(100L);
+            assertThat(events.get(0).activityType()).isEqualTo(ActivityType.VIEW);
+            return null;
+        }).when(userActivityJdbcRepository).batchInsert(any());
+
+        buffer.flushPending();
+
+        verify(userActivityJdbcRepository).batchInsert(any());
+    }
+
+    @Test
+    @DisplayName("flushPending - 배치 기록이 실패하면 한 건씩 다시 기록")
+    void flushPending_FallsBackToSingleInserts_WhenBatchFails() {
+        ViewEventBuffer buffer = new ViewEventBuffer(userActivityJdbcRepository, transactionManager, true, 10, 1000, 10);
+        buffer.offer(1L, 100L);
+        buffer.offer(2L, 999L); // ✅ 이 이벤트 때문에 배치 전체가 실패
+        buffer.offer(3L, 100L);
+
+        List<Long> recorded = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<ActivityEvent> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.workId() == 999L)) {
+                throw new DataIntegrityViolationException("fk_user_activity_work");
+            }
+            events.forEach(event -> recorded.add(event.userId()));
+            return null;
+        }).when(userActivityJdbcRepository).batchInsert(any());
+
+        buffer.flushPending();
+
+        assertThat(recorded).containsExactly(1L, 3L); // ✅ 실패한 이벤트만 제외하고 기록
+        verify(userActivityJdbcRepository, times(4)).batchInsert(any()); // ✅ 배치 1번 + 한 건씩 3번
+    }
+}
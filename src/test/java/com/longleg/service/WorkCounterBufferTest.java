@@ -0,0 +1,276 @@
+package com.longleg.service;
+
+import com.longleg.dto.ActivityHourlyDelta;
+import com.longleg.dto.WorkCountDelta;
+import com.longleg.dto.WorkDailyScoreDelta;
+import com.longleg.repository.ActivityRollupJdbcRepository;
+import com.longleg.repository.WorkDailyScoreJdbcRepository;
+import com.longleg.repository.WorkJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkCounterBuffer 단위 테스트")
+class WorkCounterBufferTest {
+
+    @Mock
+    private WorkJdbcRepository workJdbcRepository;
+
+    @Mock
+    private WorkDailyScoreJdbcRepository workDailyScoreJdbcRepository;
+
+    @Mock
+    private ActivityRollupJdbcRepository activityRollupJdbcRepository;
+
+    private WorkCounterBuffer workCounterBuffer;
+
+    @BeforeEach
+    void setUp() {
+        workCounterBuffer = new WorkCounterBuffer(workJdbcRepository, workDailyScoreJdbcRepository, activityRollupJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("currentViewCount - 반영된 값에 대기 중인 증가분을 더함")
+    void currentCounts_IncludePendingDeltas() {
+        workCounterBuffer.addView(1L);
+        workCounterBuffer.addView(1L);
+        workCounterBuffer.addLike(1L, 1);
+        workCounterBuffer.addLike(2L, -1);
+
+        assertThat(workCounterBuffer.currentViewCount(1L, 10)).isEqualTo(12);
+        assertThat(workCounterBuffer.currentLikeCount(1L, 3)).isEqualTo(4);
+        assertThat(workCounterBuffer.currentLikeCount(2L, 0)).isZero(); // ✅ 음수 방지
+        assertThat(workCounterBuffer.currentViewCount(3L, 7)).isEqualTo(7); // ✅ 증가분 없는 작품
+    }
+
+    @Test
+    @DisplayName("flush - 작품별 합산 증가분을 한 번에 반영하고 대기분을 비움")
+    void flush_AppliesAggregatedDeltas() {
+        workCounterBuffer.addView(1L);
+        workCounterBuffer.addView(1L);
+        workCounterBuffer.addLike(2L, 1);
+
+        workCounterBuffer.flush();
+
+        verify(workJdbcRepository).addCounts(argThat((List<WorkCountDelta> deltas) ->
+                deltas.size() == 2
+                        && deltas.contains(new WorkCountDelta(1L, 2, 0))
+                        && deltas.contains(new WorkCountDelta(2L, 0, 1))));
+        assertThat(workCounterBuffer.currentViewCount(1L, 12)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("flush - 증가분이 없으면 DB를 호출하지 않음")
+    void flush_NoPendingDeltas() {
+        workCounterBuffer.flush();
+
+        verify(workJdbcRepository, never()).addCounts(anyList());
+        verify(workDailyScoreJdbcRepository, never()).addCounts(anyList());
+        verify(activityRollupJdbcRepository, never()).addHourlyCounts(anyList());
+    }
+
+    @Test
+    @DisplayName("flush - 일자별 점수에는 좋아요와 좋아요 취소를 나눠 반영")
+    void flush_AppliesDailyScoreDeltas() {
+        workCounterBuffer.addView(1L);
+        workCounterBuffer.addLike(1L, 1);
+        workCounterBuffer.addLike(1L, 1);
+        workCounterBuffer.addLike(1L, -1);
+
+        workCounterBuffer.flush();
+
+        verify(workDailyScoreJdbcRepository).addCounts(
+                List.of(new WorkDailyScoreDelta(LocalDate.now(), 1L, 2, 1, 1)));
+        verify(workJdbcRepository).addCounts(List.of(new WorkCountDelta(1L, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("flush - 시간별 집계에는 정시 단위 버킷으로 반영")
+    void flush_AppliesHourlyDeltas() {
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        workCounterBuffer.addView(1L);
+        workCounterBuffer.addLike(1L, -1);
+
+        workCounterBuffer.flush();
+
+        verify(activityRollupJdbcRepository).addHourlyCounts(argThat((List<ActivityHourlyDelta> deltas) ->
+                deltas.size() == 1
+                        && deltas.get(0).workId() == 1L
+                        && !deltas.get(0).bucketHour().isBefore(before) // ✅ 정시 경계를 지나도 현재 시간 버킷
+                        && deltas.get(0).bucketHour().getMinute() == 0
+                        && deltas.get(0).unlikes() == 1
+                        && deltas.get(0).views() == 1));
+    }
+
+    @Test
+    @DisplayName("flush - 시간별 반영 실패 시 다음 주기에 같은 버킷으로 재시도")
+    void flush_RestoresHourlyDeltasOnFailure() {
+        workCounterBuffer.addView(1L);
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .doNothing()
+                .when(activityRollupJdbcRepository).addHourlyCounts(anyList());
+
+        workCounterBuffer.flush();
+        workCounterBuffer.flush();
+
+        verify(activityRollupJdbcRepository, times(2)).addHourlyCounts(argThat((List<ActivityHourlyDelta> deltas) ->
+                deltas.size() == 1 && deltas.get(0).views() == 1));
+    }
+
+    @Test
+    @DisplayName("flush - 반영 실패 시 증가분을 되돌려 다음 주기에 재시도")
+    void flush_RestoresDeltasOnFailure() {
+        workCounterBuffer.addView(1L);
+        doThrow(new DataAccessResourceFailureException("db down")).when(workJdbcRepository).addCounts(any());
+
+        workCounterBuffer.flush();
+
+        assertThat(workCounterBuffer.currentViewCount(1L, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 증가분은 커밋 후에만 버퍼에 반영")
+    void transactionalDeltas_AppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            workCounterBuffer.addView(1L);
+            workCounterBuffer.addLike(1L, 1);
+            assertThat(workCounterBuffer.currentViewCount(1L, 0)).isEqualTo(1); // ✅ 자신의 증가분은 응답에 포함
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(workCounterBuffer.currentViewCount(1L, 0)).isEqualTo(1);
+        assertThat(workCounterBuffer.currentLikeCount(1L, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 증가분을 버림")
+    void transactionalDeltas_DiscardedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            workCounterBuffer.addView(1L);
+            workCounterBuffer.addLike(1L, 1);
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(workCounterBuffer.currentViewCount(1L, 0)).isZero();
+        workCounterBuffer.flush();
+        verify(workJdbcRepository, never()).addCounts(anyList());
+        verify(workDailyScoreJdbcRepository, never()).addCounts(anyList());
+    }
+
+    @Test
+    @DisplayName("자정 직전 트랜잭션의 증가분은 커밋 시각과 관계없이 활동 발생 일자 / 시간 버킷에 반영")
+    void transactionalDeltas_BucketedByOccurredAt() {
+        LocalDateTime beforeMidnight = LocalDate.now().atStartOfDay().minusNanos(100_000_000); // 전날 23:59:59.9
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            workCounterBuffer.addView(1L, beforeMidnight);
+            workCounterBuffer.addLike(1L, 1, beforeMidnight);
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED); // ✅ 커밋은 자정 이후
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        workCounterBuffer.flush();
+
+        verify(workDailyScoreJdbcRepository).addCounts(
+                List.of(new WorkDailyScoreDelta(beforeMidnight.toLocalDate(), 1L, 1, 0, 1)));
+        verify(activityRollupJdbcRepository).addHourlyCounts(
+                List.of(new ActivityHourlyDelta(beforeMidnight.truncatedTo(ChronoUnit.HOURS), 1L, 1, 0, 1)));
+    }
+
+    @Test
+    @DisplayName("flush - 반영 후 한 주기 동안 증가분이 없던 작품 카운터는 제거")
+    void flush_RemovesIdleWorkCounters() {
+        workCounterBuffer.addView(1L);
+
+        workCounterBuffer.flush(); // ✅ 반영
+        workCounterBuffer.flush(); // ✅ 증가분 없음 → 제거
+
+        Map<?, ?> pending = (Map<?, ?>) ReflectionTestUtils.getField(workCounterBuffer, "pending");
+        assertThat(pending).isEmpty();
+
+        workCounterBuffer.addView(1L); // ✅ 제거 후 다시 들어온 증가분도 반영
+        workCounterBuffer.flush();
+        verify(workJdbcRepository, times(2)).addCounts(List.of(new WorkCountDelta(1L, 1, 0)));
+    }
+
+    @Test
+    @DisplayName("flush - 반영에 실패하면 카운터를 제거하지 않고 증가분 유지")
+    void flush_KeepsCountersWhenFlushFails() {
+        workCounterBuffer.addView(1L);
+        doThrow(new DataAccessResourceFailureException("db down")).when(workJdbcRepository).addCounts(any());
+
+        workCounterBuffer.flush();
+        workCounterBuffer.flush();
+
+        assertThat(workCounterBuffer.currentViewCount(1L, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush - 증가분이 쌓이기 시작한 뒤 재생성된 날짜의 증가분은 반영하지 않음")
+    void flush_SkipsDatesRebuiltAfterQueued() {
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(23, 59, 59);
+        workCounterBuffer.addView(1L, yesterday);
+        workCounterBuffer.addView(2L);
+        when(workDailyScoreJdbcRepository.findRebuiltAt(yesterday.toLocalDate()))
+                .thenReturn(Optional.of(LocalDateTime.now())); // ✅ 다른 인스턴스가 방금 재생성
+
+        workCounterBuffer.flush();
+
+        verify(workDailyScoreJdbcRepository).addCounts(
+                List.of(new WorkDailyScoreDelta(LocalDate.now(), 2L, 0, 0, 1))); // ✅ 당일 증가분만 반영
+        verify(workJdbcRepository).addCounts(argThat((List<WorkCountDelta> deltas) -> deltas.size() == 2)); // ✅ 작품 집계는 유지
+    }
+
+    @Test
+    @DisplayName("flush - 증가분이 쌓이기 전에 재생성된 날짜의 증가분은 반영")
+    void flush_KeepsDeltasQueuedAfterRebuild() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        when(workDailyScoreJdbcRepository.findRebuiltAt(yesterday))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+        workCounterBuffer.flush();
+        workCounterBuffer.addView(1L, yesterday.atTime(23, 59, 59)); // ✅ 재생성 이후 커밋된 증가분
+
+        workCounterBuffer.flush();
+
+        verify(workDailyScoreJdbcRepository).addCounts(List.of(new WorkDailyScoreDelta(yesterday, 1L, 0, 0, 1)));
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package com.longleg.service;
 
+import com.longleg.dto.ActivityEvent;
+import com.longleg.dto.ActivityEventRequest;
+import com.longleg.dto.ActivityEventResult;
 import com.longleg.entity.*;
 import com.longleg.exception.CustomException;
+import com.longleg.repository.ActivityRollupJdbcRepository;
+import com.longleg.repository.UserActivityJdbcRepository;
 import com.longleg.repository.UserActivityRepository;
 import com.longleg.repository.UserRepository;
+import com.longleg.repository.UserWorkLikeJdbcRepository;
+import com.longleg.repository.UserWorkLikeRepository;
+import com.longleg.repository.WorkDailyScoreJdbcRepository;
+import com.longleg.repository.WorkJdbcRepository;
 import com.longleg.repository.WorkRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,15 +21,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +50,26 @@ class WorkServiceTest {
     @Mock
     private UserActivityRepository userActivityRepository;
 
+    @Mock
+    private ViewEventBuffer viewEventBuffer;
+
+    @Mock
+    private ViewDedupCache viewDedupCache;
+
+    @Mock
+    private UserWorkLikeRepository userWorkLikeRepository;
+
+    @Mock
+    private UserWorkLikeJdbcRepository userWorkLikeJdbcRepository;
+
+    @Spy
+    private WorkCounterBuffer workCounterBuffer = new WorkCounterBuffer(
+            Mockito.mock(WorkJdbcRepository.class), Mockito.mock(WorkDailyScoreJdbcRepository.class),
+            Mockito.mock(ActivityRollupJdbcRepository.class));
+
+    @Mock
+    private UserActivityJdbcRepository userActivityJdbcRepository;
+
     @InjectMocks
     private WorkService workService;
 
@@ -60,17 +93,11 @@ class WorkServiceTest {
         given(workRepository.findById(workId)).willReturn(Optional.of(work));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
-        given(userActivityRepository.existsByUserAndWorkAndCreatedAtAfter(any(User.class), any(Work.class), any(LocalDateTime.class)))
-                .willReturn(false); // ✅ 1시간 내에 조회한 적 없음
+        given(viewDedupCache.markViewed(anyLong(), anyLong()))
+                .willReturn(ViewDedupCache.Result.FIRST_VIEW); // ✅ 1시간 내에 조회한 적 없음
 
         // ✅ 초기 조회수 설정
-        given(work.getViewCount()).willReturn(9); // 기존 조회수
-
-        // ✅ `increaseViewCount()`가 호출되면 `getViewCount()`가 10을 반환하도록 설정
-        doAnswer(invocation -> {
-            given(work.getViewCount()).willReturn(10);
-            return null;
-        }).when(work).increaseViewCount();
+        given(work.getViewCount()).willReturn(9); // 기존 조회수 (반영되지 않은 증가분이 더해져 응답됨)
 
         // When
         int result = workService.recordView(workId, userId);
@@ -78,7 +105,27 @@ class WorkServiceTest {
         // Then
         assertThat(result).isEqualTo(10); // ✅ 올바른 조회수 검증
         verify(userActivityRepository).save(any(UserActivity.class));
-        verify(work).increaseViewCount();
+        verify(workCounterBuffer).addView(workId);
+    }
+
+    @Test
+    @DisplayName("recordView - write-behind 버퍼에 접수되면 동기 저장하지 않음")
+    void recordView_BufferedWriteBehind() {
+        // Given
+        given(workRepository.findById(workId)).willReturn(Optional.of(work));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
+        given(viewDedupCache.markViewed(anyLong(), anyLong())).willReturn(ViewDedupCache.Result.FIRST_VIEW);
+        given(viewEventBuffer.offer(userId, workId)).willReturn(true); // ✅ 버퍼 접수 성공
+        given(work.getViewCount()).willReturn(9);
+
+        // When
+        int result = workService.recordView(workId, userId);
+
+        // Then
+        assertThat(result).isEqualTo(10); // ✅ 접수된 조회 1건 반영
+        verify(userActivityRepository, never()).save(any(UserActivity.class));
+        verify(workCounterBuffer).addView(workId);
     }
 
     @Test
@@ -89,8 +136,8 @@ class WorkServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
 
-        given(userActivityRepository.existsByUserAndWorkAndCreatedAtAfter(any(User.class), any(Work.class), any(LocalDateTime.class)))
-                .willReturn(true); // ✅ 1시간 내에 이미 조회 기록 있음
+        given(viewDedupCache.markViewed(anyLong(), anyLong()))
+                .willReturn(ViewDedupCache.Result.DUPLICATE); // ✅ 1시간 내에 이미 조회 기록 있음
 
         // ✅ 초기 조회수 설정
         given(work.getViewCount()).willReturn(10);
@@ -101,8 +148,29 @@ class WorkServiceTest {
         // Then
         assertThat(result).isEqualTo(10); // ✅ 올바른 조회수 검증
         verify(userActivityRepository, never()).save(any(UserActivity.class)); // ✅ 조회 기록이 저장되지 않아야 함
-        verify(work, never()).increaseViewCount(); // ✅ 조회수 증가 메서드가 호출되지 않아야 함
+        verify(workCounterBuffer, never()).addView(anyLong()); // ✅ 조회수 증가분이 쌓이지 않아야 함
+
+    }
+
+    @Test
+    @DisplayName("recordView - 중복 캐시 상한 초과 시 DB 조회로 판정")
+    void recordView_CacheOverflow_FallsBackToDatabase() {
+        // Given
+        given(workRepository.findById(workId)).willReturn(Optional.of(work));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
+        given(viewDedupCache.markViewed(anyLong(), anyLong())).willReturn(ViewDedupCache.Result.UNKNOWN);
+        given(userActivityRepository.existsByUserAndWorkAndCreatedAtAfter(any(User.class), any(Work.class), any(LocalDateTime.class)))
+                .willReturn(true); // ✅ DB 기준 1시간 내 조회 기록 있음
+        given(work.getViewCount()).willReturn(10);
 
+        // When
+        int result = workService.recordView(workId, userId);
+
+        // Then
+        assertThat(result).isEqualTo(10);
+        verify(userActivityRepository, never()).save(any(UserActivity.class));
+        verify(workCounterBuffer, never()).addView(anyLong());
     }
 
     @Test
@@ -112,7 +180,7 @@ class WorkServiceTest {
         given(workRepository.findById(workId)).willReturn(Optional.of(work));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
-        given(userActivityRepository.isCurrentlyLiked(user, work)).willReturn(false); // ✅ 좋아요한 적 없음
+        given(userWorkLikeJdbcRepository.like(userId, workId)).willReturn(1); // ✅ 좋아요한 적 없음 → 좋아요 상태로 전환
 
         // ✅ 좋아요 개수를 명시적으로 설정
         given(work.getLikeCount()).willReturn(5);
@@ -121,9 +189,9 @@ class WorkServiceTest {
         int result = workService.recordLike(workId, userId);
 
         // Then
-        assertThat(result).isEqualTo(5); // ✅ 올바른 좋아요 개수 검증
+        assertThat(result).isEqualTo(6); // ✅ 반영 대기 중인 좋아요 1건 포함
         verify(userActivityRepository).save(any(UserActivity.class));
-        verify(work).increaseLikeCount();
+        verify(workCounterBuffer).addLike(workId, 1);
     }
 
     @Test
@@ -132,14 +200,14 @@ class WorkServiceTest {
         // Given
         given(workRepository.findById(workId)).willReturn(Optional.of(work));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(userActivityRepository.isCurrentlyLiked(user, work)).willReturn(true); // ✅ 좋아요한 상태
+        given(userWorkLikeRepository.unlike(userId, workId)).willReturn(1); // ✅ 좋아요한 상태 → 취소 상태로 전환
         given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
         // When
         workService.recordUnlike(workId, userId);
 
         // Then
         verify(userActivityRepository).save(any(UserActivity.class));
-        verify(work).decreaseLikeCount();
+        verify(workCounterBuffer).addLike(workId, -1);
     }
 
     @Test
@@ -148,7 +216,7 @@ class WorkServiceTest {
         // Given
         given(workRepository.findById(workId)).willReturn(Optional.of(work));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(userActivityRepository.isCurrentlyLiked(user, work)).willReturn(false); // ✅ 좋아요하지 않은 상태
+        given(userWorkLikeRepository.unlike(userId, workId)).willReturn(0); // ✅ 좋아요하지 않은 상태
 
         given(user.getUserRole()).willReturn(com.longleg.entity.UserRole.USER);
         // When & Then
@@ -156,7 +224,7 @@ class WorkServiceTest {
         assertThat(exception.getMessage()).isEqualTo("해당 작품을 좋아요하지 않아서 좋아요 취소를 할 수 없습니다.");
 
         verify(userActivityRepository, never()).save(any(UserActivity.class));
-        verify(work, never()).decreaseLikeCount();
+        verify(workCounterBuffer, never()).addLike(anyLong(), anyInt());
     }
 
 
@@ -210,7 +278,7 @@ class WorkServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(user.getUserRole()).thenReturn(UserRole.USER); // ✅ 일반 사용자로 설정
 
-        when(userActivityRepository.isCurrentlyLiked(user, work)).thenReturn(true); // ✅ 이미 좋아요한 상태
+        when(userWorkLikeJdbcRepository.like(userId, workId)).thenReturn(0); // ✅ 이미 좋아요한 상태
 
         // when & then
         CustomException exception = assertThrows(CustomException.class, () -> {
@@ -220,7 +288,31 @@ class WorkServiceTest {
         assertEquals("Resource already exists", exception.getError());
         assertEquals("이미 좋아요를 한 작품입니다.", exception.getMessage());
 
-        verify(work, never()).increaseLikeCount(); // ✅ 좋아요 수 증가하지 않아야 함
+        verify(workCounterBuffer, never()).addLike(anyLong(), anyInt()); // ✅ 좋아요 수 증가하지 않아야 함
+    }
+
+    @Test
+    void recordLike_WhenConcurrentLikeWins_ShouldThrowException() {
+        // given
+        Long workId = 1L;
+        Long userId = 1L;
+
+        Work work = mock(Work.class);
+        User user = mock(User.class);
+
+        when(workRepository.findById(workId)).thenReturn(Optional.of(work));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(user.getUserRole()).thenReturn(UserRole.USER);
+
+        // ✅ 동시에 들어온 좋아요가 먼저 INSERT 되어 반영된 행 없음 (예외 없이 0)
+        when(userWorkLikeJdbcRepository.like(userId, workId)).thenReturn(0);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class, () -> workService.recordLike(workId, userId));
+
+        assertEquals("Resource already exists", exception.getError());
+        verify(userActivityRepository, never()).save(any());
+        verify(workCounterBuffer, never()).addLike(anyLong(), anyInt());
     }
 
     @Test
@@ -236,14 +328,14 @@ class WorkServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(user.getUserRole()).thenReturn(UserRole.USER); // ✅ 일반 사용자 설정
 
-        when(userActivityRepository.isCurrentlyLiked(user, work)).thenReturn(true); // ✅ 좋아요한 상태
+        when(userWorkLikeRepository.unlike(userId, workId)).thenReturn(1); // ✅ 좋아요한 상태
 
         // when
         workService.recordUnlike(workId, userId);
 
         // then
         verify(userActivityRepository, times(1)).save(any()); // ✅ "UNLIKE" 기록 저장 확인
-        verify(work, times(1)).decreaseLikeCount(); // ✅ 좋아요 수 감소 확인
+        verify(workCounterBuffer, times(1)).addLike(workId, -1); // ✅ 좋아요 수 감소 확인
     }
 
     @Test
@@ -264,7 +356,7 @@ class WorkServiceTest {
 
         // then
         verify(userActivityRepository, never()).save(any()); // ✅ 좋아요 취소 기록이 저장되지 않아야 함
-        verify(work, never()).decreaseLikeCount(); // ✅ 좋아요 수 감소되지 않아야 함
+        verify(workCounterBuffer, never()).addLike(anyLong(), anyInt()); // ✅ 좋아요 수 감소되지 않아야 함
     }
     @Test
     void recordLike_WhenUserIsAdmin_ShouldNotIncreaseLikeCount() {
@@ -284,7 +376,7 @@ class WorkServiceTest {
 
         // then
         verify(userActivityRepository, never()).save(any()); // ✅ 좋아요 기록이 저장되지 않아야 함
-        verify(work, never()).increaseLikeCount(); // ✅ 좋아요 수 증가하지 않아야 함
+        verify(workCounterBuffer, never()).addLike(anyLong(), anyInt()); // ✅ 좋아요 수 증가하지 않아야 함
     }
 
     @Test
@@ -305,7 +397,7 @@ class WorkServiceTest {
 
         // then
         verify(userActivityRepository, never()).save(any()); // ✅ 좋아요 기록이 저장되지 않아야 함
-        verify(work, never()).increaseLikeCount(); // ✅ 좋아요 수 증가하지 않아야 함
+        verify(workCounterBuffer, never()).addLike(anyLong(), anyInt()); // ✅ 좋아요 수 증가하지 않아야 함
     }
 
     @Test
@@ -314,14 +406,14 @@ class WorkServiceTest {
         when(user.getUserRole()).thenReturn(UserRole.USER);
         when(workRepository.findById(any())).thenReturn(Optional.of(work));
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(userActivityRepository.existsByUserAndWorkAndCreatedAtAfter(any(), any(), any()))
-                .thenReturn(false); // 아직 조회 기록 없음
+        when(viewDedupCache.markViewed(anyLong(), anyLong()))
+                .thenReturn(ViewDedupCache.Result.FIRST_VIEW); // 아직 조회 기록 없음
 
         // when
         workService.recordView(workId, userId);
 
         // then
-        verify(work, times(1)).increaseViewCount(); // 조회수 증가 확인
+        verify(workCounterBuffer, times(1)).addView(workId); // 조회수 증가 확인
     }
 
     @Test
@@ -335,7 +427,59 @@ class WorkServiceTest {
         workService.recordView(workId, userId);
 
         // then
-        verify(work, never()).increaseViewCount(); // 조회수 증가하면 안 됨
+        verify(workCounterBuffer, never()).addView(anyLong()); // 조회수 증가하면 안 됨
+    }
+
+
+    @Test
+    @DisplayName("recordActivities - 클라이언트 시각 순으로 규칙을 적용하고 한 번에 저장")
+    void recordActivities_AppliesRulesInClientOrder() {
+        // Given
+        LocalDateTime t = LocalDateTime.of(2025, 2, 1, 10, 0);
+        List<ActivityEventRequest> events = List.of(
+                new ActivityEventRequest(workId, userId, ActivityType.LIKE, t.plusSeconds(10)),
+                new ActivityEventRequest(workId, userId, ActivityType.VIEW, t),
+                new ActivityEventRequest(workId, userId, ActivityType.VIEW, t.plusSeconds(5)),
+                new ActivityEventRequest(999L, userId, ActivityType.VIEW, t));
+
+        given(userRepository.findAllById(List.of(userId))).willReturn(List.of(user));
+        given(workRepository.findAllById(List.of(workId, 999L))).willReturn(List.of(work));
+        given(user.getId()).willReturn(userId);
+        given(work.getId()).willReturn(workId);
+        given(user.getUserRole()).willReturn(UserRole.USER);
+        given(viewDedupCache.markViewed(userId, workId))
+                .willReturn(ViewDedupCache.Result.FIRST_VIEW, ViewDedupCache.Result.DUPLICATE);
+        given(userWorkLikeJdbcRepository.like(userId, workId)).willReturn(1);
+        given(work.getViewCount()).willReturn(9);
+        given(work.getLikeCount()).willReturn(2);
+
+        // When
+        List<ActivityEventResult> results = workService.recordActivities(events);
+
+        // Then
+        assertThat(results).extracting(ActivityEventResult::getIndex).containsExactly(0, 1, 2, 3); // ✅ 요청 순서 유지
+        assertThat(results).extracting(ActivityEventResult::getStatus).containsExactly(
+                ActivityEventResult.RECORDED, ActivityEventResult.RECORDED,
+                ActivityEventResult.DUPLICATE, ActivityEventResult.REJECTED);
+        assertThat(results.get(0).getCount()).isEqualTo(3);  // ✅ 좋아요 수
+        assertThat(results.get(1).getCount()).isEqualTo(10); // ✅ 조회수
+        assertThat(results.get(3).getError()).isEqualTo("Resource not found");
+
+        verify(userActivityJdbcRepository).batchInsert(argThat((List<ActivityEvent> rows) ->
+                rows.size() == 2
+                        && rows.get(0).activityType() == ActivityType.VIEW
+                        && rows.get(1).activityType() == ActivityType.LIKE));
+        verify(userActivityRepository, never()).save(any(UserActivity.class));
     }
 
+    @Test
+    @DisplayName("recordActivities - 빈 목록이나 최대 건수 초과 시 예외 발생")
+    void recordActivities_InvalidBatchSize() {
+        List<ActivityEventRequest> tooMany = Collections.nCopies(WorkService.MAX_BATCH_SIZE + 1,
+                new ActivityEventRequest(workId, userId, ActivityType.VIEW, null));
+
+        assertThrows(CustomException.class, () -> workService.recordActivities(List.of()));
+        assertThrows(CustomException.class, () -> workService.recordActivities(tooMany));
+        verifyNoInteractions(userRepository, workRepository, userActivityJdbcRepository);
+    }
 }
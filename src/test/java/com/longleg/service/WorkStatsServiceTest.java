@@ -1,7 +1,13 @@
 package com.longleg.service;
 
+import com.longleg.dto.ActivityBucket;
+import com.longleg.dto.ActivityCounts;
+import com.longleg.dto.RollupWatermarks;
+import com.longleg.dto.WorkStatsBatchItem;
+import com.longleg.dto.WorkStatsBatchRequest;
+import com.longleg.dto.WorkStatsSeriesDTO;
 import com.longleg.exception.CustomException;
-import com.longleg.repository.UserActivityRepository;
+import com.longleg.repository.ActivityRollupJdbcRepository;
 import com.longleg.repository.WorkRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,23 +19,31 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class) // Mockito 확장 적용
 @DisplayName("WorkStatsService 단위 테스트")
 class WorkStatsServiceTest {
 
     @Mock
-    private UserActivityRepository userActivityRepository;
+    private ActivityRollupJdbcRepository activityRollupJdbcRepository;
 
     @Mock
     private WorkRepository workRepository;
@@ -53,8 +67,16 @@ class WorkStatsServiceTest {
 
         // ✅ Strict Stubbing 문제 해결 (필요할 경우 추가)
         lenient().when(workRepository.existsById(any(Long.class))).thenReturn(true);
-        lenient().when(userActivityRepository.getWorkStats(any(Long.class), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(null);
+        lenient().when(activityRollupJdbcRepository.findWatermarks())
+                .thenReturn(new RollupWatermarks(LocalDateTime.of(2024, 3, 1, 0, 0), LocalDate.of(2024, 3, 1)));
+        lenient().when(activityRollupJdbcRepository.sumMonthly(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(ActivityCounts.ZERO);
+        lenient().when(activityRollupJdbcRepository.sumDaily(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(ActivityCounts.ZERO);
+        lenient().when(activityRollupJdbcRepository.sumHourly(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(ActivityCounts.ZERO);
+        lenient().when(activityRollupJdbcRepository.sumRaw(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(ActivityCounts.ZERO);
     }
 
 
@@ -127,15 +149,13 @@ class WorkStatsServiceTest {
     }
 
     @Test
-    @DisplayName("getWorkStats - userActivityRepository.getWorkStats()가 null일 경우 기본값 반환")
-    void getWorkStats_ReturnsDefault_WhenStatsIsNull() {
+    @DisplayName("getWorkStats - 활동이 없으면 0 반환")
+    void getWorkStats_ReturnsDefault_WhenNoActivity() {
         // Given
         given(workRepository.existsById(any(Long.class))).willReturn(true);
-        given(userActivityRepository.getWorkStats(any(Long.class), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(null); // ✅ any()를 사용하여 동적 날짜 값 처리
 
         // When
-        Map<String, Integer> result = workStatsService.getWorkStats(workId, "monthly", startDate, endDate);
+        Map<String, Integer> result = workStatsService.getWorkStats(workId, "weekly", startDate, endDate);
 
         // Then
         assertThat(result).isNotNull();
@@ -144,41 +164,238 @@ class WorkStatsServiceTest {
     }
 
     @Test
-    @DisplayName("getWorkStats - 통계 데이터가 비어 있을 경우 기본값 반환")
-    void getWorkStats_ReturnsDefault_WhenStatsIsEmpty() {
-        // Given
+    @DisplayName("getWorkStats - 지정한 날짜 범위의 버킷별 합계를 더해 좋아요(LIKE - UNLIKE) / 조회수로 변환")
+    void getWorkStats_TransformsDataCorrectly() {
+        // Given: 1/1 ~ 2/1 (종료일 포함) → 1월 버킷 + 2/1 일자별 점수
         given(workRepository.existsById(any(Long.class))).willReturn(true);
-        given(userActivityRepository.getWorkStats(any(Long.class), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(null); // ✅ any()를 사용하여 동적 날짜 값 처리
+        given(activityRollupJdbcRepository.sumMonthly(workId, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)))
+                .willReturn(new ActivityCounts(10, 3, 150));
+        given(activityRollupJdbcRepository.sumDaily(workId, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 2)))
+                .willReturn(new ActivityCounts(5, 0, 50)); // ✅ 일괄 조회와 같은 날짜 범위 사용
 
         // When
-        Map<String, Integer> result = workStatsService.getWorkStats(workId, "weekly", startDate, endDate);
+        Map<String, Integer> result = workStatsService.getWorkStats(workId, "daily", startDate, endDate);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.get("좋아요")).isEqualTo(0);
-        assertThat(result.get("조회수")).isEqualTo(0);
+        assertThat(result.get("좋아요")).isEqualTo(12); // (10 + 5) - 3 = 12
+        assertThat(result.get("조회수")).isEqualTo(200);
     }
 
     @Test
-    @DisplayName("getWorkStats - 데이터 변환이 올바르게 수행되는지 검증")
-    void getWorkStats_TransformsDataCorrectly() {
+    @DisplayName("sumRange - 월 / 일 / 시간 버킷으로 나누고 정시에 맞지 않는 경계만 원본 조회")
+    void sumRange_UsesCoarsestBuckets() {
+        // Given: 시간 버킷은 3/1 이후, 월 버킷은 2월까지 존재
+        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 2, 5, 20);
+        given(activityRollupJdbcRepository.sumMonthly(workId, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)))
+                .willReturn(new ActivityCounts(100, 10, 1000));
+        given(activityRollupJdbcRepository.sumDaily(workId, LocalDate.of(2024, 1, 16), LocalDate.of(2024, 2, 1)))
+                .willReturn(new ActivityCounts(50, 5, 500));
+        given(activityRollupJdbcRepository.sumDaily(workId, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)))
+                .willReturn(new ActivityCounts(5, 0, 50));
+        given(activityRollupJdbcRepository.sumHourly(workId, LocalDateTime.of(2024, 3, 2, 0, 0), LocalDateTime.of(2024, 3, 2, 5, 0)))
+                .willReturn(new ActivityCounts(2, 1, 20));
+        given(activityRollupJdbcRepository.sumRaw(workId, start, LocalDateTime.of(2024, 1, 16, 0, 0)))
+                .willReturn(new ActivityCounts(1, 0, 10)); // ✅ 시간 버킷 보관 기간 이전의 날짜 경계
+        given(activityRollupJdbcRepository.sumRaw(workId, LocalDateTime.of(2024, 3, 2, 5, 0), end))
+                .willReturn(new ActivityCounts(1, 0, 3));
+
+        // When
+        ActivityCounts counts = workStatsService.sumRange(workId, start, end);
+
+        // Then
+        assertThat(counts).isEqualTo(new ActivityCounts(159, 16, 1583));
+        verify(activityRollupJdbcRepository).findWatermarks();
+        verify(activityRollupJdbcRepository).sumMonthly(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(activityRollupJdbcRepository, times(2)).sumDaily(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(activityRollupJdbcRepository).sumHourly(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(activityRollupJdbcRepository, times(2)).sumRaw(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verifyNoMoreInteractions(activityRollupJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("sumRange - 집계가 끝나지 않은 달은 일자별 점수로 합산")
+    void sumRange_SkipsMonthsAfterWatermark() {
         // Given
-        given(workRepository.existsById(any(Long.class))).willReturn(true);
-        given(userActivityRepository.getWorkStats(any(Long.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+        // When
+        workStatsService.sumRange(workId, start, end);
+
+        // Then
+        verify(activityRollupJdbcRepository, never()).sumMonthly(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(activityRollupJdbcRepository).sumDaily(workId, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 5, 1));
+        verify(activityRollupJdbcRepository, never()).sumRaw(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)); // ✅ 경계가 모두 자정
+    }
+
+    @Test
+    @DisplayName("sumRange - 시간 버킷 보관 기간 내 짧은 구간은 시간 버킷과 경계 원본으로 합산")
+    void sumRange_WithinDayUsesHourlyBuckets() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 5, 9, 15);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 5, 18, 45);
+
+        // When
+        workStatsService.sumRange(workId, start, end);
+
+        // Then
+        verify(activityRollupJdbcRepository, never()).sumDaily(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(activityRollupJdbcRepository).sumHourly(workId, LocalDateTime.of(2024, 3, 5, 10, 0), LocalDateTime.of(2024, 3, 5, 18, 0));
+        verify(activityRollupJdbcRepository).sumRaw(workId, start, LocalDateTime.of(2024, 3, 5, 10, 0));
+        verify(activityRollupJdbcRepository).sumRaw(workId, LocalDateTime.of(2024, 3, 5, 18, 0), end);
+    }
+
+
+    @Test
+    @DisplayName("getWorkStatsSeries - 일 단위는 일자별 점수를 읽고 빈 날짜는 0 으로 채움")
+    void getWorkStatsSeries_Day() {
+        // Given
+        given(activityRollupJdbcRepository.findDailySeries(workId, LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 7)))
                 .willReturn(List.of(
-                        new Object[]{"LIKE", 15},
-                        new Object[]{"VIEW", 200}
-                ));
+                        new ActivityBucket(LocalDateTime.of(2024, 3, 4, 0, 0), 3, 1, 30),
+                        new ActivityBucket(LocalDateTime.of(2024, 3, 6, 0, 0), 2, 0, 20)));
 
         // When
-        Map<String, Integer> result = workStatsService.getWorkStats(workId, "daily", startDate, endDate);
+        WorkStatsSeriesDTO series = workStatsService.getWorkStatsSeries(
+                workId, "day", LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 6));
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result.get("좋아요")).isEqualTo(15);
-        assertThat(result.get("조회수")).isEqualTo(200);
+        assertThat(series.getGranularity()).isEqualTo("day");
+        assertThat(series.getStart()).isEqualTo(LocalDateTime.of(2024, 3, 4, 0, 0));
+        assertThat(series.getEnd()).isEqualTo(LocalDateTime.of(2024, 3, 7, 0, 0));
+        assertThat(series.getViews()).containsExactly(30, 0, 20);
+        assertThat(series.getLikes()).containsExactly(3, 0, 2);
+        assertThat(series.getUnlikes()).containsExactly(1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("getWorkStatsSeries - 주 단위는 월요일 기준으로 일자별 점수를 합산")
+    void getWorkStatsSeries_Week() {
+        // Given: 2024-03-06(수) ~ 2024-03-12(화) → 3/4 주, 3/11 주
+        given(activityRollupJdbcRepository.findDailySeries(workId, LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 18)))
+                .willReturn(List.of(
+                        new ActivityBucket(LocalDateTime.of(2024, 3, 5, 0, 0), 1, 0, 10),
+                        new ActivityBucket(LocalDateTime.of(2024, 3, 10, 0, 0), 1, 0, 10),
+                        new ActivityBucket(LocalDateTime.of(2024, 3, 11, 0, 0), 0, 1, 5)));
+
+        // When
+        WorkStatsSeriesDTO series = workStatsService.getWorkStatsSeries(
+                workId, "week", LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 12));
+
+        // Then
+        assertThat(series.getStart()).isEqualTo(LocalDateTime.of(2024, 3, 4, 0, 0));
+        assertThat(series.getViews()).containsExactly(20, 5);
+        assertThat(series.getLikes()).containsExactly(2, 0);
+        assertThat(series.getUnlikes()).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("getWorkStatsSeries - 시간 단위는 보관 기간 이전만 원본에서 집계")
+    void getWorkStatsSeries_HourSplitsAtWatermark() {
+        // Given: 시간 버킷은 3/1 0시 이후만 존재
+        LocalDateTime watermark = LocalDateTime.of(2024, 3, 1, 0, 0);
+        given(activityRollupJdbcRepository.findRawHourlySeries(workId, LocalDateTime.of(2024, 2, 29, 0, 0), watermark))
+                .willReturn(List.of(new ActivityBucket(LocalDateTime.of(2024, 2, 29, 23, 0), 0, 0, 4)));
+        given(activityRollupJdbcRepository.findHourlySeries(workId, watermark, LocalDateTime.of(2024, 3, 2, 0, 0)))
+                .willReturn(List.of(new ActivityBucket(LocalDateTime.of(2024, 3, 1, 1, 0), 1, 0, 7)));
+
+        // When
+        WorkStatsSeriesDTO series = workStatsService.getWorkStatsSeries(
+                workId, "hour", LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1));
+
+        // Then
+        assertThat(series.getViews()).hasSize(48);
+        assertThat(series.getViews()[23]).isEqualTo(4);
+        assertThat(series.getViews()[25]).isEqualTo(7);
+        assertThat(series.getLikes()[25]).isEqualTo(1);
+        verify(activityRollupJdbcRepository, never()).findDailySeries(anyLong(), any(LocalDate.class), any(LocalDate.class));
     }
 
+    @Test
+    @DisplayName("getWorkStatsSeries - 지원하지 않는 granularity 는 예외 발생")
+    void getWorkStatsSeries_InvalidGranularity() {
+        CustomException exception = assertThrows(CustomException.class, () ->
+                workStatsService.getWorkStatsSeries(workId, "minute", startDate, endDate));
+
+        assertThat(exception.getMessage()).contains("minute");
+    }
+
+    @Test
+    @DisplayName("getWorkStatsSeries - 구간 수가 상한을 넘으면 예외 발생")
+    void getWorkStatsSeries_TooManyBuckets() {
+        // 60일 * 24시간 = 1440 구간
+        assertThrows(CustomException.class, () ->
+                workStatsService.getWorkStatsSeries(workId, "hour", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29)));
+
+        verify(activityRollupJdbcRepository, never()).findHourlySeries(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+    @Test
+    @DisplayName("resolveBatchRange - 시작일 / 종료일을 모두 지정하면 종료일을 포함한 날짜 범위")
+    void resolveBatchRange_UsesDateRange() {
+        WorkStatsBatchRequest request = new WorkStatsBatchRequest(List.of(1L), "yearly", startDate, endDate);
+
+        LocalDateTime[] range = workStatsService.resolveBatchRange(request);
 
+        assertThat(range[0]).isEqualTo(startDate.atStartOfDay());
+        assertThat(range[1]).isEqualTo(endDate.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("resolveBatchRange - 작품 ID 목록이 비었거나 최대 개수를 넘으면 예외 발생")
+    void resolveBatchRange_RejectsInvalidIds() {
+        List<Long> tooMany = LongStream.rangeClosed(1, WorkStatsService.MAX_BATCH_WORKS + 1).boxed().toList();
+
+        assertThrows(CustomException.class, () ->
+                workStatsService.resolveBatchRange(new WorkStatsBatchRequest(List.of(), "daily", null, null)));
+        assertThrows(CustomException.class, () ->
+                workStatsService.resolveBatchRange(new WorkStatsBatchRequest(tooMany, "daily", null, null)));
+        CustomException exception = assertThrows(CustomException.class, () ->
+                workStatsService.resolveBatchRange(new WorkStatsBatchRequest(List.of(1L), null, endDate, startDate)));
+        assertThat(exception.getError()).isEqualTo("Invalid to date");
+    }
+
+    @Test
+    @DisplayName("streamWorkStats - 존재 확인 1회, 구간별 일괄 집계 후 요청 순서대로 반환")
+    void streamWorkStats_ChecksExistenceOnceAndKeepsOrder() {
+        // Given: 3/5 10:00 ~ 3/5 12:30 → 시간 버킷 + 원본 경계
+        LocalDateTime[] range = {LocalDateTime.of(2024, 3, 5, 10, 0), LocalDateTime.of(2024, 3, 5, 12, 30)};
+        given(workRepository.findExistingIds(List.of(3L, 1L, 2L))).willReturn(List.of(1L, 3L));
+        given(activityRollupJdbcRepository.sumHourlyByWork(Set.of(1L, 3L), range[0], LocalDateTime.of(2024, 3, 5, 12, 0)))
+                .willReturn(Map.of(1L, new ActivityCounts(4, 1, 30)));
+        given(activityRollupJdbcRepository.sumRawByWork(Set.of(1L, 3L), LocalDateTime.of(2024, 3, 5, 12, 0), range[1]))
+                .willReturn(Map.of(1L, new ActivityCounts(1, 0, 5), 3L, new ActivityCounts(0, 0, 2)));
+
+        // When
+        List<WorkStatsBatchItem> items = new ArrayList<>();
+        workStatsService.streamWorkStats(List.of(3L, 1L, 2L, 1L), range, items::add); // ✅ 중복 ID 포함
+
+        // Then
+        assertThat(items).extracting(WorkStatsBatchItem::getWorkId).containsExactly(3L, 1L, 2L);
+        assertThat(items.get(0).getViews()).isEqualTo(2);
+        assertThat(items.get(1).getLikes()).isEqualTo(4); // 5 - 1
+        assertThat(items.get(1).getViews()).isEqualTo(35);
+        assertThat(items.get(2).getError()).isEqualTo("Resource not found");
+        verify(workRepository, times(1)).findExistingIds(anyList());
+        verify(activityRollupJdbcRepository, times(1)).findWatermarks();
+    }
+
+    @Test
+    @DisplayName("streamWorkStats - 작품 수가 많으면 묶음 단위로 나눠 조회")
+    void streamWorkStats_ProcessesInChunks() {
+        // Given
+        List<Long> workIds = LongStream.rangeClosed(1, WorkStatsService.BATCH_CHUNK_SIZE + 1).boxed().toList();
+        given(workRepository.findExistingIds(anyList())).willReturn(List.of());
+        LocalDateTime[] range = {LocalDateTime.of(2024, 3, 5, 0, 0), LocalDateTime.of(2024, 3, 6, 0, 0)};
+
+        // When
+        List<WorkStatsBatchItem> items = new ArrayList<>();
+        workStatsService.streamWorkStats(workIds, range, items::add);
+
+        // Then
+        assertThat(items).hasSize(WorkStatsService.BATCH_CHUNK_SIZE + 1);
+        verify(workRepository, times(2)).findExistingIds(anyList());
+        verify(activityRollupJdbcRepository, never()).sumDailyByWork(anyCollection(), any(LocalDate.class), any(LocalDate.class)); // ✅ 존재하는 작품 없음
+    }
 }